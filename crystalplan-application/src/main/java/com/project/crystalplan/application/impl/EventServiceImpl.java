@@ -2,8 +2,19 @@ package com.project.crystalplan.application.impl;
 
 import com.project.crystalplan.domain.enums.Recurrence;
 import com.project.crystalplan.domain.exceptions.EntityNotFoundException;
+import com.project.crystalplan.domain.exceptions.InvalidArgumentException;
+import com.project.crystalplan.domain.exceptions.VersionConflictException;
+import com.project.crystalplan.domain.models.BirthdayEvents;
 import com.project.crystalplan.domain.models.Event;
+import com.project.crystalplan.domain.models.EventChanges;
+import com.project.crystalplan.domain.models.EventOccurrence;
+import com.project.crystalplan.domain.models.EventSummary;
+import com.project.crystalplan.domain.models.EventSyncCursor;
+import com.project.crystalplan.domain.models.User;
 import com.project.crystalplan.domain.repositories.EventRepository;
+import com.project.crystalplan.domain.repositories.EventVersionRepository;
+import com.project.crystalplan.domain.repositories.UserCache;
+import com.project.crystalplan.domain.repositories.UserRepository;
 import com.project.crystalplan.domain.services.EventService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -11,80 +22,405 @@ import org.springframework.stereotype.Service;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class EventServiceImpl implements EventService {
 
+    private static final long MAX_OCCURRENCE_WINDOW_DAYS = 366;
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int MAX_SYNC_PAGE_SIZE = 500;
+
+    private static final Comparator<EventOccurrence> OCCURRENCE_ORDER = Comparator
+            .comparing(EventOccurrence::getDate)
+            .thenComparing(o -> o.getEvent().getEventTime(), Comparator.nullsFirst(Comparator.<LocalTime>naturalOrder()));
+
     private final EventRepository eventRepository;
+    private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final EventVersionRepository eventVersionRepository;
 
     @Override
     public Event createEvent(Event event) {
+        prepareForCreation(event);
+
+        event.validate();
+        Event saved = eventRepository.save(event);
+        eventVersionRepository.increment(saved.getUserId());
+        return saved;
+    }
+
+    @Override
+    public List<Event> createEvents(List<Event> events) {
+        if (events == null || events.isEmpty()) {
+            return List.of();
+        }
+        if (events.size() > MAX_BATCH_SIZE) {
+            throw new InvalidArgumentException("O lote não pode ter mais de " + MAX_BATCH_SIZE + " eventos");
+        }
+
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            Event event = events.get(i);
+            prepareForCreation(event);
+            try {
+                event.validate();
+            } catch (InvalidArgumentException e) {
+                errors.add("evento " + i + ": " + e.getMessage());
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new InvalidArgumentException(String.join("; ", errors));
+        }
+
+        try {
+            return eventRepository.insertAll(events);
+        } finally {
+            // Mesmo numa falha parcial parte do lote pode ter sido gravada
+            events.stream().map(Event::getUserId).distinct().forEach(eventVersionRepository::increment);
+        }
+    }
+
+    private void prepareForCreation(Event event) {
         event.setUuid(UUID.randomUUID().toString());
         event.setCreatedAt(LocalDateTime.now());
         event.setUpdatedAt(LocalDateTime.now());
         event.setActive(true);
-
-        event.validate();
-        return eventRepository.save(event);
+        event.setVersion(0L);
     }
 
     @Override
     public Event updateEvent(String id, Event updatedEvent) {
-        if (!eventRepository.existsById(id)) {
+        updatedEvent.setId(id);
+        updatedEvent.setUpdatedAt(LocalDateTime.now());
+        updatedEvent.setActive(true);
+        BirthdayEvents.userIdOf(id).ifPresent(updatedEvent::setUserId);
+        updatedEvent.validate();
+
+        // Uma única operação condicional: só altera o evento ativo na versão que o cliente leu.
+        // Sem versão no corpo vale a última escrita, como antes
+        Optional<Event> updated = eventRepository.updateIfCurrent(updatedEvent, updatedEvent.getVersion());
+        if (updated.isPresent()) {
+            eventVersionRepository.increment(updated.get().getUserId());
+            return updated.get();
+        }
+
+        // Só quando a atualização falha uma leitura extra separa o 409 do 404
+        Optional<Event> stored = eventRepository.findById(id);
+        if (stored.isPresent()) {
+            if (stored.get().isActive()) {
+                throw new VersionConflictException("O evento foi alterado por outra requisição (versão atual: "
+                        + stored.get().getVersion() + ")");
+            }
             throw new EntityNotFoundException("Evento não encontrado");
         }
 
-        updatedEvent.setId(id);
-        updatedEvent.setUpdatedAt(LocalDateTime.now());
+        // Editar um aniversário derivado o materializa com o mesmo id
+        Event derived = deriveBirthday(id)
+                .orElseThrow(() -> new EntityNotFoundException("Evento não encontrado"));
+        updatedEvent.setUuid(derived.getUuid());
+        updatedEvent.setCreatedAt(LocalDateTime.now());
+        updatedEvent.setVersion(0L);
+        Event saved = eventRepository.save(updatedEvent);
+        eventVersionRepository.increment(saved.getUserId());
+        return saved;
+    }
 
-        updatedEvent.validate();
-        return eventRepository.save(updatedEvent);
+    @Override
+    public long getEventsVersion(String userId) {
+        return eventVersionRepository.findVersion(userId);
     }
 
     @Override
     public Optional<Event> getEventById(String id) {
-        return Optional.ofNullable(
-                eventRepository.findById(id)
-                        .orElseThrow(() -> new EntityNotFoundException("Evento não encontrado"))
-        );
+        Optional<Event> stored = eventRepository.findById(id);
+        if (stored.isPresent()) {
+            return Optional.of(stored.filter(Event::isActive)
+                    .orElseThrow(() -> new EntityNotFoundException("Evento não encontrado")));
+        }
+        return Optional.of(deriveBirthday(id)
+                .orElseThrow(() -> new EntityNotFoundException("Evento não encontrado")));
     }
 
     @Override
     public List<Event> getAllEventsByUser(String userId) {
-        return eventRepository.findByUserId(userId);
+        return withBirthdays(userId, eventRepository.findByUserId(userId),
+                user -> BirthdayEvents.upcoming(user, LocalDate.now(), BirthdayEvents.DEFAULT_HORIZON_YEARS));
+    }
+
+    @Override
+    public void streamEventsByUser(String userId, Consumer<Event> action) {
+        List<Event> derived = activeUser(userId)
+                .map(user -> BirthdayEvents.upcoming(user, LocalDate.now(), BirthdayEvents.DEFAULT_HORIZON_YEARS))
+                .orElse(List.of());
+
+        eventRepository.streamByUserId(userId, event -> {
+            if (event.isActive()) {
+                action.accept(event);
+            }
+        });
+
+        if (!derived.isEmpty()) {
+            notReplaced(userId, derived).forEach(action);
+        }
+    }
+
+    @Override
+    public EventChanges getEventChanges(String userId, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_SYNC_PAGE_SIZE) {
+            throw new InvalidArgumentException("O limite deve estar entre 1 e " + MAX_SYNC_PAGE_SIZE);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        EventSyncCursor after = EventSyncCursor.decode(cursor);
+        // Tombstones mais antigos que a validade do cursor já podem ter sido expurgados
+        boolean reset = after != null && after.isExpired(now);
+        if (reset) {
+            after = null;
+        }
+
+        List<Event> changed = eventRepository.findChangedSince(userId, after, limit + 1);
+        boolean hasMore = changed.size() > limit;
+        if (hasMore) {
+            changed = changed.subList(0, limit);
+        }
+
+        List<Event> events = new ArrayList<>();
+        List<String> deletedIds = new ArrayList<>();
+        for (Event event : changed) {
+            if (event.isActive()) {
+                events.add(event);
+            } else {
+                deletedIds.add(event.getId());
+            }
+        }
+        events.addAll(birthdaysChangedSince(userId, after, now));
+
+        // Sem nenhum evento gravado o cliente ainda recebe um cursor, para não refazer a carga inicial a cada consulta
+        EventSyncCursor next = changed.isEmpty()
+                ? (after == null ? EventSyncCursor.start(now) : after.reissuedAt(now))
+                : EventSyncCursor.after(changed.get(changed.size() - 1), now);
+        return new EventChanges(events, deletedIds, next.encode(), hasMore, reset);
+    }
+
+    private List<Event> birthdaysChangedSince(String userId, EventSyncCursor after, LocalDateTime now) {
+        Optional<User> user = activeUser(userId);
+        if (user.isEmpty()) {
+            return List.of();
+        }
+        // Aniversários derivados não têm documento: vão todos na carga inicial e quando o usuário muda
+        // depois do último cursor; fora isso, só os anos que entraram na janela desde então
+        List<Event> upcoming = BirthdayEvents.upcoming(user.get(), now.toLocalDate(), BirthdayEvents.DEFAULT_HORIZON_YEARS);
+        List<Event> derived = upcoming;
+        if (after != null && !changedSince(user.get(), after)) {
+            Set<String> sent = BirthdayEvents.upcoming(user.get(), after.getIssuedAt().toLocalDate(), BirthdayEvents.DEFAULT_HORIZON_YEARS)
+                    .stream()
+                    .map(Event::getId)
+                    .collect(Collectors.toSet());
+            derived = upcoming.stream()
+                    .filter(event -> !sent.contains(event.getId()))
+                    .collect(Collectors.toList());
+        }
+        if (derived.isEmpty()) {
+            return derived;
+        }
+        return notReplaced(userId, derived);
+    }
+
+    private static boolean changedSince(User user, EventSyncCursor after) {
+        return user.getUpdatedAt() != null && user.getUpdatedAt().isAfter(after.getIssuedAt());
     }
 
     @Override
     public List<Event> getSingleEventsByDate(String userId, LocalDate date) {
-        return eventRepository.findByUserIdAndRecurrenceAndEventDate(userId, Recurrence.SINGLE, date);
+        return withBirthdays(userId, eventRepository.findByUserIdAndRecurrenceAndEventDate(userId, Recurrence.SINGLE, date),
+                user -> BirthdayEvents.between(user, date, date));
     }
 
     @Override
     public List<Event> getWeeklyEventsByDayOfWeek(String userId, DayOfWeek dayOfWeek) {
-        return eventRepository.findByUserIdAndRecurrenceAndDaysOfWeekContaining(userId, Recurrence.WEEKLY, dayOfWeek);
+        return activeOnly(eventRepository.findByUserIdAndRecurrenceAndDaysOfWeekContaining(userId, Recurrence.WEEKLY, dayOfWeek));
     }
 
     @Override
     public List<Event> getAllWeeklyEventsByUser(String userId) {
-        return eventRepository.findByUserIdAndRecurrence(userId, Recurrence.WEEKLY);
+        return activeOnly(eventRepository.findByUserIdAndRecurrence(userId, Recurrence.WEEKLY));
     }
 
     @Override
     public List<Event> getAllSingleEventsByMonth(String userId, int year, int month) {
         LocalDate start = LocalDate.of(year, month, 1);
         LocalDate end = start.withDayOfMonth(start.lengthOfMonth());
-        return eventRepository.findByUserIdAndRecurrenceAndEventDateBetween(userId, Recurrence.SINGLE, start, end);
+        return withBirthdays(userId, eventRepository.findByUserIdAndRecurrenceAndEventDateBetween(userId, Recurrence.SINGLE, start, end),
+                user -> BirthdayEvents.between(user, start, end));
+    }
+
+    @Override
+    public List<EventSummary> getAllEventSummariesByUser(String userId) {
+        return summariesWithBirthdays(userId, eventRepository.findSummariesByUserId(userId),
+                user -> BirthdayEvents.upcoming(user, LocalDate.now(), BirthdayEvents.DEFAULT_HORIZON_YEARS));
+    }
+
+    @Override
+    public List<EventSummary> getSingleEventSummariesByDate(String userId, LocalDate date) {
+        return summariesWithBirthdays(userId, eventRepository.findSummariesByUserIdAndRecurrenceAndEventDate(userId, Recurrence.SINGLE, date),
+                user -> BirthdayEvents.between(user, date, date));
+    }
+
+    @Override
+    public List<EventSummary> getWeeklyEventSummariesByDayOfWeek(String userId, DayOfWeek dayOfWeek) {
+        return eventRepository.findSummariesByUserIdAndRecurrenceAndDaysOfWeekContaining(userId, Recurrence.WEEKLY, dayOfWeek);
+    }
+
+    @Override
+    public List<EventSummary> getAllWeeklyEventSummariesByUser(String userId) {
+        return eventRepository.findSummariesByUserIdAndRecurrence(userId, Recurrence.WEEKLY);
+    }
+
+    @Override
+    public List<EventSummary> getAllSingleEventSummariesByMonth(String userId, int year, int month) {
+        LocalDate start = LocalDate.of(year, month, 1);
+        LocalDate end = start.withDayOfMonth(start.lengthOfMonth());
+        return summariesWithBirthdays(userId, eventRepository.findSummariesByUserIdAndRecurrenceAndEventDateBetween(userId, Recurrence.SINGLE, start, end),
+                user -> BirthdayEvents.between(user, start, end));
+    }
+
+    @Override
+    public List<EventOccurrence> getOccurrencesBetween(String userId, LocalDate startDate, LocalDate endDate) {
+        validateOccurrenceWindow(startDate, endDate);
+
+        List<Event> candidates = withBirthdays(userId, eventRepository.findOccurrenceCandidates(userId, startDate, endDate),
+                user -> BirthdayEvents.between(user, startDate, endDate));
+        return expandOccurrences(candidates, startDate, endDate);
+    }
+
+    @Override
+    public SortedMap<LocalDate, List<Event>> getMonthCalendar(String userId, int year, int month) {
+        if (month < 1 || month > 12) {
+            throw new InvalidArgumentException("Mês inválido: " + month);
+        }
+        LocalDate start = LocalDate.of(year, month, 1);
+        LocalDate end = start.withDayOfMonth(start.lengthOfMonth());
+
+        // Uma única consulta traz os eventos únicos do mês e todos os semanais; a expansão é feita aqui
+        List<EventOccurrence> occurrences = getOccurrencesBetween(userId, start, end);
+        return occurrences.stream()
+                .collect(Collectors.groupingBy(EventOccurrence::getDate, TreeMap::new,
+                        Collectors.mapping(EventOccurrence::getEvent, Collectors.toList())));
+    }
+
+    static void validateOccurrenceWindow(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new InvalidArgumentException("Intervalo de datas inválido: a data final deve ser igual ou posterior à inicial");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_OCCURRENCE_WINDOW_DAYS) {
+            throw new InvalidArgumentException("O intervalo de datas não pode ultrapassar " + MAX_OCCURRENCE_WINDOW_DAYS + " dias");
+        }
+    }
+
+    static List<EventOccurrence> expandOccurrences(List<Event> candidates, LocalDate startDate, LocalDate endDate) {
+        List<EventOccurrence> occurrences = new ArrayList<>();
+        for (Event event : candidates) {
+            for (LocalDate date : event.occurrencesBetween(startDate, endDate)) {
+                occurrences.add(new EventOccurrence(date, event));
+            }
+        }
+        occurrences.sort(OCCURRENCE_ORDER);
+        return occurrences;
     }
 
     @Override
     public void deleteEvent(String id) {
-        if (!eventRepository.existsById(id)) {
-            throw new EntityNotFoundException("Evento não encontrado");
+        // Exclusão lógica em uma única operação condicional: o registro inativo é o que a sincronização
+        // entrega como exclusão
+        Optional<Event> deleted = eventRepository.deactivate(id, LocalDateTime.now());
+        if (deleted.isEmpty() && BirthdayEvents.isDerivedId(id) && !eventRepository.existsById(id)) {
+            // Aniversário ainda não materializado: sem o registro inativo ele voltaria a ser derivado
+            deleted = deriveBirthday(id).map(this::saveTombstone);
         }
-        eventRepository.deleteById(id);
+        Event tombstone = deleted.orElseThrow(() -> new EntityNotFoundException("Evento não encontrado"));
+        eventVersionRepository.increment(tombstone.getUserId());
+    }
+
+    private Event saveTombstone(Event event) {
+        event.setActive(false);
+        event.setUpdatedAt(LocalDateTime.now());
+        return eventRepository.save(event);
+    }
+
+    private Optional<Event> deriveBirthday(String id) {
+        Optional<Integer> year = BirthdayEvents.yearOf(id);
+        return BirthdayEvents.userIdOf(id)
+                .filter(userId -> year.isPresent())
+                .flatMap(this::activeUser)
+                .flatMap(user -> BirthdayEvents.forYear(user, year.get()));
+    }
+
+    private Optional<User> activeUser(String userId) {
+        // Mesmo cache da autenticação: listar eventos não relê o usuário do banco a cada requisição
+        Optional<User> cached = userCache.get(userId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        Optional<User> user = userRepository.findByIdAndActiveTrue(userId);
+        user.ifPresent(userCache::put);
+        return user;
+    }
+
+    private List<Event> activeOnly(List<Event> stored) {
+        return stored.stream()
+                .filter(Event::isActive)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private List<Event> withBirthdays(String userId, List<Event> stored, Function<User, List<Event>> derivation) {
+        List<Event> events = activeOnly(stored);
+
+        List<Event> derived = activeUser(userId)
+                .map(derivation)
+                .orElse(List.of());
+        if (derived.isEmpty()) {
+            return events;
+        }
+        events.addAll(notReplaced(userId, derived));
+        return events;
+    }
+
+    private List<EventSummary> summariesWithBirthdays(String userId, List<EventSummary> stored, Function<User, List<Event>> derivation) {
+        // As projeções já vêm só com eventos ativos
+        List<EventSummary> summaries = new ArrayList<>(stored);
+
+        List<Event> derived = activeUser(userId)
+                .map(derivation)
+                .orElse(List.of());
+        if (derived.isEmpty()) {
+            return summaries;
+        }
+        notReplaced(userId, derived).stream()
+                .map(EventSummary::of)
+                .forEach(summaries::add);
+        return summaries;
+    }
+
+    private List<Event> notReplaced(String userId, List<Event> derived) {
+        // Aniversários gravados substituem a versão derivada mesmo quando excluídos: os materializados
+        // (editados ou excluídos) pelo id e os legados, os 20 documentos que usuários antigos ainda têm, pela data
+        LocalDate first = derived.stream().map(Event::getEventDate).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDate last = derived.stream().map(Event::getEventDate).max(Comparator.naturalOrder()).orElseThrow();
+        List<Event> stored = eventRepository.findStoredBirthdays(userId,
+                derived.stream().map(Event::getId).collect(Collectors.toList()), first, last);
+        return BirthdayEvents.withoutStored(derived, stored);
     }
 }
@@ -4,21 +4,34 @@ package com.project.crystalplan.application.impl;
 
 import com.project.crystalplan.domain.services.NotificationService;
 import com.project.crystalplan.domain.exceptions.EntityNotFoundException;
+import com.project.crystalplan.domain.exceptions.InvalidArgumentException;
+import com.project.crystalplan.domain.models.CursorPage;
 import com.project.crystalplan.domain.models.NotificationLog;
+import com.project.crystalplan.domain.models.NotificationLogCursor;
 import com.project.crystalplan.domain.models.NotificationSettings;
+import com.project.crystalplan.domain.models.NotificationSettingsPatch;
+import com.project.crystalplan.domain.models.NotificationStats;
 import com.project.crystalplan.domain.repositories.NotificationLogRepository;
 import com.project.crystalplan.domain.repositories.NotificationSettingsRepository;
+import com.project.crystalplan.domain.repositories.NotificationStatsRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 
 @Service
 @RequiredArgsConstructor
 public class NotificationServiceImpl implements NotificationService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int DEFAULT_STATS_DAYS = 30;
+    private static final int MAX_STATS_DAYS = 366;
+
     private final NotificationSettingsRepository settingsRepository;
     private final NotificationLogRepository logRepository;
+    private final NotificationStatsRepository statsRepository;
 
     // =========================
     // Settings
@@ -32,9 +45,25 @@ public class NotificationServiceImpl implements NotificationService {
 
     @Override
     public NotificationSettings updateUserSettings(NotificationSettings settings) {
+        requireUserId(settings.getUserId());
         return settingsRepository.save(settings);
     }
 
+    @Override
+    public NotificationSettings patchUserSettings(String userId, NotificationSettingsPatch patch) {
+        requireUserId(userId);
+        if (patch == null || patch.isEmpty()) {
+            throw new InvalidArgumentException("Informe ao menos um campo para atualizar");
+        }
+        return settingsRepository.patch(userId, patch);
+    }
+
+    private void requireUserId(String userId) {
+        if (userId == null || userId.isBlank()) {
+            throw new InvalidArgumentException("O ID do usuário é obrigatório");
+        }
+    }
+
     // =========================
     // Logs
     // =========================
@@ -45,8 +74,8 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     @Override
-    public List<NotificationLog> getNotificationLogsByUserId(String userId) {
-        return logRepository.findByUserId(userId);
+    public CursorPage<NotificationLog> getNotificationLogsByUserId(String userId, String cursor, int limit) {
+        return logRepository.findByUserId(userId, NotificationLogCursor.decode(cursor), validPageSize(limit));
     }
 
     @Override
@@ -56,7 +85,32 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     @Override
-    public List<NotificationLog> getLogsByEventId(String eventId) {
-        return logRepository.findByEventId(eventId);
+    public CursorPage<NotificationLog> getLogsByEventId(String eventId, String cursor, int limit) {
+        return logRepository.findByEventId(eventId, NotificationLogCursor.decode(cursor), validPageSize(limit));
+    }
+
+    // =========================
+    // Estatísticas
+    // =========================
+
+    @Override
+    public NotificationStats getDeliveryStats(String userId, LocalDate from, LocalDate to) {
+        // Os contadores são diários em UTC
+        LocalDate end = to != null ? to : LocalDate.now(ZoneOffset.UTC);
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_STATS_DAYS - 1);
+        if (start.isAfter(end)) {
+            throw new InvalidArgumentException("A data inicial deve ser anterior ou igual à data final");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_STATS_DAYS) {
+            throw new InvalidArgumentException("O intervalo das estatísticas deve ter no máximo " + MAX_STATS_DAYS + " dias");
+        }
+        return statsRepository.findStats(userId, start, end);
+    }
+
+    private int validPageSize(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidArgumentException("O limite deve estar entre 1 e " + MAX_PAGE_SIZE);
+        }
+        return limit;
     }
 }
\ No newline at end of file
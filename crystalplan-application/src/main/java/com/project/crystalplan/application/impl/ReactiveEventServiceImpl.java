@@ -0,0 +1,134 @@
+package com.project.crystalplan.application.impl;
+
+import com.project.crystalplan.domain.enums.Recurrence;
+import com.project.crystalplan.domain.exceptions.EntityNotFoundException;
+import com.project.crystalplan.domain.models.BirthdayEvents;
+import com.project.crystalplan.domain.models.Event;
+import com.project.crystalplan.domain.models.EventOccurrence;
+import com.project.crystalplan.domain.models.User;
+import com.project.crystalplan.domain.repositories.ReactiveEventRepository;
+import com.project.crystalplan.domain.services.ReactiveEventService;
+import com.project.crystalplan.domain.services.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Versão não bloqueante das leituras de {@link EventServiceImpl}, com as mesmas regras de aniversários
+ * derivados. Os eventos chegam pelo driver reativo; só a consulta do usuário, que ainda usa o
+ * repositório bloqueante (e normalmente vem do cache), roda em {@code boundedElastic}.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "crystalplan.reactive.enabled", havingValue = "true")
+public class ReactiveEventServiceImpl implements ReactiveEventService {
+
+    private final ReactiveEventRepository eventRepository;
+    private final UserService userService;
+
+    @Override
+    public Mono<Event> getEventById(String id) {
+        return eventRepository.findById(id)
+                .flatMap(stored -> stored.isActive() ? Mono.just(stored) : Mono.<Event>error(notFound()))
+                .switchIfEmpty(Mono.defer(() -> deriveBirthday(id)))
+                .switchIfEmpty(Mono.error(this::notFound));
+    }
+
+    @Override
+    public Flux<Event> getAllEventsByUser(String userId) {
+        return withBirthdays(userId, eventRepository.findByUserId(userId),
+                user -> BirthdayEvents.upcoming(user, LocalDate.now(), BirthdayEvents.DEFAULT_HORIZON_YEARS));
+    }
+
+    @Override
+    public Flux<Event> getSingleEventsByDate(String userId, LocalDate date) {
+        return withBirthdays(userId, eventRepository.findByUserIdAndRecurrenceAndEventDate(userId, Recurrence.SINGLE, date),
+                user -> BirthdayEvents.between(user, date, date));
+    }
+
+    @Override
+    public Flux<Event> getWeeklyEventsByDayOfWeek(String userId, DayOfWeek dayOfWeek) {
+        return eventRepository.findByUserIdAndRecurrenceAndDaysOfWeekContaining(userId, Recurrence.WEEKLY, dayOfWeek)
+                .filter(Event::isActive);
+    }
+
+    @Override
+    public Flux<Event> getAllWeeklyEventsByUser(String userId) {
+        return eventRepository.findByUserIdAndRecurrence(userId, Recurrence.WEEKLY)
+                .filter(Event::isActive);
+    }
+
+    @Override
+    public Flux<Event> getAllSingleEventsByMonth(String userId, int year, int month) {
+        return Flux.defer(() -> {
+            LocalDate start = LocalDate.of(year, month, 1);
+            LocalDate end = start.withDayOfMonth(start.lengthOfMonth());
+            return withBirthdays(userId, eventRepository.findByUserIdAndRecurrenceAndEventDateBetween(userId, Recurrence.SINGLE, start, end),
+                    user -> BirthdayEvents.between(user, start, end));
+        });
+    }
+
+    @Override
+    public Flux<EventOccurrence> getOccurrencesBetween(String userId, LocalDate startDate, LocalDate endDate) {
+        return Flux.defer(() -> {
+            EventServiceImpl.validateOccurrenceWindow(startDate, endDate);
+            return withBirthdays(userId, eventRepository.findOccurrenceCandidates(userId, startDate, endDate),
+                    user -> BirthdayEvents.between(user, startDate, endDate))
+                    .collectList()
+                    .flatMapIterable(candidates -> EventServiceImpl.expandOccurrences(candidates, startDate, endDate));
+        });
+    }
+
+    private Mono<Event> deriveBirthday(String id) {
+        Optional<String> userId = BirthdayEvents.userIdOf(id);
+        Optional<Integer> year = BirthdayEvents.yearOf(id);
+        if (userId.isEmpty() || year.isEmpty()) {
+            return Mono.empty();
+        }
+        return activeUser(userId.get())
+                .flatMap(user -> Mono.justOrEmpty(BirthdayEvents.forYear(user, year.get())));
+    }
+
+    private Mono<User> activeUser(String userId) {
+        return Mono.fromCallable(() -> userService.getUserById(userId).orElse(null))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Flux<Event> withBirthdays(String userId, Flux<Event> stored, Function<User, List<Event>> derivation) {
+        return Flux.defer(() -> {
+            // Os eventos gravados seguem adiante conforme chegam
+            Flux<Event> active = stored.filter(Event::isActive);
+
+            Flux<Event> derived = activeUser(userId)
+                    .map(derivation)
+                    .filter(events -> !events.isEmpty())
+                    .flatMapMany(events -> notReplaced(userId, events));
+
+            return active.concatWith(derived);
+        });
+    }
+
+    private Flux<Event> notReplaced(String userId, List<Event> derived) {
+        // Aniversários gravados substituem o derivado mesmo excluídos: os materializados pelo id, os legados pela data
+        LocalDate first = derived.stream().map(Event::getEventDate).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDate last = derived.stream().map(Event::getEventDate).max(Comparator.naturalOrder()).orElseThrow();
+        return eventRepository.findStoredBirthdays(userId, derived.stream().map(Event::getId).collect(Collectors.toList()), first, last)
+                .collectList()
+                .flatMapIterable(stored -> BirthdayEvents.withoutStored(derived, stored));
+    }
+
+    private EntityNotFoundException notFound() {
+        return new EntityNotFoundException("Evento não encontrado");
+    }
+}
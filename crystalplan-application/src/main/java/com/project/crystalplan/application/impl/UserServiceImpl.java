@@ -1,23 +1,17 @@
 package com.project.crystalplan.application.impl;
 
-import com.project.crystalplan.domain.enums.NotificationType;
-import com.project.crystalplan.domain.enums.Recurrence;
 import com.project.crystalplan.domain.exceptions.EntityNotFoundException;
 import com.project.crystalplan.domain.exceptions.InvalidArgumentException;
 import com.project.crystalplan.domain.exceptions.InvalidCredentialsException; // Importe esta exceção!
-import com.project.crystalplan.domain.models.Event;
 import com.project.crystalplan.domain.models.User;
+import com.project.crystalplan.domain.repositories.EventVersionRepository;
+import com.project.crystalplan.domain.repositories.UserCache;
 import com.project.crystalplan.domain.repositories.UserRepository;
-import com.project.crystalplan.domain.services.EventService;
 import com.project.crystalplan.domain.services.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.regex.Pattern;
@@ -27,7 +21,8 @@ import java.util.regex.Pattern;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-    private final EventService eventService;
+    private final UserCache userCache;
+    private final EventVersionRepository eventVersionRepository;
 
     private static final Pattern EMAIL_REGEX =
             Pattern.compile("^[\\w-\\.]+@([\\w-]+\\.)+[\\w-]{2,4}$");
@@ -48,11 +43,7 @@ public class UserServiceImpl implements UserService {
         user.setUpdatedAt(LocalDateTime.now());
         user.setActive(true);
 
-        User createdUser = userRepository.save(user);
-
-        generateBirthdayEvents(createdUser);
-
-        return createdUser;
+        return userRepository.save(user);
     }
 
     private void validateUser(User user) {
@@ -71,51 +62,15 @@ public class UserServiceImpl implements UserService {
         }
     }
 
-    private void generateBirthdayEvents(User user) {
-        LocalDate birthday = user.getBirthday();
-        int currentYear = LocalDate.now().getYear();
-
-        List<Event> events = new ArrayList<>();
-
-        for (int i = 0; i < 20; i++) {
-            int targetYear = currentYear + i;
-
-            LocalDate eventDate = birthday.withYear(targetYear);
-            if (i == 0 && eventDate.isBefore(LocalDate.now())) {
-                eventDate = eventDate.plusYears(1);
-                targetYear++;
-            }
-
-            int age = targetYear - birthday.getYear();
-
-            String description = String.format(
-                    "Feliz Aniversário, %s!!! É um dia muito importante, espero que aproveite seu dia! Parabéns pelo seu aniversário de %d anos.",
-                    user.getName(), age
-            );
-
-            Event event = new Event(
-                    null,
-                    "Seu aniversário!!",
-                    description,
-                    Recurrence.SINGLE,
-                    eventDate,
-                    null,
-                    LocalTime.of(10, 0),
-                    null,
-                    true,
-                    NotificationType.EMAIL,
-                    user.getId()
-            );
-
-            events.add(event);
-        }
-
-        events.forEach(eventService::createEvent);
-    }
-
     @Override
     public Optional<User> getUserById(String id) {
-        return userRepository.findByIdAndActiveTrue(id);
+        Optional<User> cached = userCache.get(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        Optional<User> user = userRepository.findByIdAndActiveTrue(id);
+        user.ifPresent(userCache::put);
+        return user;
     }
 
     @Override
@@ -137,7 +92,11 @@ public class UserServiceImpl implements UserService {
 
         existing.setUpdatedAt(LocalDateTime.now());
 
-        return userRepository.save(existing);
+        User saved = userRepository.save(existing);
+        userCache.evict(id);
+        // Nome e data de nascimento alimentam os aniversários derivados nas listagens de eventos
+        eventVersionRepository.increment(id);
+        return saved;
     }
 
     @Override
@@ -148,6 +107,8 @@ public class UserServiceImpl implements UserService {
         userToDelete.setActive(false);
         userToDelete.setUpdatedAt(LocalDateTime.now());
         userRepository.save(userToDelete);
+        userCache.evict(id);
+        eventVersionRepository.increment(id);
     }
 
     @Override
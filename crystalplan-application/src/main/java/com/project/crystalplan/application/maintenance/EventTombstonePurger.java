@@ -0,0 +1,49 @@
+package com.project.crystalplan.application.maintenance;
+
+import com.project.crystalplan.domain.models.EventSyncCursor;
+import com.project.crystalplan.domain.repositories.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Remove em lotes os eventos excluídos há mais tempo que a validade do cursor de sincronização.
+ * Clientes com cursor mais antigo que isso recebem {@code reset} e sincronizam do zero, então não
+ * dependem mais desses tombstones.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "crystalplan.events.purge.enabled", havingValue = "true")
+public class EventTombstonePurger {
+
+    private final EventRepository eventRepository;
+    private final int batchSize;
+
+    public EventTombstonePurger(EventRepository eventRepository,
+                                @Value("${crystalplan.events.purge.batch-size:1000}") int batchSize) {
+        this.eventRepository = eventRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${crystalplan.events.purge.cron:0 30 3 * * *}")
+    public void run() {
+        purge(LocalDateTime.now());
+    }
+
+    public int purge(LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(EventSyncCursor.MAX_AGE);
+        int total = 0;
+        int purged;
+        do {
+            purged = eventRepository.purgeInactiveBefore(cutoff, batchSize);
+            total += purged;
+        } while (purged == batchSize);
+
+        log.info("Expurgo de eventos excluídos antes de {}: {} removidos", cutoff, total);
+        return total;
+    }
+}
@@ -0,0 +1,11 @@
+package com.project.crystalplan.application.maintenance;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "notification.logs.archive.enabled", havingValue = "true")
+public class NotificationLogArchiveSchedulingConfig {
+}
@@ -0,0 +1,42 @@
+package com.project.crystalplan.application.maintenance;
+
+import com.project.crystalplan.domain.repositories.NotificationLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Move para o arquivo os logs de notificação mais antigos que {@code archive.after}, mantendo a
+ * coleção consultada pela API pequena. Deve rodar com folga antes da retenção apagar esses logs.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.logs.archive.enabled", havingValue = "true")
+public class NotificationLogArchiver {
+
+    private final NotificationLogRepository logRepository;
+    private final Duration archiveAfter;
+
+    public NotificationLogArchiver(NotificationLogRepository logRepository,
+                                   @Value("${notification.logs.archive.after:30d}") Duration archiveAfter) {
+        this.logRepository = logRepository;
+        this.archiveAfter = archiveAfter;
+    }
+
+    @Scheduled(cron = "${notification.logs.archive.cron:0 0 4 * * *}")
+    public void run() {
+        archive(Instant.now());
+    }
+
+    public long archive(Instant now) {
+        Instant cutoff = now.minus(archiveAfter);
+        long archived = logRepository.archiveSentBefore(cutoff);
+        log.info("Arquivamento de logs de notificação enviados antes de {}: {} movidos", cutoff, archived);
+        return archived;
+    }
+}
@@ -0,0 +1,42 @@
+package com.project.crystalplan.application.notification;
+
+import com.project.crystalplan.domain.models.NotificationSettings;
+import com.project.crystalplan.domain.repositories.NotificationSettingsRepository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Preferências de notificação dos usuários com lembretes na fila, carregadas em lote junto com cada
+ * janela e de novo no disparo. Usuários sem configuração gravada recebem os valores padrão.
+ * <p>
+ * Não guarda nada: o cache fica no repositório, que é limitado e atualizado a cada gravação, então
+ * um lembrete adiado pelo horário de silêncio enxerga a configuração vigente no disparo.
+ */
+class NotificationSettingsLookup {
+
+    private final NotificationSettingsRepository repository;
+
+    NotificationSettingsLookup(NotificationSettingsRepository repository) {
+        this.repository = repository;
+    }
+
+    Map<String, NotificationSettings> get(Collection<String> userIds) {
+        Map<String, NotificationSettings> loaded = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return loaded;
+        }
+        for (NotificationSettings settings : repository.findByUserIdIn(userIds)) {
+            loaded.putIfAbsent(settings.getUserId(), settings);
+        }
+        for (String userId : userIds) {
+            loaded.computeIfAbsent(userId, id -> {
+                NotificationSettings defaults = new NotificationSettings();
+                defaults.setUserId(id);
+                return defaults;
+            });
+        }
+        return loaded;
+    }
+}
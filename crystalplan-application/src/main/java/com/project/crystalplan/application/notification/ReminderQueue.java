@@ -0,0 +1,58 @@
+package com.project.crystalplan.application.notification;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fila em memória dos lembretes carregados, ordenada pelo instante de disparo.
+ * O mesmo lembrete (evento + instante) só entra uma vez, mesmo quando a janela é relida.
+ */
+public class ReminderQueue {
+
+    private final PriorityQueue<ReminderTask> heap = new PriorityQueue<>(Comparator.comparing(ReminderTask::fireAt));
+    private final Set<String> keys = new HashSet<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public boolean offer(ReminderTask task) {
+        lock.lock();
+        try {
+            if (!keys.add(task.key())) {
+                return false;
+            }
+            heap.add(task);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<ReminderTask> pollDue(Instant now, int max) {
+        List<ReminderTask> due = new ArrayList<>();
+        lock.lock();
+        try {
+            while (due.size() < max && !heap.isEmpty() && !heap.peek().fireAt().isAfter(now)) {
+                ReminderTask task = heap.poll();
+                keys.remove(task.key());
+                due.add(task);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return due;
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return heap.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.project.crystalplan.application.notification;
+
+import com.project.crystalplan.domain.enums.NotificationStatus;
+import com.project.crystalplan.domain.enums.NotificationType;
+import com.project.crystalplan.domain.exceptions.NotificationChannelUnavailableException;
+import com.project.crystalplan.domain.models.BirthdayEvents;
+import com.project.crystalplan.domain.models.Event;
+import com.project.crystalplan.domain.models.NotificationLog;
+import com.project.crystalplan.domain.models.NotificationSettings;
+import com.project.crystalplan.domain.models.User;
+import com.project.crystalplan.domain.repositories.EventRepository;
+import com.project.crystalplan.domain.repositories.NotificationLogRepository;
+import com.project.crystalplan.domain.repositories.NotificationSettingsRepository;
+import com.project.crystalplan.domain.repositories.UserRepository;
+import com.project.crystalplan.domain.services.NotificationSender;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Dispara os lembretes dos eventos com {@code notify} ativo.
+ * <p>
+ * Os lembretes são carregados do banco em janelas de tempo à frente do relógio e mantidos em uma
+ * {@link ReminderQueue}. Eventos alterados depois da carga são relidos periodicamente. No disparo, os
+ * eventos do lote são buscados de novo por id para descartar lembretes que deixaram de valer.
+ * <p>
+ * Aniversários derivados do cadastro do usuário não estão gravados: entram na janela a partir dos
+ * usuários que fazem aniversário nela e, no disparo, são derivados de novo.
+ * <p>
+ * Lembretes que caem no horário de silêncio do usuário são adiados para o fim desse horário e
+ * entregues juntos, em um único resumo por usuário e canal.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.scheduler.enabled", havingValue = "true")
+public class ReminderScheduler {
+
+    private static final int DEFAULT_MINUTES_BEFORE = new NotificationSettings().getDefaultReminderMinutesBefore();
+
+    private final EventRepository eventRepository;
+    private final UserRepository userRepository;
+    private final NotificationSettingsLookup settingsLookup;
+    private final NotificationLogRepository logRepository;
+    private final Map<NotificationType, NotificationSender> senders = new EnumMap<>(NotificationType.class);
+    private final ReminderQueue queue = new ReminderQueue();
+
+    private final ZoneId zone;
+    private final Duration window;
+    private final Duration lookahead;
+    private final Duration rescanInterval;
+    private final int batchSize;
+
+    private Instant loadedUntil;
+    private Instant lastRescan;
+
+    public ReminderScheduler(EventRepository eventRepository,
+                             UserRepository userRepository,
+                             NotificationSettingsRepository settingsRepository,
+                             NotificationLogRepository logRepository,
+                             List<NotificationSender> senders,
+                             @Value("${notification.scheduler.zone:}") String zone,
+                             @Value("${notification.scheduler.window-minutes:10}") long windowMinutes,
+                             @Value("${notification.scheduler.lookahead-minutes:30}") long lookaheadMinutes,
+                             @Value("${notification.scheduler.rescan-seconds:30}") long rescanSeconds,
+                             @Value("${notification.scheduler.batch-size:500}") int batchSize) {
+        this.eventRepository = eventRepository;
+        this.userRepository = userRepository;
+        this.logRepository = logRepository;
+        senders.forEach(sender -> this.senders.put(sender.getType(), sender));
+        this.zone = zone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(zone);
+        this.window = Duration.ofMinutes(windowMinutes);
+        this.lookahead = Duration.ofMinutes(lookaheadMinutes);
+        this.settingsLookup = new NotificationSettingsLookup(settingsRepository);
+        this.rescanInterval = Duration.ofSeconds(rescanSeconds);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${notification.scheduler.tick-ms:1000}")
+    public void run() {
+        tick(Instant.now());
+    }
+
+    public void tick(Instant now) {
+        refill(now);
+        rescanUpdated(now);
+        dispatchDue(now);
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    private void refill(Instant now) {
+        if (loadedUntil == null) {
+            loadedUntil = now;
+            lastRescan = now;
+        }
+        Instant horizon = now.plus(lookahead);
+        while (loadedUntil.isBefore(horizon)) {
+            Instant to = loadedUntil.plus(window);
+            LocalDateTime start = LocalDateTime.ofInstant(loadedUntil, zone);
+            LocalDateTime end = LocalDateTime.ofInstant(to, zone);
+            List<Event> events = notifiableBetween(start.toLocalDate(), end.toLocalDate().plusDays(1));
+            int loaded = enqueue(events, loadedUntil, to);
+            log.debug("Janela de lembretes {} - {} carregada: {} lembretes", loadedUntil, to, loaded);
+            loadedUntil = to;
+        }
+    }
+
+    private List<Event> notifiableBetween(LocalDate startDate, LocalDate endDate) {
+        List<Event> events = new ArrayList<>(eventRepository.findNotifiableBetween(startDate, endDate));
+        // Os aniversários editados ou excluídos já estão gravados: a consulta acima traz os que ainda notificam
+        for (User user : userRepository.findActiveByBirthdayBetween(startDate, endDate)) {
+            List<Event> derived = BirthdayEvents.between(user, startDate, endDate);
+            if (!derived.isEmpty()) {
+                List<Event> stored = eventRepository.findStoredBirthdays(user.getId(),
+                        derived.stream().map(Event::getId).collect(Collectors.toList()), startDate, endDate);
+                events.addAll(BirthdayEvents.withoutStored(derived, stored));
+            }
+        }
+        return events;
+    }
+
+    private void rescanUpdated(Instant now) {
+        if (now.isBefore(lastRescan.plus(rescanInterval))) {
+            return;
+        }
+        // Eventos criados ou editados depois da carga da janela ainda não estão na fila
+        List<Event> events = eventRepository.findNotifiableUpdatedSince(LocalDateTime.ofInstant(lastRescan, zone));
+        enqueue(events, now, loadedUntil);
+        lastRescan = now;
+    }
+
+    private int enqueue(List<Event> events, Instant from, Instant to) {
+        if (events.isEmpty() || !to.isAfter(from)) {
+            return 0;
+        }
+        Map<String, NotificationSettings> settings = settingsLookup.get(events.stream().map(Event::getUserId).collect(Collectors.toSet()));
+        LocalDateTime start = LocalDateTime.ofInstant(from, zone);
+        LocalDateTime end = LocalDateTime.ofInstant(to, zone);
+
+        int offered = 0;
+        for (Event event : events) {
+            NotificationSettings userSettings = settings.get(event.getUserId());
+            for (LocalDateTime reminder : event.reminderTimesBetween(start, end, minutesBefore(userSettings))) {
+                if (queue.offer(toTask(event, reminder, userSettings))) {
+                    offered++;
+                }
+            }
+        }
+        return offered;
+    }
+
+    private ReminderTask toTask(Event event, LocalDateTime reminder, NotificationSettings settings) {
+        Instant remindAt = reminder.atZone(zone).toInstant();
+        if (settings == null || !settings.isQuietAt(reminder.toLocalTime())) {
+            return new ReminderTask(remindAt, event.getId(), event.getUserId(), event.getNotificationType());
+        }
+        Instant quietHoursEnd = settings.quietHoursEndAfter(reminder).atZone(zone).toInstant();
+        return new ReminderTask(quietHoursEnd, remindAt, event.getId(), event.getUserId(), event.getNotificationType(), true);
+    }
+
+    private void dispatchDue(Instant now) {
+        List<ReminderTask> due = queue.pollDue(now, batchSize);
+        while (!due.isEmpty()) {
+            dispatch(due, now);
+            due = queue.pollDue(now, batchSize);
+        }
+    }
+
+    private void dispatch(List<ReminderTask> tasks, Instant now) {
+        Set<String> ids = tasks.stream().map(ReminderTask::eventId).collect(Collectors.toSet());
+        Map<String, Event> events = eventRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity(), (a, b) -> a));
+        ids.stream()
+                .filter(id -> !events.containsKey(id) && BirthdayEvents.isDerivedId(id))
+                .forEach(id -> deriveBirthday(id).ifPresent(event -> events.put(id, event)));
+        Map<String, NotificationSettings> settings = settingsLookup.get(tasks.stream().map(ReminderTask::userId).collect(Collectors.toSet()));
+
+        Map<DigestKey, List<ReminderTask>> digests = new LinkedHashMap<>();
+        for (ReminderTask task : tasks) {
+            Event event = events.get(task.eventId());
+            NotificationSettings userSettings = settings.get(task.userId());
+            if (!isStillDue(event, task, userSettings) || !isChannelEnabled(userSettings, task.type())) {
+                continue;
+            }
+            if (task.digest()) {
+                digests.computeIfAbsent(new DigestKey(task.userId(), task.type()), key -> new ArrayList<>()).add(task);
+                continue;
+            }
+            NotificationStatus status = deliver(task.type(), sender -> sender.send(event));
+            logRepository.save(new NotificationLog(null, event.getId(), event.getUserId(), task.type(), now, status, task.fireAt()));
+        }
+
+        digests.forEach((key, digestTasks) -> {
+            List<Event> digestEvents = digestTasks.stream().map(task -> events.get(task.eventId())).toList();
+            NotificationStatus status = deliver(key.type(), sender -> sender.sendDigest(key.userId(), digestEvents));
+            for (ReminderTask task : digestTasks) {
+                logRepository.save(new NotificationLog(null, task.eventId(), task.userId(), key.type(), now, status, task.fireAt()));
+            }
+        });
+    }
+
+    private Optional<Event> deriveBirthday(String id) {
+        // Sem documento gravado com o id derivado: vale o aniversário atual do cadastro
+        return BirthdayEvents.userIdOf(id)
+                .flatMap(userRepository::findByIdAndActiveTrue)
+                .flatMap(user -> BirthdayEvents.forYear(user, BirthdayEvents.yearOf(id).orElseThrow()));
+    }
+
+    private boolean isStillDue(Event event, ReminderTask task, NotificationSettings settings) {
+        if (event == null || !event.isActive() || event.getNotificationType() != task.type()) {
+            return false;
+        }
+        LocalDateTime at = LocalDateTime.ofInstant(task.remindAt(), zone);
+        return !event.reminderTimesBetween(at, at.plusSeconds(1), minutesBefore(settings)).isEmpty();
+    }
+
+    private boolean isChannelEnabled(NotificationSettings settings, NotificationType type) {
+        if (settings == null) {
+            return true;
+        }
+        Boolean enabled = type == NotificationType.EMAIL
+                ? settings.getEmailNotificationsEnabled()
+                : settings.getVisualNotificationsEnabled();
+        return !Boolean.FALSE.equals(enabled);
+    }
+
+    private NotificationStatus deliver(NotificationType type, Consumer<NotificationSender> delivery) {
+        NotificationSender sender = senders.get(type);
+        if (sender == null) {
+            log.warn("Nenhum canal configurado para notificações do tipo {}", type);
+            return NotificationStatus.FAILURE;
+        }
+        try {
+            delivery.accept(sender);
+            return NotificationStatus.SUCCESS;
+        } catch (NotificationChannelUnavailableException e) {
+            // Canal sem provedor: nada foi enviado, mas também não é uma falha de entrega
+            return NotificationStatus.SKIPPED;
+        } catch (RuntimeException e) {
+            log.warn("Falha ao enviar lembrete pelo canal {}: {}", type, e.getMessage());
+            return NotificationStatus.FAILURE;
+        }
+    }
+
+    private int minutesBefore(NotificationSettings settings) {
+        if (settings == null || settings.getDefaultReminderMinutesBefore() == null) {
+            return DEFAULT_MINUTES_BEFORE;
+        }
+        return settings.getDefaultReminderMinutesBefore();
+    }
+
+    private record DigestKey(String userId, NotificationType type) {}
+}
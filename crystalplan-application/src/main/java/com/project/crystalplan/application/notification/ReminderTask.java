@@ -0,0 +1,21 @@
+package com.project.crystalplan.application.notification;
+
+import com.project.crystalplan.domain.enums.NotificationType;
+
+import java.time.Instant;
+
+/**
+ * Lembrete agendado. {@code remindAt} é o instante calculado a partir do evento; {@code fireAt} só
+ * difere dele quando o lembrete caiu no horário de silêncio e foi adiado para o resumo ({@code digest}).
+ */
+public record ReminderTask(Instant fireAt, Instant remindAt, String eventId, String userId,
+                           NotificationType type, boolean digest) {
+
+    public ReminderTask(Instant remindAt, String eventId, String userId, NotificationType type) {
+        this(remindAt, remindAt, eventId, userId, type, false);
+    }
+
+    String key() {
+        return eventId + "@" + remindAt.toEpochMilli();
+    }
+}
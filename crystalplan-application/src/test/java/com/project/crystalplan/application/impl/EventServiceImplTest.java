@@ -4,8 +4,18 @@ import com.project.crystalplan.domain.enums.NotificationType;
 import com.project.crystalplan.domain.enums.Recurrence;
 import com.project.crystalplan.domain.exceptions.EntityNotFoundException;
 import com.project.crystalplan.domain.exceptions.InvalidArgumentException;
+import com.project.crystalplan.domain.exceptions.VersionConflictException;
+import com.project.crystalplan.domain.models.BirthdayEvents;
 import com.project.crystalplan.domain.models.Event;
+import com.project.crystalplan.domain.models.EventChanges;
+import com.project.crystalplan.domain.models.EventOccurrence;
+import com.project.crystalplan.domain.models.EventSummary;
+import com.project.crystalplan.domain.models.EventSyncCursor;
+import com.project.crystalplan.domain.models.User;
 import com.project.crystalplan.domain.repositories.EventRepository;
+import com.project.crystalplan.domain.repositories.EventVersionRepository;
+import com.project.crystalplan.domain.repositories.UserCache;
+import com.project.crystalplan.domain.repositories.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,8 +25,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -29,6 +42,15 @@ class EventServiceImplTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private EventVersionRepository eventVersionRepository;
+
     @InjectMocks
     private EventServiceImpl eventService;
 
@@ -79,6 +101,7 @@ class EventServiceImplTest {
         assertThat(created.isActive()).isTrue();
         assertThat(created.getCreatedAt()).isNotNull();
         verify(eventRepository, times(1)).save(singleEvent);
+        verify(eventVersionRepository, times(1)).increment("user1");
     }
 
     @Test
@@ -109,16 +132,32 @@ class EventServiceImplTest {
                 NotificationType.EMAIL,
                 "user1"
         );
-        when(eventRepository.existsById("1")).thenReturn(true);
-        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        updatedEventDetails.setVersion(3L);
+        singleEvent.setVersion(4L);
+        when(eventRepository.updateIfCurrent(updatedEventDetails, 3L)).thenReturn(Optional.of(singleEvent));
 
         Event result = eventService.updateEvent("1", updatedEventDetails);
 
-        assertThat(result).isEqualTo(updatedEventDetails);
-        assertThat(result.getId()).isEqualTo("1");
-        assertThat(result.getUpdatedAt()).isNotNull();
-        verify(eventRepository, times(1)).existsById("1");
-        verify(eventRepository, times(1)).save(updatedEventDetails);
+        assertThat(result).isEqualTo(singleEvent);
+        assertThat(updatedEventDetails.getId()).isEqualTo("1");
+        assertThat(updatedEventDetails.getUpdatedAt()).isNotNull();
+        verify(eventRepository, times(1)).updateIfCurrent(updatedEventDetails, 3L);
+        verify(eventRepository, never()).findById(any());
+        verify(eventRepository, never()).save(any());
+        verify(eventVersionRepository).increment("user1");
+    }
+
+    @Test
+    void shouldRejectUpdateBasedOnStaleVersion() {
+        Event stale = new Event("1", "Stale", "Desc", Recurrence.SINGLE, LocalDate.now(), null, null, null, false, null, "user1");
+        stale.setVersion(2L);
+        singleEvent.setVersion(5L);
+        when(eventRepository.updateIfCurrent(stale, 2L)).thenReturn(Optional.empty());
+        when(eventRepository.findById("1")).thenReturn(Optional.of(singleEvent));
+
+        assertThrows(VersionConflictException.class, () -> eventService.updateEvent("1", stale));
+        verify(eventRepository, never()).save(any());
+        verifyNoInteractions(eventVersionRepository);
     }
 
     @Test
@@ -144,20 +183,19 @@ class EventServiceImplTest {
 
     @Test
     void shouldThrowEntityNotFoundExceptionWhenUpdatingNonExistentEvent() {
-        when(eventRepository.existsById("99")).thenReturn(false);
+        when(eventRepository.updateIfCurrent(any(Event.class), any())).thenReturn(Optional.empty());
+        when(eventRepository.findById("99")).thenReturn(Optional.empty());
         Event toUpdate = new Event("99", "Non Existent", "Desc", Recurrence.SINGLE, LocalDate.now(), null, null, null, false, null, "user1");
         assertThrows(EntityNotFoundException.class, () -> eventService.updateEvent("99", toUpdate));
-        verify(eventRepository, times(1)).existsById("99");
+        verify(eventRepository, times(1)).findById("99");
         verify(eventRepository, never()).save(any());
     }
 
     @Test
     void shouldThrowInvalidArgumentExceptionWhenUpdatingSingleEventWithoutDate() {
         Event invalidUpdate = new Event("1", "Invalid", "Desc", Recurrence.SINGLE, null, null, null, null, false, null, "user1");
-        when(eventRepository.existsById("1")).thenReturn(true);
         assertThrows(InvalidArgumentException.class, () -> eventService.updateEvent("1", invalidUpdate));
-        verify(eventRepository, times(1)).existsById("1");
-        verify(eventRepository, never()).save(any());
+        verifyNoInteractions(eventRepository);
     }
 
     @Test
@@ -221,17 +259,452 @@ class EventServiceImplTest {
 
     @Test
     void shouldDeleteEventSuccessfully() {
-        when(eventRepository.existsById("1")).thenReturn(true);
+        when(eventRepository.deactivate(eq("1"), any(LocalDateTime.class))).thenReturn(Optional.of(singleEvent));
         eventService.deleteEvent("1");
-        verify(eventRepository).existsById("1");
-        verify(eventRepository).deleteById("1");
+        verify(eventRepository).deactivate(eq("1"), any(LocalDateTime.class));
+        verify(eventRepository, never()).findById(any());
+        verify(eventRepository, never()).save(any());
+        verify(eventRepository, never()).deleteById(any());
+        verify(eventVersionRepository).increment("user1");
+    }
+
+    @Test
+    void shouldNotUpdateDeletedEvent() {
+        singleEvent.setActive(false);
+        when(eventRepository.updateIfCurrent(any(Event.class), any())).thenReturn(Optional.empty());
+        when(eventRepository.findById("1")).thenReturn(Optional.of(singleEvent));
+        Event toUpdate = new Event(null, "Again", "Desc", Recurrence.SINGLE, LocalDate.now(), null, null, null, false, null, "user1");
+
+        assertThrows(EntityNotFoundException.class, () -> eventService.updateEvent("1", toUpdate));
+        verify(eventRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldHideDeletedWeeklyEvents() {
+        weeklyEvent.setActive(false);
+        when(eventRepository.findByUserIdAndRecurrence("user1", Recurrence.WEEKLY)).thenReturn(List.of(weeklyEvent));
+
+        assertThat(eventService.getAllWeeklyEventsByUser("user1")).isEmpty();
+    }
+
+    @Test
+    void shouldSplitChangesIntoUpdatedAndDeleted() {
+        singleEvent.setUpdatedAt(LocalDateTime.of(2025, 7, 30, 10, 0));
+        weeklyEvent.setUpdatedAt(LocalDateTime.of(2025, 7, 30, 11, 0));
+        weeklyEvent.setActive(false);
+        EventSyncCursor since = new EventSyncCursor(LocalDateTime.now(), "0", LocalDateTime.now());
+        when(eventRepository.findChangedSince(eq("user1"), any(EventSyncCursor.class), eq(3))).thenReturn(List.of(singleEvent, weeklyEvent));
+        when(userRepository.findByIdAndActiveTrue("user1")).thenReturn(Optional.empty());
+
+        EventChanges changes = eventService.getEventChanges("user1", since.encode(), 2);
+
+        assertThat(changes.getEvents()).containsExactly(singleEvent);
+        assertThat(changes.getDeletedIds()).containsExactly("2");
+        assertThat(changes.isHasMore()).isFalse();
+        EventSyncCursor next = EventSyncCursor.decode(changes.getCursor());
+        assertThat(next.getUpdatedAt()).isEqualTo(weeklyEvent.getUpdatedAt());
+        assertThat(next.getId()).isEqualTo("2");
+    }
+
+    @Test
+    void shouldStopAtLimitAndKeepCursorWhenNothingChanged() {
+        // O Mongo devolve updatedAt em milissegundos, a mesma precisão que o cursor guarda
+        singleEvent.setUpdatedAt(singleEvent.getUpdatedAt().truncatedTo(ChronoUnit.MILLIS));
+        weeklyEvent.setUpdatedAt(weeklyEvent.getUpdatedAt().truncatedTo(ChronoUnit.MILLIS));
+        when(eventRepository.findChangedSince("user1", null, 2)).thenReturn(List.of(singleEvent, weeklyEvent));
+        when(userRepository.findByIdAndActiveTrue("user1")).thenReturn(Optional.empty());
+
+        EventChanges page = eventService.getEventChanges("user1", null, 1);
+
+        assertThat(page.getEvents()).containsExactly(singleEvent);
+        assertThat(page.isHasMore()).isTrue();
+
+        when(eventRepository.findChangedSince(eq("user1"), any(EventSyncCursor.class), eq(2))).thenReturn(List.of());
+        EventChanges empty = eventService.getEventChanges("user1", page.getCursor(), 1);
+
+        assertThat(empty.getEvents()).isEmpty();
+        EventSyncCursor kept = EventSyncCursor.decode(empty.getCursor());
+        assertThat(kept.getUpdatedAt()).isEqualTo(singleEvent.getUpdatedAt());
+        assertThat(kept.getId()).isEqualTo("1");
+    }
+
+    @Test
+    void shouldRestartFromScratchWhenCursorExpired() {
+        LocalDateTime issued = LocalDateTime.now().minus(EventSyncCursor.MAX_AGE).minusDays(1);
+        String expired = new EventSyncCursor(issued, "0", issued).encode();
+        when(eventRepository.findChangedSince("user1", null, 11)).thenReturn(List.of(singleEvent));
+        when(userRepository.findByIdAndActiveTrue("user1")).thenReturn(Optional.empty());
+
+        EventChanges changes = eventService.getEventChanges("user1", expired, 10);
+
+        assertThat(changes.isReset()).isTrue();
+        assertThat(changes.getEvents()).containsExactly(singleEvent);
+        assertThat(EventSyncCursor.decode(changes.getCursor()).isExpired(LocalDateTime.now())).isFalse();
+    }
+
+    @Test
+    void shouldSendDerivedBirthdaysOnlyWhenUserChangedSinceCursor() {
+        User user = birthdayUser();
+        user.setUpdatedAt(LocalDateTime.now().minusHours(1));
+        when(userRepository.findByIdAndActiveTrue("user1")).thenReturn(Optional.of(user));
+        when(eventRepository.findChangedSince(eq("user1"), any(), eq(11))).thenReturn(List.of());
+
+        String unchanged = new EventSyncCursor(LocalDateTime.now(), "0", LocalDateTime.now()).encode();
+        assertThat(eventService.getEventChanges("user1", unchanged, 10).getEvents()).isEmpty();
+
+        when(eventRepository.findStoredBirthdays(eq("user1"), anyList(), any(), any())).thenReturn(List.of());
+        String beforeUserUpdate = new EventSyncCursor(LocalDateTime.now().minusHours(2), "0", LocalDateTime.now().minusHours(2)).encode();
+        assertThat(eventService.getEventChanges("user1", beforeUserUpdate, 10).getEvents())
+                .hasSize(BirthdayEvents.DEFAULT_HORIZON_YEARS)
+                .allMatch(event -> BirthdayEvents.isDerivedId(event.getId()));
+    }
+
+    @Test
+    void shouldNotResendUnchangedBirthdaysOnNextPoll() {
+        User user = birthdayUser();
+        user.setUpdatedAt(LocalDateTime.now().minusDays(3));
+        when(userRepository.findByIdAndActiveTrue("user1")).thenReturn(Optional.of(user));
+        when(eventRepository.findChangedSince("user1", null, 11)).thenReturn(List.of());
+        when(eventRepository.findStoredBirthdays(eq("user1"), anyList(), any(), any())).thenReturn(List.of());
+
+        EventChanges first = eventService.getEventChanges("user1", null, 10);
+
+        assertThat(first.getEvents()).hasSize(BirthdayEvents.DEFAULT_HORIZON_YEARS);
+        assertThat(first.getCursor()).isNotNull();
+
+        when(eventRepository.findChangedSince(eq("user1"), any(EventSyncCursor.class), eq(11))).thenReturn(List.of());
+        EventChanges second = eventService.getEventChanges("user1", first.getCursor(), 10);
+
+        assertThat(second.getEvents()).isEmpty();
+        assertThat(second.getDeletedIds()).isEmpty();
+        verify(eventRepository, times(1)).findStoredBirthdays(eq("user1"), anyList(), any(), any());
+    }
+
+    @Test
+    void shouldSendOnlyBirthdayYearThatEnteredWindowSinceCursor() {
+        // Aniversário ontem e último cursor emitido ontem: desde então a janela ganhou um ano no fim
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        User user = new User("user1", "Maria", "maria@example.com", "Password@123", yesterday.withYear(1992));
+        LocalDateTime issued = yesterday.atStartOfDay();
+        // Usuário sem alteração desde o cursor: só a diferença da janela deve ir
+        user.setUpdatedAt(issued.minusDays(1));
+        when(userRepository.findByIdAndActiveTrue("user1")).thenReturn(Optional.of(user));
+        when(eventRepository.findChangedSince(eq("user1"), any(EventSyncCursor.class), eq(11))).thenReturn(List.of());
+        when(eventRepository.findStoredBirthdays(eq("user1"), anyList(), any(), any())).thenReturn(List.of());
+
+        String cursor = new EventSyncCursor(issued, "0", issued).encode();
+        List<Event> events = eventService.getEventChanges("user1", cursor, 10).getEvents();
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getEventDate()).isEqualTo(yesterday.plusYears(BirthdayEvents.DEFAULT_HORIZON_YEARS));
+    }
+
+    @Test
+    void shouldRejectSyncPageOutsideLimits() {
+        assertThrows(InvalidArgumentException.class, () -> eventService.getEventChanges("user1", null, 0));
+        assertThrows(InvalidArgumentException.class, () -> eventService.getEventChanges("user1", null, 501));
+        verifyNoInteractions(eventRepository);
     }
 
     @Test
     void shouldThrowEntityNotFoundExceptionWhenDeletingNonExistentEvent() {
-        when(eventRepository.existsById("99")).thenReturn(false);
+        when(eventRepository.deactivate(eq("99"), any(LocalDateTime.class))).thenReturn(Optional.empty());
         assertThrows(EntityNotFoundException.class, () -> eventService.deleteEvent("99"));
-        verify(eventRepository).existsById("99");
+        verify(eventRepository).deactivate(eq("99"), any(LocalDateTime.class));
+        verify(eventRepository, never()).save(any());
+        verify(eventRepository, never()).deleteById(any());
+        verifyNoInteractions(eventVersionRepository);
+    }
+
+    @Test
+    void shouldExpandOccurrencesBetweenDatesWithSingleQuery() {
+        LocalDate start = LocalDate.of(2025, 7, 28);
+        LocalDate end = LocalDate.of(2025, 8, 3);
+        when(eventRepository.findOccurrenceCandidates("user1", start, end)).thenReturn(List.of(singleEvent, weeklyEvent));
+
+        List<EventOccurrence> occurrences = eventService.getOccurrencesBetween("user1", start, end);
+
+        assertThat(occurrences).extracting(EventOccurrence::getDate).containsExactly(
+                LocalDate.of(2025, 7, 28),
+                LocalDate.of(2025, 7, 30),
+                LocalDate.of(2025, 7, 30)
+        );
+        // No mesmo dia, o evento das 10:00 vem antes do das 15:00
+        assertThat(occurrences.get(1).getEvent()).isEqualTo(singleEvent);
+        assertThat(occurrences.get(2).getEvent()).isEqualTo(weeklyEvent);
+        verify(eventRepository, times(1)).findOccurrenceCandidates("user1", start, end);
+        verifyNoMoreInteractions(eventRepository);
+    }
+
+    @Test
+    void shouldBuildMonthCalendarFromSingleCandidateQuery() {
+        LocalDate start = LocalDate.of(2025, 7, 1);
+        LocalDate end = LocalDate.of(2025, 7, 31);
+        when(eventRepository.findOccurrenceCandidates("user1", start, end)).thenReturn(List.of(singleEvent, weeklyEvent));
+
+        SortedMap<LocalDate, List<Event>> calendar = eventService.getMonthCalendar("user1", 2025, 7);
+
+        // Segundas e quartas de julho/2025 (9 dias) mais o evento único do dia 30, que também é quarta
+        assertThat(calendar).hasSize(9);
+        assertThat(calendar.firstKey()).isEqualTo(LocalDate.of(2025, 7, 2));
+        assertThat(calendar.get(LocalDate.of(2025, 7, 30))).containsExactly(singleEvent, weeklyEvent);
+        assertThat(calendar.get(LocalDate.of(2025, 7, 28))).containsExactly(weeklyEvent);
+        verify(eventRepository, times(1)).findOccurrenceCandidates("user1", start, end);
+        verifyNoMoreInteractions(eventRepository);
+    }
+
+    @Test
+    void shouldRejectInvalidMonthInCalendar() {
+        assertThrows(InvalidArgumentException.class, () -> eventService.getMonthCalendar("user1", 2025, 13));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void shouldThrowInvalidArgumentExceptionWhenOccurrenceWindowIsInverted() {
+        LocalDate start = LocalDate.of(2025, 8, 3);
+        LocalDate end = LocalDate.of(2025, 7, 28);
+        assertThrows(InvalidArgumentException.class, () -> eventService.getOccurrencesBetween("user1", start, end));
+        verify(eventRepository, never()).findOccurrenceCandidates(any(), any(), any());
+    }
+
+    @Test
+    void shouldThrowInvalidArgumentExceptionWhenOccurrenceWindowIsTooLarge() {
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        LocalDate end = LocalDate.of(2026, 6, 1);
+        assertThrows(InvalidArgumentException.class, () -> eventService.getOccurrencesBetween("user1", start, end));
+        verify(eventRepository, never()).findOccurrenceCandidates(any(), any(), any());
+    }
+
+    @Test
+    void shouldCreateEventsInSingleBatch() {
+        when(eventRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Event> created = eventService.createEvents(List.of(singleEvent, weeklyEvent));
+
+        assertThat(created).containsExactly(singleEvent, weeklyEvent);
+        assertThat(created).allSatisfy(event -> {
+            assertThat(event.getUuid()).isNotNull();
+            assertThat(event.isActive()).isTrue();
+        });
+        verify(eventRepository, times(1)).insertAll(List.of(singleEvent, weeklyEvent));
+        verify(eventRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldRejectWholeBatchWhenAnyEventIsInvalid() {
+        Event invalid = new Event(null, "Invalid", "Desc", Recurrence.SINGLE, null, null, null, null, false, null, "user1");
+
+        InvalidArgumentException exception = assertThrows(InvalidArgumentException.class,
+                () -> eventService.createEvents(List.of(singleEvent, invalid)));
+
+        assertThat(exception.getMessage()).startsWith("evento 1:");
+        verify(eventRepository, never()).insertAll(any());
+    }
+
+    @Test
+    void shouldReturnEmptyListWhenBatchIsEmpty() {
+        assertThat(eventService.createEvents(List.of())).isEmpty();
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void shouldStreamStoredEventsAndAppendDerivedBirthdays() {
+        Event inactive = new Event();
+        inactive.setId("3");
+        inactive.setActive(false);
+        Event edited = BirthdayEvents.upcoming(birthdayUser(), LocalDate.now(), 1).get(0);
+        edited.setTitle("Festa");
+        doAnswer(invocation -> {
+            Consumer<Event> action = invocation.getArgument(1);
+            List.of(singleEvent, inactive, edited, weeklyEvent).forEach(action);
+            return null;
+        }).when(eventRepository).streamByUserId(eq("user1"), any());
+        when(userRepository.findByIdAndActiveTrue("user1")).thenReturn(Optional.of(birthdayUser()));
+        when(eventRepository.findStoredBirthdays(eq("user1"), anyList(), any(), any())).thenReturn(List.of(edited));
+
+        List<Event> exported = new ArrayList<>();
+        eventService.streamEventsByUser("user1", exported::add);
+
+        assertThat(exported).hasSize(3 + BirthdayEvents.DEFAULT_HORIZON_YEARS - 1);
+        assertThat(exported.subList(0, 3)).containsExactly(singleEvent, edited, weeklyEvent);
+        assertThat(exported).extracting(Event::getId).doesNotContain("3").containsOnlyOnce(edited.getId());
+        verify(eventRepository, never()).findByUserId(any());
+    }
+
+    @Test
+    void shouldDeriveBirthdayWhenListingMonth() {
+        LocalDate start = LocalDate.of(2025, 7, 1);
+        LocalDate end = LocalDate.of(2025, 7, 31);
+        when(eventRepository.findByUserIdAndRecurrenceAndEventDateBetween("user1", Recurrence.SINGLE, start, end)).thenReturn(List.of(singleEvent));
+        when(userRepository.findByIdAndActiveTrue("user1")).thenReturn(Optional.of(birthdayUser()));
+        when(eventRepository.findStoredBirthdays("user1", List.of("birthday-user1-2025"), LocalDate.of(2025, 7, 15), LocalDate.of(2025, 7, 15))).thenReturn(List.of());
+
+        List<Event> events = eventService.getAllSingleEventsByMonth("user1", 2025, 7);
+
+        assertThat(events).hasSize(2);
+        Event birthday = events.get(1);
+        assertThat(birthday.getId()).isEqualTo("birthday-user1-2025");
+        assertThat(birthday.getTitle()).isEqualTo(BirthdayEvents.TITLE);
+        assertThat(birthday.getEventDate()).isEqualTo(LocalDate.of(2025, 7, 15));
+        verify(eventRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldResolveBirthdayUserFromCache() {
+        LocalDate start = LocalDate.of(2025, 7, 1);
+        LocalDate end = LocalDate.of(2025, 7, 31);
+        when(eventRepository.findByUserIdAndRecurrenceAndEventDateBetween("user1", Recurrence.SINGLE, start, end)).thenReturn(List.of());
+        when(userCache.get("user1")).thenReturn(Optional.of(birthdayUser()));
+        when(eventRepository.findStoredBirthdays(eq("user1"), anyList(), any(), any())).thenReturn(List.of());
+
+        assertThat(eventService.getAllSingleEventsByMonth("user1", 2025, 7)).hasSize(1);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void shouldCacheBirthdayUserLoadedFromRepository() {
+        LocalDate date = LocalDate.of(2025, 3, 10);
+        User user = birthdayUser();
+        when(eventRepository.findByUserIdAndRecurrenceAndEventDate("user1", Recurrence.SINGLE, date)).thenReturn(List.of(singleEvent));
+        when(userRepository.findByIdAndActiveTrue("user1")).thenReturn(Optional.of(user));
+
+        assertThat(eventService.getSingleEventsByDate("user1", date)).containsExactly(singleEvent);
+        verify(userCache).put(user);
+    }
+
+    @Test
+    void shouldNotQueryStoredBirthdaysWhenRangeHasNoBirthday() {
+        LocalDate start = LocalDate.of(2025, 6, 1);
+        LocalDate end = LocalDate.of(2025, 6, 30);
+        when(eventRepository.findByUserIdAndRecurrenceAndEventDateBetween("user1", Recurrence.SINGLE, start, end)).thenReturn(List.of(singleEvent));
+        when(userCache.get("user1")).thenReturn(Optional.of(birthdayUser()));
+
+        assertThat(eventService.getAllSingleEventsByMonth("user1", 2025, 6)).containsExactly(singleEvent);
+        verify(eventRepository, never()).findStoredBirthdays(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldSkipDerivedBirthdayWhenItWasMaterialized() {
+        LocalDate start = LocalDate.of(2025, 7, 1);
+        LocalDate end = LocalDate.of(2025, 7, 31);
+        Event deleted = BirthdayEvents.forYear(birthdayUser(), 2025).orElseThrow();
+        deleted.setActive(false);
+        when(eventRepository.findByUserIdAndRecurrenceAndEventDateBetween("user1", Recurrence.SINGLE, start, end)).thenReturn(List.of());
+        when(userRepository.findByIdAndActiveTrue("user1")).thenReturn(Optional.of(birthdayUser()));
+        when(eventRepository.findStoredBirthdays("user1", List.of("birthday-user1-2025"), LocalDate.of(2025, 7, 15), LocalDate.of(2025, 7, 15))).thenReturn(List.of(deleted));
+
+        List<Event> events = eventService.getAllSingleEventsByMonth("user1", 2025, 7);
+
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void shouldNotDeriveBirthdayAgainAfterDeletingLegacyDocument() {
+        LocalDate start = LocalDate.of(2025, 7, 1);
+        LocalDate end = LocalDate.of(2025, 7, 31);
+        Event deleted = legacyBirthday();
+        deleted.setActive(false);
+        when(eventRepository.deactivate(eq("legacy1"), any(LocalDateTime.class))).thenReturn(Optional.of(deleted));
+        // As consultas por data só trazem eventos ativos; o legado excluído só aparece entre os aniversários gravados
+        when(eventRepository.findByUserIdAndRecurrenceAndEventDateBetween("user1", Recurrence.SINGLE, start, end)).thenReturn(List.of(singleEvent));
+        when(userRepository.findByIdAndActiveTrue("user1")).thenReturn(Optional.of(birthdayUser()));
+        when(eventRepository.findStoredBirthdays("user1", List.of("birthday-user1-2025"), LocalDate.of(2025, 7, 15), LocalDate.of(2025, 7, 15))).thenReturn(List.of(deleted));
+
+        eventService.deleteEvent("legacy1");
+        List<Event> events = eventService.getAllSingleEventsByMonth("user1", 2025, 7);
+
+        assertThat(events).containsExactly(singleEvent);
+        verify(eventVersionRepository).increment("user1");
+    }
+
+    @Test
+    void shouldListMonthSummariesWithDerivedBirthday() {
+        LocalDate start = LocalDate.of(2025, 7, 1);
+        LocalDate end = LocalDate.of(2025, 7, 31);
+        when(eventRepository.findSummariesByUserIdAndRecurrenceAndEventDateBetween("user1", Recurrence.SINGLE, start, end))
+                .thenReturn(List.of(EventSummary.of(singleEvent)));
+        when(userRepository.findByIdAndActiveTrue("user1")).thenReturn(Optional.of(birthdayUser()));
+        when(eventRepository.findStoredBirthdays("user1", List.of("birthday-user1-2025"), LocalDate.of(2025, 7, 15), LocalDate.of(2025, 7, 15))).thenReturn(List.of());
+
+        List<EventSummary> summaries = eventService.getAllSingleEventSummariesByMonth("user1", 2025, 7);
+
+        assertThat(summaries).extracting(EventSummary::getId).containsExactly("1", "birthday-user1-2025");
+        verify(eventRepository, never()).findByUserIdAndRecurrenceAndEventDateBetween(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldNotDeriveBirthdaySummaryOverLegacyDocument() {
+        LocalDate date = LocalDate.of(2025, 7, 15);
+        EventSummary legacy = EventSummary.of(legacyBirthday());
+        when(eventRepository.findSummariesByUserIdAndRecurrenceAndEventDate("user1", Recurrence.SINGLE, date)).thenReturn(List.of(legacy));
+        when(userRepository.findByIdAndActiveTrue("user1")).thenReturn(Optional.of(birthdayUser()));
+        when(eventRepository.findStoredBirthdays("user1", List.of("birthday-user1-2025"), date, date)).thenReturn(List.of(legacyBirthday()));
+
+        List<EventSummary> summaries = eventService.getSingleEventSummariesByDate("user1", date);
+
+        assertThat(summaries).containsExactly(legacy);
+    }
+
+    @Test
+    void shouldGetDerivedBirthdayById() {
+        when(eventRepository.findById("birthday-user1-2030")).thenReturn(Optional.empty());
+        when(userRepository.findByIdAndActiveTrue("user1")).thenReturn(Optional.of(birthdayUser()));
+
+        Optional<Event> result = eventService.getEventById("birthday-user1-2030");
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getEventDate()).isEqualTo(LocalDate.of(2030, 7, 15));
+        assertThat(result.get().getUserId()).isEqualTo("user1");
+    }
+
+    @Test
+    void shouldMaterializeDerivedBirthdayOnUpdate() {
+        Event edited = new Event(null, "Festa", "Desc", Recurrence.SINGLE, LocalDate.of(2030, 7, 16),
+                null, LocalTime.of(20, 0), null, false, NotificationType.VISUAL, "user1");
+        when(eventRepository.updateIfCurrent(any(Event.class), any())).thenReturn(Optional.empty());
+        when(eventRepository.findById("birthday-user1-2030")).thenReturn(Optional.empty());
+        when(userRepository.findByIdAndActiveTrue("user1")).thenReturn(Optional.of(birthdayUser()));
+        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Event result = eventService.updateEvent("birthday-user1-2030", edited);
+
+        assertThat(result.getId()).isEqualTo("birthday-user1-2030");
+        assertThat(result.getEventDate()).isEqualTo(LocalDate.of(2030, 7, 16));
+        assertThat(result.getCreatedAt()).isNotNull();
+        assertThat(result.getVersion()).isZero();
+        verify(eventRepository).save(edited);
+    }
+
+    @Test
+    void shouldKeepInactiveRecordWhenDeletingDerivedBirthday() {
+        when(eventRepository.deactivate(eq("birthday-user1-2030"), any(LocalDateTime.class))).thenReturn(Optional.empty());
+        when(eventRepository.existsById("birthday-user1-2030")).thenReturn(false);
+        when(userRepository.findByIdAndActiveTrue("user1")).thenReturn(Optional.of(birthdayUser()));
+        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        eventService.deleteEvent("birthday-user1-2030");
+
+        verify(eventRepository).save(argThat(event -> "birthday-user1-2030".equals(event.getId()) && !event.isActive()));
         verify(eventRepository, never()).deleteById(any());
+        verify(eventVersionRepository).increment("user1");
+    }
+
+    @Test
+    void shouldNotDeleteBirthdayTwice() {
+        when(eventRepository.deactivate(eq("birthday-user1-2030"), any(LocalDateTime.class))).thenReturn(Optional.empty());
+        when(eventRepository.existsById("birthday-user1-2030")).thenReturn(true);
+
+        assertThrows(EntityNotFoundException.class, () -> eventService.deleteEvent("birthday-user1-2030"));
+        verify(eventRepository, never()).save(any());
+        verifyNoInteractions(userRepository);
+    }
+
+    private Event legacyBirthday() {
+        return new Event("legacy1", BirthdayEvents.TITLE, null, Recurrence.SINGLE, LocalDate.of(2025, 7, 15), null,
+                null, LocalTime.of(10, 0), true, NotificationType.EMAIL, "user1");
+    }
+
+    private User birthdayUser() {
+        return new User("user1", "Maria", "maria@example.com", "Password@123", LocalDate.of(1990, 7, 15));
     }
-}
\ No newline at end of file
+}
@@ -3,10 +3,16 @@ package com.project.crystalplan.application.impl;
 import com.project.crystalplan.domain.enums.NotificationStatus;
 import com.project.crystalplan.domain.enums.NotificationType;
 import com.project.crystalplan.domain.exceptions.EntityNotFoundException;
+import com.project.crystalplan.domain.exceptions.InvalidArgumentException;
+import com.project.crystalplan.domain.models.CursorPage;
 import com.project.crystalplan.domain.models.NotificationLog;
+import com.project.crystalplan.domain.models.NotificationLogCursor;
 import com.project.crystalplan.domain.models.NotificationSettings;
+import com.project.crystalplan.domain.models.NotificationSettingsPatch;
+import com.project.crystalplan.domain.models.NotificationStats;
 import com.project.crystalplan.domain.repositories.NotificationLogRepository;
 import com.project.crystalplan.domain.repositories.NotificationSettingsRepository;
+import com.project.crystalplan.domain.repositories.NotificationStatsRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,7 +21,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -23,6 +31,8 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +44,9 @@ class NotificationServiceImplTest {
     @Mock
     private NotificationLogRepository logRepository;
 
+    @Mock
+    private NotificationStatsRepository statsRepository;
+
     @InjectMocks
     private NotificationServiceImpl notificationService;
 
@@ -105,6 +118,32 @@ class NotificationServiceImplTest {
         verify(settingsRepository, times(1)).save(updatedSettings);
     }
 
+    @Test
+    void shouldPatchOnlyGivenSettingsFields() {
+        NotificationSettingsPatch patch = new NotificationSettingsPatch(false, null, null, null, null);
+        when(settingsRepository.patch("user1", patch)).thenReturn(defaultSettings);
+
+        NotificationSettings result = notificationService.patchUserSettings("user1", patch);
+
+        assertThat(result).isEqualTo(defaultSettings);
+        verify(settingsRepository, never()).findByUserId(any());
+        verify(settingsRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldRejectEmptySettingsPatch() {
+        assertThrows(InvalidArgumentException.class,
+                () -> notificationService.patchUserSettings("user1", new NotificationSettingsPatch()));
+        verify(settingsRepository, never()).patch(any(), any());
+    }
+
+    @Test
+    void shouldRejectSettingsWithoutUserId() {
+        assertThrows(InvalidArgumentException.class,
+                () -> notificationService.updateUserSettings(new NotificationSettings()));
+        verify(settingsRepository, never()).save(any());
+    }
+
     // =========================
     // Logs Tests
     // =========================
@@ -125,12 +164,34 @@ class NotificationServiceImplTest {
                 "log-2", "event2", "user1", NotificationType.VISUAL, Instant.now().minusSeconds(3600), NotificationStatus.FAILURE
         );
         List<NotificationLog> userLogs = Arrays.asList(sampleLog, anotherLog);
-        when(logRepository.findByUserId("user1")).thenReturn(userLogs);
+        when(logRepository.findByUserId("user1", null, 50)).thenReturn(new CursorPage<>(userLogs, null));
+
+        CursorPage<NotificationLog> result = notificationService.getNotificationLogsByUserId("user1", null, 50);
+
+        assertThat(result.getItems()).hasSize(2).containsExactlyInAnyOrder(sampleLog, anotherLog);
+        assertThat(result.isHasMore()).isFalse();
+        verify(logRepository, times(1)).findByUserId("user1", null, 50);
+    }
+
+    @Test
+    void shouldDecodeCursorWhenGettingNextPageOfLogs() {
+        Instant sentAt = Instant.ofEpochMilli(1_700_000_000_000L);
+        String cursor = new NotificationLogCursor(sentAt, "log-1").encode();
+        when(logRepository.findByUserId(eq("user1"), any(NotificationLogCursor.class), eq(1)))
+                .thenReturn(new CursorPage<>(List.of(sampleLog), null));
 
-        List<NotificationLog> result = notificationService.getNotificationLogsByUserId("user1");
+        notificationService.getNotificationLogsByUserId("user1", cursor, 1);
 
-        assertThat(result).hasSize(2).containsExactlyInAnyOrder(sampleLog, anotherLog);
-        verify(logRepository, times(1)).findByUserId("user1");
+        verify(logRepository).findByUserId(eq("user1"),
+                argThat(after -> after.getSentAt().equals(sentAt) && after.getId().equals("log-1")), eq(1));
+    }
+
+    @Test
+    void shouldRejectInvalidPageSizeOrCursor() {
+        assertThrows(InvalidArgumentException.class, () -> notificationService.getNotificationLogsByUserId("user1", null, 0));
+        assertThrows(InvalidArgumentException.class, () -> notificationService.getLogsByEventId("event1", null, 201));
+        assertThrows(InvalidArgumentException.class, () -> notificationService.getLogsByEventId("event1", "não-é-cursor", 10));
+        verifyNoInteractions(logRepository);
     }
 
     @Test
@@ -160,11 +221,45 @@ class NotificationServiceImplTest {
                 "log-e1-2", "event1", "user1", NotificationType.VISUAL, Instant.now().plusSeconds(60), NotificationStatus.SUCCESS
         );
         List<NotificationLog> eventLogs = Arrays.asList(logForEvent1_1, logForEvent1_2);
-        when(logRepository.findByEventId("event1")).thenReturn(eventLogs);
+        when(logRepository.findByEventId("event1", null, 50)).thenReturn(new CursorPage<>(eventLogs, "next"));
+
+        CursorPage<NotificationLog> result = notificationService.getLogsByEventId("event1", null, 50);
+
+        assertThat(result.getItems()).hasSize(2).containsExactlyInAnyOrder(logForEvent1_1, logForEvent1_2);
+        assertThat(result.getNextCursor()).isEqualTo("next");
+        verify(logRepository, times(1)).findByEventId("event1", null, 50);
+    }
 
-        List<NotificationLog> result = notificationService.getLogsByEventId("event1");
+    // =========================
+    // Stats Tests
+    // =========================
+
+    @Test
+    void shouldGetDeliveryStatsForGivenRange() {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 31);
+        NotificationStats stats = new NotificationStats();
+        when(statsRepository.findStats("user1", from, to)).thenReturn(stats);
+
+        assertThat(notificationService.getDeliveryStats("user1", from, to)).isSameAs(stats);
+    }
+
+    @Test
+    void shouldDefaultDeliveryStatsToLastThirtyDays() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        when(statsRepository.findStats(null, today.minusDays(29), today)).thenReturn(new NotificationStats());
+
+        notificationService.getDeliveryStats(null, null, null);
+
+        verify(statsRepository, times(1)).findStats(null, today.minusDays(29), today);
+    }
+
+    @Test
+    void shouldRejectInvalidDeliveryStatsRange() {
+        LocalDate day = LocalDate.of(2025, 6, 1);
 
-        assertThat(result).hasSize(2).containsExactlyInAnyOrder(logForEvent1_1, logForEvent1_2);
-        verify(logRepository, times(1)).findByEventId("event1");
+        assertThrows(InvalidArgumentException.class, () -> notificationService.getDeliveryStats("user1", day, day.minusDays(1)));
+        assertThrows(InvalidArgumentException.class, () -> notificationService.getDeliveryStats("user1", day, day.plusDays(366)));
+        verifyNoInteractions(statsRepository);
     }
 }
\ No newline at end of file
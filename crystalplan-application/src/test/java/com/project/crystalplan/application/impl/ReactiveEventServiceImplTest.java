@@ -0,0 +1,142 @@
+package com.project.crystalplan.application.impl;
+
+import com.project.crystalplan.domain.enums.NotificationType;
+import com.project.crystalplan.domain.enums.Recurrence;
+import com.project.crystalplan.domain.exceptions.EntityNotFoundException;
+import com.project.crystalplan.domain.exceptions.InvalidArgumentException;
+import com.project.crystalplan.domain.models.BirthdayEvents;
+import com.project.crystalplan.domain.models.Event;
+import com.project.crystalplan.domain.models.EventOccurrence;
+import com.project.crystalplan.domain.models.User;
+import com.project.crystalplan.domain.repositories.ReactiveEventRepository;
+import com.project.crystalplan.domain.services.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveEventServiceImplTest {
+
+    @Mock
+    private ReactiveEventRepository eventRepository;
+
+    @Mock
+    private UserService userService;
+
+    @InjectMocks
+    private ReactiveEventServiceImpl eventService;
+
+    private Event singleEvent;
+    private Event weeklyEvent;
+
+    @BeforeEach
+    void setUp() {
+        singleEvent = new Event("1", "Single Event", "Description", Recurrence.SINGLE, LocalDate.of(2025, 7, 30), null,
+                LocalTime.of(10, 0), LocalTime.of(9, 30), true, NotificationType.EMAIL, "user1");
+        weeklyEvent = new Event("2", "Weekly Event", "Description", Recurrence.WEEKLY, null,
+                Set.of(DayOfWeek.MONDAY), LocalTime.of(15, 0), null, false, null, "user1");
+    }
+
+    @Test
+    void shouldMergeDerivedBirthdayIntoMonth() {
+        LocalDate start = LocalDate.of(2025, 7, 1);
+        LocalDate end = LocalDate.of(2025, 7, 31);
+        when(eventRepository.findByUserIdAndRecurrenceAndEventDateBetween("user1", Recurrence.SINGLE, start, end))
+                .thenReturn(Flux.just(singleEvent));
+        when(userService.getUserById("user1")).thenReturn(Optional.of(birthdayUser()));
+        when(eventRepository.findStoredBirthdays("user1", List.of("birthday-user1-2025"), LocalDate.of(2025, 7, 15), LocalDate.of(2025, 7, 15))).thenReturn(Flux.empty());
+
+        List<Event> events = eventService.getAllSingleEventsByMonth("user1", 2025, 7).collectList().block();
+
+        assertThat(events).extracting(Event::getId).containsExactly("1", "birthday-user1-2025");
+    }
+
+    @Test
+    void shouldSkipInactiveAndMaterializedBirthdays() {
+        LocalDate start = LocalDate.of(2025, 7, 1);
+        LocalDate end = LocalDate.of(2025, 7, 31);
+        Event deleted = BirthdayEvents.forYear(birthdayUser(), 2025).orElseThrow();
+        deleted.setActive(false);
+        when(eventRepository.findByUserIdAndRecurrenceAndEventDateBetween("user1", Recurrence.SINGLE, start, end))
+                .thenReturn(Flux.just(deleted));
+        when(userService.getUserById("user1")).thenReturn(Optional.of(birthdayUser()));
+        when(eventRepository.findStoredBirthdays("user1", List.of("birthday-user1-2025"), LocalDate.of(2025, 7, 15), LocalDate.of(2025, 7, 15))).thenReturn(Flux.just(deleted));
+
+        List<Event> events = eventService.getAllSingleEventsByMonth("user1", 2025, 7).collectList().block();
+
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void shouldNotDeriveBirthdayOverDeletedLegacyDocument() {
+        LocalDate start = LocalDate.of(2025, 7, 1);
+        LocalDate end = LocalDate.of(2025, 7, 31);
+        Event legacy = new Event("legacy1", BirthdayEvents.TITLE, null, Recurrence.SINGLE, LocalDate.of(2025, 7, 15), null,
+                null, LocalTime.of(10, 0), true, NotificationType.EMAIL, "user1");
+        legacy.setActive(false);
+        when(eventRepository.findByUserIdAndRecurrenceAndEventDateBetween("user1", Recurrence.SINGLE, start, end))
+                .thenReturn(Flux.just(singleEvent));
+        when(userService.getUserById("user1")).thenReturn(Optional.of(birthdayUser()));
+        when(eventRepository.findStoredBirthdays("user1", List.of("birthday-user1-2025"), LocalDate.of(2025, 7, 15), LocalDate.of(2025, 7, 15))).thenReturn(Flux.just(legacy));
+
+        List<Event> events = eventService.getAllSingleEventsByMonth("user1", 2025, 7).collectList().block();
+
+        assertThat(events).containsExactly(singleEvent);
+    }
+
+    @Test
+    void shouldExpandAndSortOccurrences() {
+        LocalDate start = LocalDate.of(2025, 7, 28);
+        LocalDate end = LocalDate.of(2025, 8, 3);
+        when(eventRepository.findOccurrenceCandidates("user1", start, end)).thenReturn(Flux.just(weeklyEvent, singleEvent));
+        when(userService.getUserById("user1")).thenReturn(Optional.empty());
+
+        List<EventOccurrence> occurrences = eventService.getOccurrencesBetween("user1", start, end).collectList().block();
+
+        assertThat(occurrences).extracting(EventOccurrence::getDate)
+                .containsExactly(LocalDate.of(2025, 7, 28), LocalDate.of(2025, 7, 30));
+    }
+
+    @Test
+    void shouldSignalInvalidOccurrenceWindowWithoutQuerying() {
+        Flux<EventOccurrence> occurrences = eventService.getOccurrencesBetween("user1", LocalDate.of(2025, 8, 1), LocalDate.of(2025, 7, 1));
+
+        assertThrows(InvalidArgumentException.class, occurrences::blockLast);
+        verifyNoInteractions(eventRepository, userService);
+    }
+
+    @Test
+    void shouldDeriveBirthdayByIdAndRejectInactiveStoredEvent() {
+        when(eventRepository.findById("birthday-user1-2026")).thenReturn(Mono.empty());
+        when(userService.getUserById("user1")).thenReturn(Optional.of(birthdayUser()));
+        Event inactive = new Event();
+        inactive.setId("3");
+        inactive.setActive(false);
+        when(eventRepository.findById("3")).thenReturn(Mono.just(inactive));
+
+        Event birthday = eventService.getEventById("birthday-user1-2026").block();
+
+        assertThat(birthday.getEventDate()).isEqualTo(LocalDate.of(2026, 7, 15));
+        assertThrows(EntityNotFoundException.class, () -> eventService.getEventById("3").block());
+    }
+
+    private User birthdayUser() {
+        return new User("user1", "Maria", "maria@example.com", "Password@123", LocalDate.of(1990, 7, 15));
+    }
+}
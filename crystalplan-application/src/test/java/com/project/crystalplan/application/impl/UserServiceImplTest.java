@@ -5,10 +5,10 @@ import com.project.crystalplan.domain.enums.Recurrence;
 import com.project.crystalplan.domain.exceptions.EntityNotFoundException;
 import com.project.crystalplan.domain.exceptions.InvalidArgumentException;
 import com.project.crystalplan.domain.exceptions.InvalidCredentialsException; // Import the new exception
-import com.project.crystalplan.domain.models.Event;
 import com.project.crystalplan.domain.models.User;
+import com.project.crystalplan.domain.repositories.EventVersionRepository;
+import com.project.crystalplan.domain.repositories.UserCache;
 import com.project.crystalplan.domain.repositories.UserRepository;
-import com.project.crystalplan.domain.services.EventService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,7 +36,10 @@ class UserServiceImplTest {
     private UserRepository userRepository;
 
     @Mock
-    private EventService eventService;
+    private UserCache userCache;
+
+    @Mock
+    private EventVersionRepository eventVersionRepository;
 
     @InjectMocks
     private UserServiceImpl userService;
@@ -79,14 +82,11 @@ class UserServiceImplTest {
     }
 
     @Test
-    void createUser_ShouldSaveUserAndGenerateBirthdayEvents() {
+    void createUser_ShouldSaveUserWithoutMaterializingBirthdayEvents() {
         when(userRepository.existsByEmail(sampleUser.getEmail())).thenReturn(false);
         // Using thenReturn(argument) is simpler than thenAnswer for returning the same argument
         when(userRepository.save(any(User.class))).thenReturn(sampleUser);
 
-        // Mock eventService.createEvent to return a dummy Event for each call
-        when(eventService.createEvent(any(Event.class))).thenReturn(new Event());
-
         User createdUser = userService.createUser(sampleUser);
 
         ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
@@ -103,8 +103,9 @@ class UserServiceImplTest {
         assertEquals(sampleUser.getName(), capturedUser.getName());
         assertEquals(sampleUser.getEmail(), capturedUser.getEmail());
 
-        // Verify that 20 birthday events are created
-        verify(eventService, times(20)).createEvent(any(Event.class));
+        // Birthday events are derived on read, so nothing else is written on sign-up
+        verify(userRepository).existsByEmail(sampleUser.getEmail());
+        verifyNoMoreInteractions(userRepository);
         assertEquals(capturedUser.getName(), createdUser.getName());
         assertEquals(capturedUser.getEmail(), createdUser.getEmail());
     }
@@ -157,6 +158,18 @@ class UserServiceImplTest {
         assertTrue(result.isPresent());
         assertEquals(sampleUser, result.get());
         verify(userRepository).findByIdAndActiveTrue(sampleUser.getId());
+        verify(userCache).put(sampleUser);
+    }
+
+    @Test
+    void shouldGetUserByIdFromCacheWithoutQueryingRepository() {
+        when(userCache.get(sampleUser.getId())).thenReturn(Optional.of(sampleUser));
+
+        Optional<User> result = userService.getUserById(sampleUser.getId());
+
+        assertTrue(result.isPresent());
+        assertEquals(sampleUser, result.get());
+        verifyNoInteractions(userRepository);
     }
 
     @Test
@@ -226,6 +239,8 @@ class UserServiceImplTest {
 
         assertEquals(capturedUser, result);
         verify(userRepository).findByIdAndActiveTrue(sampleUser.getId());
+        verify(userCache).evict(sampleUser.getId());
+        verify(eventVersionRepository).increment(sampleUser.getId());
     }
 
     @Test
@@ -269,6 +284,8 @@ class UserServiceImplTest {
         assertTrue(capturedUser.getUpdatedAt().isAfter(existingUserForDelete.getUpdatedAt().minusSeconds(1)) || capturedUser.getUpdatedAt().isEqual(existingUserForDelete.getUpdatedAt()), "updatedAt should be after or equal to original");
 
         verify(userRepository).findByIdAndActiveTrue(sampleUser.getId());
+        verify(userCache).evict(sampleUser.getId());
+        verify(eventVersionRepository).increment(sampleUser.getId());
     }
 
     @Test
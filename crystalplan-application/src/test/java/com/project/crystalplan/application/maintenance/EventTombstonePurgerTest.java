@@ -0,0 +1,41 @@
+package com.project.crystalplan.application.maintenance;
+
+import com.project.crystalplan.domain.models.EventSyncCursor;
+import com.project.crystalplan.domain.repositories.EventRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventTombstonePurgerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 8, 1, 3, 30);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Test
+    void shouldPurgeInBatchesUntilAShortBatch() {
+        LocalDateTime cutoff = NOW.minus(EventSyncCursor.MAX_AGE);
+        when(eventRepository.purgeInactiveBefore(cutoff, 100)).thenReturn(100, 100, 37);
+
+        int purged = new EventTombstonePurger(eventRepository, 100).purge(NOW);
+
+        assertThat(purged).isEqualTo(237);
+        verify(eventRepository, times(3)).purgeInactiveBefore(cutoff, 100);
+    }
+
+    @Test
+    void shouldStopWhenNothingToPurge() {
+        when(eventRepository.purgeInactiveBefore(any(), eq(100))).thenReturn(0);
+
+        assertThat(new EventTombstonePurger(eventRepository, 100).purge(NOW)).isZero();
+        verify(eventRepository, times(1)).purgeInactiveBefore(any(), eq(100));
+    }
+}
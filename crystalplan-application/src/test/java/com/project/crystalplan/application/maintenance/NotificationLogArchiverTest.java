@@ -0,0 +1,31 @@
+package com.project.crystalplan.application.maintenance;
+
+import com.project.crystalplan.domain.repositories.NotificationLogRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationLogArchiverTest {
+
+    private static final Instant NOW = Instant.parse("2025-08-01T04:00:00Z");
+
+    @Mock
+    private NotificationLogRepository logRepository;
+
+    @Test
+    void shouldArchiveLogsOlderThanConfiguredAge() {
+        when(logRepository.archiveSentBefore(Instant.parse("2025-07-02T04:00:00Z"))).thenReturn(120L);
+
+        long archived = new NotificationLogArchiver(logRepository, Duration.ofDays(30)).archive(NOW);
+
+        assertThat(archived).isEqualTo(120L);
+    }
+}
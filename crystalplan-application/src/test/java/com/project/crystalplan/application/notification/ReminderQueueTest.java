@@ -0,0 +1,46 @@
+package com.project.crystalplan.application.notification;
+
+import com.project.crystalplan.domain.enums.NotificationType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReminderQueueTest {
+
+    private final ReminderQueue queue = new ReminderQueue();
+
+    @Test
+    void shouldPollOnlyDueTasksInFireOrder() {
+        Instant now = Instant.parse("2025-07-30T10:00:00Z");
+        queue.offer(task("late", now.plusSeconds(60)));
+        queue.offer(task("second", now.minusSeconds(10)));
+        queue.offer(task("first", now.minusSeconds(30)));
+
+        List<ReminderTask> due = queue.pollDue(now, 10);
+
+        assertThat(due).extracting(ReminderTask::eventId).containsExactly("first", "second");
+        assertThat(queue.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldIgnoreDuplicateTasksAndRespectBatchLimit() {
+        Instant now = Instant.parse("2025-07-30T10:00:00Z");
+
+        assertThat(queue.offer(task("a", now))).isTrue();
+        assertThat(queue.offer(task("a", now))).isFalse();
+        queue.offer(task("b", now));
+        queue.offer(task("c", now));
+
+        assertThat(queue.pollDue(now, 2)).hasSize(2);
+        assertThat(queue.pollDue(now, 2)).hasSize(1);
+        // Depois de disparado, o mesmo lembrete pode voltar a ser agendado
+        assertThat(queue.offer(task("a", now))).isTrue();
+    }
+
+    private ReminderTask task(String eventId, Instant fireAt) {
+        return new ReminderTask(fireAt, eventId, "user1", NotificationType.EMAIL);
+    }
+}
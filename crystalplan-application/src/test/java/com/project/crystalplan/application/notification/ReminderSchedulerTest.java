@@ -0,0 +1,223 @@
+package com.project.crystalplan.application.notification;
+
+import com.project.crystalplan.domain.enums.NotificationStatus;
+import com.project.crystalplan.domain.enums.NotificationType;
+import com.project.crystalplan.domain.enums.Recurrence;
+import com.project.crystalplan.domain.exceptions.NotificationChannelUnavailableException;
+import com.project.crystalplan.domain.models.Event;
+import com.project.crystalplan.domain.models.NotificationSettings;
+import com.project.crystalplan.domain.models.User;
+import com.project.crystalplan.domain.repositories.EventRepository;
+import com.project.crystalplan.domain.repositories.NotificationLogRepository;
+import com.project.crystalplan.domain.repositories.NotificationSettingsRepository;
+import com.project.crystalplan.domain.repositories.UserRepository;
+import com.project.crystalplan.domain.services.NotificationSender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderSchedulerTest {
+
+    private static final Instant START = Instant.parse("2025-07-30T09:50:00Z");
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private NotificationSettingsRepository settingsRepository;
+
+    @Mock
+    private NotificationLogRepository logRepository;
+
+    @Mock
+    private NotificationSender emailSender;
+
+    private ReminderScheduler scheduler;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        when(emailSender.getType()).thenReturn(NotificationType.EMAIL);
+        scheduler = new ReminderScheduler(eventRepository, userRepository, settingsRepository, logRepository,
+                List.of(emailSender), "UTC", 10, 30, 30, 500);
+        event = new Event("1", "Reunião", "Desc", Recurrence.SINGLE, LocalDate.of(2025, 7, 30),
+                null, LocalTime.of(10, 0), LocalTime.of(9, 55), true, NotificationType.EMAIL, "user1");
+    }
+
+    @Test
+    void shouldLoadWindowsAheadAndDispatchWhenDue() {
+        when(settingsRepository.findByUserIdIn(anyCollection())).thenReturn(List.of());
+        when(eventRepository.findNotifiableBetween(LocalDate.of(2025, 7, 30), LocalDate.of(2025, 7, 31))).thenReturn(List.of(event));
+
+        scheduler.tick(START);
+
+        // Três janelas de 10 minutos cobrem os 30 minutos à frente; o lembrete entra na fila uma única vez
+        verify(eventRepository, times(3)).findNotifiableBetween(any(), any());
+        assertThat(scheduler.pending()).isEqualTo(1);
+        verify(emailSender, never()).send(any());
+
+        when(eventRepository.findNotifiableUpdatedSince(any())).thenReturn(List.of());
+        when(eventRepository.findAllById(anyCollection())).thenReturn(List.of(event));
+
+        scheduler.tick(START.plusSeconds(6 * 60));
+
+        verify(emailSender).send(event);
+        verify(logRepository).save(argThat(log -> "1".equals(log.getEventId())
+                && log.getStatus() == NotificationStatus.SUCCESS
+                && log.getNotificationType() == NotificationType.EMAIL));
+        assertThat(scheduler.pending()).isZero();
+    }
+
+    @Test
+    void shouldScheduleDerivedBirthdayAndDeriveItAgainOnDispatch() {
+        User user = new User("user1", "Maria", "maria@example.com", "Password@123", LocalDate.of(1990, 7, 30));
+        when(settingsRepository.findByUserIdIn(anyCollection())).thenReturn(List.of());
+        when(userRepository.findActiveByBirthdayBetween(LocalDate.of(2025, 7, 30), LocalDate.of(2025, 7, 31))).thenReturn(List.of(user));
+        when(eventRepository.findStoredBirthdays(eq("user1"), anyCollection(), any(), any())).thenReturn(List.of());
+
+        scheduler.tick(START);
+
+        assertThat(scheduler.pending()).isEqualTo(1);
+
+        // Não há documento gravado: o disparo deriva o aniversário de novo a partir do cadastro
+        when(eventRepository.findNotifiableUpdatedSince(any())).thenReturn(List.of());
+        when(eventRepository.findAllById(anyCollection())).thenReturn(List.of());
+        when(userRepository.findByIdAndActiveTrue("user1")).thenReturn(Optional.of(user));
+
+        scheduler.tick(START.plusSeconds(11 * 60));
+
+        verify(emailSender).send(argThat(sent -> "birthday-user1-2025".equals(sent.getId())));
+        verify(logRepository).save(argThat(log -> "birthday-user1-2025".equals(log.getEventId())
+                && log.getStatus() == NotificationStatus.SUCCESS));
+        assertThat(scheduler.pending()).isZero();
+    }
+
+    @Test
+    void shouldNotScheduleDerivedBirthdayAlreadyStored() {
+        User user = new User("user1", "Maria", "maria@example.com", "Password@123", LocalDate.of(1990, 7, 30));
+        Event deleted = new Event("birthday-user1-2025", "Seu aniversário!!", "Desc", Recurrence.SINGLE, LocalDate.of(2025, 7, 30),
+                null, LocalTime.of(10, 0), LocalTime.of(10, 0), true, NotificationType.EMAIL, "user1");
+        deleted.setActive(false);
+        when(userRepository.findActiveByBirthdayBetween(any(), any())).thenReturn(List.of(user));
+        when(eventRepository.findStoredBirthdays(eq("user1"), anyCollection(), any(), any())).thenReturn(List.of(deleted));
+
+        scheduler.tick(START);
+
+        assertThat(scheduler.pending()).isZero();
+    }
+
+    @Test
+    void shouldDropReminderWhenEventChangedBeforeDispatch() {
+        when(settingsRepository.findByUserIdIn(anyCollection())).thenReturn(List.of());
+        when(eventRepository.findNotifiableBetween(any(), any())).thenReturn(List.of(event));
+        scheduler.tick(START);
+
+        Event edited = new Event("1", "Reunião", "Desc", Recurrence.SINGLE, LocalDate.of(2025, 7, 30),
+                null, LocalTime.of(10, 0), LocalTime.of(9, 58), true, NotificationType.EMAIL, "user1");
+        when(eventRepository.findNotifiableUpdatedSince(any())).thenReturn(List.of(edited));
+        when(eventRepository.findAllById(anyCollection())).thenReturn(List.of(edited));
+
+        scheduler.tick(START.plusSeconds(6 * 60));
+
+        // O lembrete antigo (09:55) é descartado; o novo (09:58) ainda não venceu
+        verify(emailSender, never()).send(any());
+        verify(logRepository, never()).save(any());
+        assertThat(scheduler.pending()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordSkippedWhenChannelHasNoProvider() {
+        when(settingsRepository.findByUserIdIn(anyCollection())).thenReturn(List.of());
+        when(eventRepository.findNotifiableBetween(any(), any())).thenReturn(List.of(event));
+        scheduler.tick(START);
+
+        when(eventRepository.findNotifiableUpdatedSince(any())).thenReturn(List.of());
+        when(eventRepository.findAllById(anyCollection())).thenReturn(List.of(event));
+        doThrow(new NotificationChannelUnavailableException(NotificationType.EMAIL)).when(emailSender).send(event);
+
+        scheduler.tick(START.plusSeconds(6 * 60));
+
+        verify(logRepository).save(argThat(log -> "1".equals(log.getEventId())
+                && log.getStatus() == NotificationStatus.SKIPPED));
+    }
+
+    @Test
+    void shouldSkipChannelDisabledInSettings() {
+        NotificationSettings settings = new NotificationSettings(null, "user1", false, true,
+                LocalTime.of(22, 0), LocalTime.of(7, 0), 15);
+        when(settingsRepository.findByUserIdIn(anyCollection())).thenReturn(List.of(settings));
+        when(eventRepository.findNotifiableBetween(any(), any())).thenReturn(List.of(event));
+        scheduler.tick(START);
+
+        when(eventRepository.findNotifiableUpdatedSince(any())).thenReturn(List.of());
+        when(eventRepository.findAllById(anyCollection())).thenReturn(List.of(event));
+
+        scheduler.tick(START.plusSeconds(6 * 60));
+
+        verify(emailSender, never()).send(any());
+        verify(logRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldApplySettingsUpdatedAfterReminderWasQueued() {
+        when(settingsRepository.findByUserIdIn(anyCollection())).thenReturn(List.of());
+        when(eventRepository.findNotifiableBetween(any(), any())).thenReturn(List.of(event));
+        scheduler.tick(START);
+
+        // O usuário desliga o e-mail depois que o lembrete já está na fila
+        NotificationSettings updated = new NotificationSettings("settings-1", "user1", false, true,
+                LocalTime.of(22, 0), LocalTime.of(7, 0), 15);
+        when(settingsRepository.findByUserIdIn(anyCollection())).thenReturn(List.of(updated));
+        when(eventRepository.findNotifiableUpdatedSince(any())).thenReturn(List.of());
+        when(eventRepository.findAllById(anyCollection())).thenReturn(List.of(event));
+
+        scheduler.tick(START.plusSeconds(6 * 60));
+
+        verify(emailSender, never()).send(any());
+        verify(logRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldCoalesceQuietHoursRemindersIntoSingleDigestAtQuietHoursEnd() {
+        ReminderScheduler nightScheduler = new ReminderScheduler(eventRepository, userRepository, settingsRepository, logRepository,
+                List.of(emailSender), "UTC", 10, 60, 30, 500);
+        Event late = new Event("10", "Plantão", "Desc", Recurrence.SINGLE, LocalDate.of(2025, 7, 30),
+                null, LocalTime.of(23, 15), LocalTime.of(23, 0), true, NotificationType.EMAIL, "user1");
+        Event later = new Event("11", "Deploy", "Desc", Recurrence.SINGLE, LocalDate.of(2025, 7, 30),
+                null, LocalTime.of(23, 45), LocalTime.of(23, 30), true, NotificationType.EMAIL, "user1");
+        // Sem configuração gravada vale o padrão: silêncio das 22:00 às 07:00
+        when(settingsRepository.findByUserIdIn(anyCollection())).thenReturn(List.of());
+        when(eventRepository.findNotifiableBetween(any(), any())).thenReturn(List.of(late, later));
+
+        nightScheduler.tick(Instant.parse("2025-07-30T22:50:00Z"));
+        assertThat(nightScheduler.pending()).isEqualTo(2);
+
+        when(eventRepository.findNotifiableUpdatedSince(any())).thenReturn(List.of());
+        nightScheduler.tick(Instant.parse("2025-07-30T23:40:00Z"));
+        verify(logRepository, never()).save(any());
+
+        when(eventRepository.findAllById(anyCollection())).thenReturn(List.of(late, later));
+        nightScheduler.tick(Instant.parse("2025-07-31T07:00:00Z"));
+
+        verify(emailSender, never()).send(any());
+        verify(emailSender, times(1)).sendDigest(eq("user1"),
+                argThat(events -> events.size() == 2 && events.containsAll(List.of(late, later))));
+        verify(logRepository, times(2)).save(argThat(log -> log.getStatus() == NotificationStatus.SUCCESS));
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.crystalplan.benchmarks;
+
+import com.project.crystalplan.domain.models.Event;
+import com.project.crystalplan.infrastructure.persistence.mongo.document.EventDocument;
+import com.project.crystalplan.infrastructure.persistence.mongo.mapper.EventMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.DayOfWeek;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventMapperBenchmark {
+
+    private final EventMapper mapper = new EventMapper();
+
+    private Event event;
+    private EventDocument document;
+
+    @Setup
+    public void setUp() {
+        event = Fixtures.weeklyEvent(EnumSet.of(DayOfWeek.TUESDAY, DayOfWeek.THURSDAY));
+        event.setId("64b7f0c2e1a4c2a9d3f1b0aa");
+        document = mapper.toDocument(event);
+    }
+
+    @Benchmark
+    public EventDocument toDocument() {
+        return mapper.toDocument(event);
+    }
+
+    @Benchmark
+    public Event toDomain() {
+        return mapper.toDomain(document);
+    }
+}
@@ -0,0 +1,62 @@
+package com.project.crystalplan.benchmarks;
+
+import com.project.crystalplan.domain.exceptions.InvalidArgumentException;
+import com.project.crystalplan.domain.models.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventValidationBenchmark {
+
+    private Event single;
+    private Event weekly;
+    private Event invalid;
+
+    @Setup
+    public void setUp() {
+        single = Fixtures.singleEvent(LocalDate.of(2025, 9, 10));
+        weekly = Fixtures.weeklyEvent(EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY));
+        invalid = Fixtures.singleEvent(null);
+    }
+
+    @Benchmark
+    public Event validateSingle() {
+        single.validate();
+        return single;
+    }
+
+    @Benchmark
+    public Event validateWeekly() {
+        weekly.validate();
+        return weekly;
+    }
+
+    @Benchmark
+    public InvalidArgumentException validateInvalid() {
+        // Mede o custo de rejeitar o evento, que inclui montar a exceção com stack trace
+        try {
+            invalid.validate();
+            return null;
+        } catch (InvalidArgumentException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.project.crystalplan.benchmarks;
+
+import com.project.crystalplan.domain.enums.NotificationType;
+import com.project.crystalplan.domain.enums.Recurrence;
+import com.project.crystalplan.domain.models.Event;
+
+import java.lang.reflect.Proxy;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Dados e dublês compartilhados pelos benchmarks. Os repositórios são implementados com {@link Proxy}
+ * para que só o código da aplicação entre na medição, sem Mongo nem Mockito.
+ */
+final class Fixtures {
+
+    static final String USER_ID = "64b7f0c2e1a4c2a9d3f1b001";
+
+    private Fixtures() {}
+
+    static Event singleEvent(LocalDate date) {
+        return new Event(null, "Consulta", "Levar exames", Recurrence.SINGLE, date, null,
+                LocalTime.of(14, 30), LocalTime.of(14, 0), true, NotificationType.EMAIL, USER_ID);
+    }
+
+    static Event weeklyEvent(Set<DayOfWeek> days) {
+        return new Event(null, "Academia", "Treino", Recurrence.WEEKLY, null, days,
+                LocalTime.of(7, 0), null, true, NotificationType.VISUAL, USER_ID);
+    }
+
+    /**
+     * Mistura determinística de eventos únicos espalhados por um ano e semanais com um a três dias,
+     * na proporção de quatro para um.
+     */
+    static List<Event> mixedEvents(int count, LocalDate from) {
+        Random random = new Random(42);
+        DayOfWeek[] days = DayOfWeek.values();
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Event event;
+            if (i % 5 == 4) {
+                Set<DayOfWeek> weekly = EnumSet.noneOf(DayOfWeek.class);
+                for (int d = 0, n = 1 + random.nextInt(3); d < n; d++) {
+                    weekly.add(days[random.nextInt(days.length)]);
+                }
+                event = weeklyEvent(weekly);
+            } else {
+                event = singleEvent(from.plusDays(random.nextInt(365)));
+            }
+            event.setId(Integer.toHexString(i));
+            events.add(event);
+        }
+        return events;
+    }
+
+    /**
+     * Implementa a interface respondendo pelos métodos mapeados em {@code answers}; os demais devolvem
+     * {@code null} (ou {@code false} para {@code boolean}).
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            return method.getReturnType() == boolean.class ? Boolean.FALSE : null;
+        });
+    }
+}
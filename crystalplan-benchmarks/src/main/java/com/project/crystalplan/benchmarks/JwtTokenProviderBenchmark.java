@@ -0,0 +1,70 @@
+package com.project.crystalplan.benchmarks;
+
+import com.project.crystalplan.infrastructure.security.jwt.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emissão e verificação de tokens. Com {@code verifiedCacheMaxSize = 0} toda chamada verifica a
+ * assinatura; com cache, mede o caminho de uma requisição autenticada repetida.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-com-pelo-menos-256-bits-para-hs256!!";
+
+    @Param({"0", "10000"})
+    public long verifiedCacheMaxSize;
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        set("secretKey", SECRET);
+        set("validityInMilliseconds", 86_400_000L);
+        set("verifiedCacheMaxSize", verifiedCacheMaxSize);
+        Method init = ReflectionUtils.findMethod(JwtTokenProvider.class, "init");
+        ReflectionUtils.makeAccessible(init);
+        ReflectionUtils.invokeMethod(init, tokenProvider);
+
+        token = tokenProvider.createToken(Fixtures.USER_ID, "maria.silva@example.com.br");
+    }
+
+    @Benchmark
+    public String createToken() {
+        return tokenProvider.createToken(Fixtures.USER_ID, "maria.silva@example.com.br");
+    }
+
+    @Benchmark
+    public Optional<String> resolveUserId() {
+        return tokenProvider.resolveUserId(token);
+    }
+
+    private void set(String name, Object value) {
+        Field field = ReflectionUtils.findField(JwtTokenProvider.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, tokenProvider, value);
+    }
+}
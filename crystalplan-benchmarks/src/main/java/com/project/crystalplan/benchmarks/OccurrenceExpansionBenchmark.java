@@ -0,0 +1,84 @@
+package com.project.crystalplan.benchmarks;
+
+import com.project.crystalplan.application.impl.EventServiceImpl;
+import com.project.crystalplan.domain.models.Event;
+import com.project.crystalplan.domain.models.EventOccurrence;
+import com.project.crystalplan.domain.models.User;
+import com.project.crystalplan.domain.repositories.EventRepository;
+import com.project.crystalplan.domain.repositories.EventVersionRepository;
+import com.project.crystalplan.domain.repositories.UserCache;
+import com.project.crystalplan.domain.repositories.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expansão de ocorrências de {@link EventServiceImpl#getOccurrencesBetween} sobre conjuntos grandes de
+ * eventos, com o repositório devolvendo a lista já carregada. Inclui a derivação de aniversários e a
+ * ordenação final.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OccurrenceExpansionBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    @Param({"100", "1000", "10000"})
+    public int eventCount;
+
+    @Param({"30", "365"})
+    public int windowDays;
+
+    private EventServiceImpl eventService;
+    private List<Event> events;
+    private LocalDate end;
+
+    @Setup
+    public void setUp() {
+        events = Fixtures.mixedEvents(eventCount, START);
+        end = START.plusDays(windowDays - 1);
+
+        User user = new User(Fixtures.USER_ID, "Maria Silva", "maria.silva@example.com.br", "Senha@2025", LocalDate.of(1990, 7, 15));
+        EventRepository eventRepository = Fixtures.stub(EventRepository.class, Map.of(
+                "findOccurrenceCandidates", args -> events,
+                "findStoredBirthdays", args -> List.of()
+        ));
+        UserRepository userRepository = Fixtures.stub(UserRepository.class, Map.of(
+                "findByIdAndActiveTrue", args -> Optional.of(user)
+        ));
+        eventService = new EventServiceImpl(eventRepository, userRepository,
+                Fixtures.stub(UserCache.class, Map.of("get", args -> Optional.of(user))),
+                Fixtures.stub(EventVersionRepository.class, Map.of()));
+    }
+
+    @Benchmark
+    public List<EventOccurrence> serviceExpansion() {
+        return eventService.getOccurrencesBetween(Fixtures.USER_ID, START, end);
+    }
+
+    @Benchmark
+    public void eventExpansionOnly(Blackhole blackhole) {
+        for (Event event : events) {
+            blackhole.consume(event.occurrencesBetween(START, end));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.project.crystalplan.benchmarks;
+
+import com.project.crystalplan.application.impl.UserServiceImpl;
+import com.project.crystalplan.domain.exceptions.InvalidArgumentException;
+import com.project.crystalplan.domain.models.User;
+import com.project.crystalplan.domain.repositories.EventVersionRepository;
+import com.project.crystalplan.domain.repositories.UserCache;
+import com.project.crystalplan.domain.repositories.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validação de cadastro em {@link UserServiceImpl#createUser}. O repositório responde que o e-mail já
+ * existe, então o caso válido percorre todas as regras e para antes de gerar UUID e gravar.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UserValidationBenchmark {
+
+    private UserServiceImpl userService;
+
+    private User valid;
+    private User invalidEmail;
+    private User invalidPassword;
+
+    @Setup
+    public void setUp() {
+        UserRepository userRepository = Fixtures.stub(UserRepository.class, Map.of("existsByEmail", args -> true));
+        userService = new UserServiceImpl(userRepository, Fixtures.stub(UserCache.class, Map.of()),
+                Fixtures.stub(EventVersionRepository.class, Map.of()));
+
+        LocalDate birthday = LocalDate.of(1990, 7, 15);
+        valid = new User(null, "Maria Silva", "maria.silva@example.com.br", "Senha@2025", birthday);
+        invalidEmail = new User(null, "Maria Silva", "maria.silva@example", "Senha@2025", birthday);
+        invalidPassword = new User(null, "Maria Silva", "maria.silva@example.com.br", "senhasemnumero", birthday);
+    }
+
+    @Benchmark
+    public InvalidArgumentException validUser() {
+        return create(valid);
+    }
+
+    @Benchmark
+    public InvalidArgumentException invalidEmail() {
+        return create(invalidEmail);
+    }
+
+    @Benchmark
+    public InvalidArgumentException invalidPassword() {
+        return create(invalidPassword);
+    }
+
+    private InvalidArgumentException create(User user) {
+        try {
+            userService.createUser(user);
+            return null;
+        } catch (InvalidArgumentException e) {
+            return e;
+        }
+    }
+}
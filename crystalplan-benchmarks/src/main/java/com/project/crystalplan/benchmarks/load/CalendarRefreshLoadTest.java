@@ -0,0 +1,113 @@
+package com.project.crystalplan.benchmarks.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Carga de "atualização do calendário": muitos clientes pedindo as ocorrências do mês ao mesmo tempo.
+ * <p>
+ * Não roda no build (veja o README). Para comparar os modos de execução, suba a aplicação uma vez
+ * com {@code VIRTUAL_THREADS_ENABLED=false} e outra com {@code true}, e rode contra cada uma:
+ * <pre>
+ * java -cp crystalplan-benchmarks/target/benchmarks.jar \
+ *     -Dbase-url=http://localhost:8080/api -Dtoken=&lt;jwt&gt; -Duser-id=&lt;id&gt; \
+ *     -Dconcurrency=1000 -Drequests=50000 \
+ *     com.project.crystalplan.benchmarks.load.CalendarRefreshLoadTest
+ * </pre>
+ * Com platform threads a concorrência efetiva fica presa em {@code server.tomcat.threads.max} (200);
+ * com virtual threads o limite passa a ser {@code crystalplan.mongo.pool.max-size}.
+ */
+public final class CalendarRefreshLoadTest {
+
+    private CalendarRefreshLoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("base-url", "http://localhost:8080/api");
+        String token = System.getProperty("token", "");
+        String userId = System.getProperty("user-id", "");
+        int concurrency = Integer.getInteger("concurrency", 500);
+        int requests = Integer.getInteger("requests", 20_000);
+        int warmup = Integer.getInteger("warmup", 1_000);
+
+        LocalDate start = LocalDate.now().withDayOfMonth(1);
+        URI uri = URI.create(baseUrl + "/events/user/" + userId + "/occurrences?start=" + start
+                + "&end=" + start.plusMonths(1).minusDays(1));
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        System.out.printf("Alvo: %s | concorrência %d | %d requisições%n", uri, concurrency, requests);
+        run(client, request, concurrency, warmup);
+        Result result = run(client, request, concurrency, requests);
+        result.print();
+    }
+
+    private static Result run(HttpClient client, HttpRequest request, int concurrency, int requests) throws Exception {
+        Semaphore inFlight = new Semaphore(concurrency);
+        AtomicInteger errors = new AtomicInteger();
+        long[] latencies = new long[requests];
+        List<Future<?>> futures = new ArrayList<>(requests);
+
+        long begin = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                inFlight.acquire();
+                futures.add(executor.submit(() -> {
+                    long sent = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies[index] = System.nanoTime() - sent;
+                        inFlight.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return new Result(requests, errors.get(), System.nanoTime() - begin, latencies);
+    }
+
+    private record Result(int requests, int errors, long elapsedNanos, long[] latencies) {
+
+        void print() {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            double seconds = elapsedNanos / 1e9;
+            System.out.printf("Vazão: %.1f req/s | erros: %d%n", requests / seconds, errors);
+            System.out.printf("Latência (ms) p50 %.1f | p95 %.1f | p99 %.1f | máx %.1f%n",
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    sorted[sorted.length - 1] / 1e6);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1e6;
+        }
+    }
+}
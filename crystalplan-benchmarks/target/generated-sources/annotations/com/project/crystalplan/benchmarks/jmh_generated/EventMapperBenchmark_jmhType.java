@@ -0,0 +1,4 @@
+package com.project.crystalplan.benchmarks.jmh_generated;
+public class EventMapperBenchmark_jmhType extends EventMapperBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.project.crystalplan.benchmarks.jmh_generated;
+public class EventValidationBenchmark_jmhType extends EventValidationBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.project.crystalplan.benchmarks.jmh_generated;
+public class JwtTokenProviderBenchmark_jmhType extends JwtTokenProviderBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.project.crystalplan.benchmarks.jmh_generated;
+public class OccurrenceExpansionBenchmark_jmhType extends OccurrenceExpansionBenchmark_jmhType_B3 {
+}
+
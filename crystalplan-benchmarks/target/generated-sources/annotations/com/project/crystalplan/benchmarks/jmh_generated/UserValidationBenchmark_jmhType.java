@@ -0,0 +1,4 @@
+package com.project.crystalplan.benchmarks.jmh_generated;
+public class UserValidationBenchmark_jmhType extends UserValidationBenchmark_jmhType_B3 {
+}
+
@@ -3,5 +3,6 @@ package com.project.crystalplan.domain.enums;
 public enum NotificationStatus {
     SANDED,
     SUCCESS,
-    FAILURE
+    FAILURE,
+    SKIPPED
 }
@@ -0,0 +1,22 @@
+package com.project.crystalplan.domain.exceptions;
+
+import java.util.Map;
+
+public class BatchInsertException extends RuntimeException {
+    private final int insertedCount;
+    private final Map<Integer, String> failures;
+
+    public BatchInsertException(int insertedCount, Map<Integer, String> failures) {
+        super(String.format("%d registro(s) inserido(s); falhas por posição no lote: %s", insertedCount, failures));
+        this.insertedCount = insertedCount;
+        this.failures = failures;
+    }
+
+    public int getInsertedCount() {
+        return insertedCount;
+    }
+
+    public Map<Integer, String> getFailures() {
+        return failures;
+    }
+}
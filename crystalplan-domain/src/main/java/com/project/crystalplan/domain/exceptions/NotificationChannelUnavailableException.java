@@ -0,0 +1,9 @@
+package com.project.crystalplan.domain.exceptions;
+
+import com.project.crystalplan.domain.enums.NotificationType;
+
+public class NotificationChannelUnavailableException extends RuntimeException {
+    public NotificationChannelUnavailableException(NotificationType type) {
+        super(String.format("Nenhum provedor configurado para notificações do tipo %s", type));
+    }
+}
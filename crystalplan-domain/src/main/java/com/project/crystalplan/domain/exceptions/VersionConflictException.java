@@ -0,0 +1,7 @@
+package com.project.crystalplan.domain.exceptions;
+
+public class VersionConflictException extends RuntimeException {
+    public VersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,141 @@
+package com.project.crystalplan.domain.models;
+
+import com.project.crystalplan.domain.enums.NotificationType;
+import com.project.crystalplan.domain.enums.Recurrence;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Eventos de aniversário derivados de {@link User#getBirthday()}. Não são gravados no banco:
+ * são calculados na leitura e só viram documento quando o usuário edita ou exclui um deles,
+ * sempre usando o id determinístico {@code birthday-<userId>-<ano>}.
+ */
+public final class BirthdayEvents {
+
+    public static final String TITLE = "Seu aniversário!!";
+    public static final int DEFAULT_HORIZON_YEARS = 20;
+    public static final String ID_PREFIX = "birthday-";
+
+    private static final LocalTime EVENT_TIME = LocalTime.of(10, 0);
+
+    private BirthdayEvents() {}
+
+    public static String idFor(String userId, int year) {
+        return ID_PREFIX + userId + "-" + year;
+    }
+
+    public static boolean isDerivedId(String id) {
+        return userIdOf(id).isPresent() && yearOf(id).isPresent();
+    }
+
+    public static Optional<String> userIdOf(String id) {
+        if (id == null || !id.startsWith(ID_PREFIX)) {
+            return Optional.empty();
+        }
+        int separator = id.lastIndexOf('-');
+        if (separator <= ID_PREFIX.length()) {
+            return Optional.empty();
+        }
+        return Optional.of(id.substring(ID_PREFIX.length(), separator));
+    }
+
+    public static Optional<Integer> yearOf(String id) {
+        if (id == null || !id.startsWith(ID_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Integer.parseInt(id.substring(id.lastIndexOf('-') + 1)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    public static Optional<Event> forYear(User user, int year) {
+        if (user.getBirthday() == null || year <= user.getBirthday().getYear()) {
+            return Optional.empty();
+        }
+
+        LocalDate birthday = user.getBirthday();
+        int age = year - birthday.getYear();
+        String description = String.format(
+                "Feliz Aniversário, %s!!! É um dia muito importante, espero que aproveite seu dia! Parabéns pelo seu aniversário de %d anos.",
+                user.getName(), age
+        );
+
+        Event event = new Event(
+                idFor(user.getId(), year),
+                TITLE,
+                description,
+                Recurrence.SINGLE,
+                birthday.withYear(year),
+                null,
+                EVENT_TIME,
+                EVENT_TIME,
+                true,
+                NotificationType.EMAIL,
+                user.getId()
+        );
+        // Identidade e datas estáveis: dependem apenas do usuário que originou o evento
+        event.setUuid(event.getId());
+        event.setCreatedAt(user.getCreatedAt());
+        event.setUpdatedAt(user.getUpdatedAt());
+        return Optional.of(event);
+    }
+
+    public static List<Event> between(User user, LocalDate startDate, LocalDate endDate) {
+        List<Event> events = new ArrayList<>();
+        if (user.getBirthday() == null || startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            return events;
+        }
+        for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
+            forYear(user, year)
+                    .filter(event -> !event.getEventDate().isBefore(startDate) && !event.getEventDate().isAfter(endDate))
+                    .ifPresent(events::add);
+        }
+        return events;
+    }
+
+    /**
+     * Descarta os derivados que já têm aniversário gravado, ativo ou não: os materializados (editados
+     * ou excluídos) pelo id e os legados, gravados antes da derivação, pela data.
+     */
+    public static List<Event> withoutStored(List<Event> derived, Collection<Event> stored) {
+        Set<String> materialized = new HashSet<>();
+        Set<LocalDate> legacyDates = new HashSet<>();
+        for (Event event : stored) {
+            materialized.add(event.getId());
+            if (TITLE.equals(event.getTitle()) && event.getRecurrence() == Recurrence.SINGLE) {
+                legacyDates.add(event.getEventDate());
+            }
+        }
+        List<Event> remaining = new ArrayList<>();
+        for (Event event : derived) {
+            if (!materialized.contains(event.getId()) && !legacyDates.contains(event.getEventDate())) {
+                remaining.add(event);
+            }
+        }
+        return remaining;
+    }
+
+    public static List<Event> upcoming(User user, LocalDate today, int years) {
+        List<Event> events = new ArrayList<>();
+        if (user.getBirthday() == null) {
+            return events;
+        }
+        int firstYear = today.getYear();
+        if (user.getBirthday().withYear(firstYear).isBefore(today)) {
+            firstYear++;
+        }
+        for (int year = firstYear; year < firstYear + years; year++) {
+            forYear(user, year).ifPresent(events::add);
+        }
+        return events;
+    }
+}
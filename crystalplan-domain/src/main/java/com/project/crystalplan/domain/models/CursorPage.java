@@ -0,0 +1,23 @@
+package com.project.crystalplan.domain.models;
+
+import java.util.List;
+
+public class CursorPage<T> {
+    private List<T> items;
+    private String nextCursor;
+
+    public CursorPage() {}
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() { return nextCursor != null; }
+
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
@@ -0,0 +1,50 @@
+package com.project.crystalplan.domain.models;
+
+import java.time.Duration;
+
+/**
+ * Faixas fixas do atraso de entrega (envio menos horário agendado), em segundos. Somar contagens por
+ * faixa é o que permite manter os percentis em documentos incrementais, sem guardar cada amostra.
+ * A faixa {@code i} vai de {@code BOUNDS_SECONDS[i - 1]} (exclusive) até {@code BOUNDS_SECONDS[i]};
+ * a última faixa recebe tudo acima do maior limite.
+ */
+public final class DeliveryDelayHistogram {
+
+    public static final long[] BOUNDS_SECONDS = {0, 1, 5, 15, 30, 60, 120, 300, 600, 1800, 3600};
+    public static final int BUCKETS = BOUNDS_SECONDS.length + 1;
+
+    private DeliveryDelayHistogram() {}
+
+    public static int bucketOf(Duration delay) {
+        long seconds = (long) Math.ceil(delay.toMillis() / 1000.0);
+        for (int i = 0; i < BOUNDS_SECONDS.length; i++) {
+            if (seconds <= BOUNDS_SECONDS[i]) {
+                return i;
+            }
+        }
+        return BOUNDS_SECONDS.length;
+    }
+
+    /**
+     * Limite superior da faixa que contém o percentil {@code p} (0 a 1), ou {@code null} sem amostras.
+     * Na última faixa devolve o maior limite, que passa a ser um piso.
+     */
+    public static Long percentile(long[] counts, double p) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return null;
+        }
+        long rank = (long) Math.ceil(p * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return BOUNDS_SECONDS[Math.min(i, BOUNDS_SECONDS.length - 1)];
+            }
+        }
+        return BOUNDS_SECONDS[BOUNDS_SECONDS.length - 1];
+    }
+}
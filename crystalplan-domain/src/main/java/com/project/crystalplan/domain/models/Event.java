@@ -6,7 +6,12 @@ import com.project.crystalplan.domain.exceptions.InvalidArgumentException;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 public class Event extends BaseModel{
@@ -21,6 +26,7 @@ public class Event extends BaseModel{
     private boolean notify = false;
     private NotificationType notificationType;
     private String userId;
+    private Long version;
 
     public Event() {}
 
@@ -67,14 +73,62 @@ public class Event extends BaseModel{
             if (notificationType == null) {
                 throw new InvalidArgumentException("notificationType deve ser informado quando notify é true");
             }
-            if (reminderTime == null) {
-                reminderTime = LocalTime.of(10, 0);
-            }
+            // Sem reminderTime, o lembrete sai defaultReminderMinutesBefore minutos antes do evento (ver reminderAt)
         } else {
             notificationType = null;
         }
     }
 
+    public List<LocalDate> occurrencesBetween(LocalDate startDate, LocalDate endDate) {
+        List<LocalDate> dates = new ArrayList<>();
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            return dates;
+        }
+
+        if (recurrence == Recurrence.SINGLE) {
+            if (eventDate != null && !eventDate.isBefore(startDate) && !eventDate.isAfter(endDate)) {
+                dates.add(eventDate);
+            }
+        } else if (recurrence == Recurrence.WEEKLY && daysOfWeek != null) {
+            // Salta direto para a primeira ocorrência de cada dia e avança de semana em semana
+            for (DayOfWeek day : daysOfWeek) {
+                LocalDate date = startDate.with(TemporalAdjusters.nextOrSame(day));
+                while (!date.isAfter(endDate)) {
+                    dates.add(date);
+                    date = date.plusWeeks(1);
+                }
+            }
+            Collections.sort(dates);
+        }
+        return dates;
+    }
+
+    public LocalDateTime reminderAt(LocalDate occurrence, int defaultMinutesBefore) {
+        if (reminderTime != null) {
+            return occurrence.atTime(reminderTime);
+        }
+        if (eventTime != null) {
+            return occurrence.atTime(eventTime).minusMinutes(defaultMinutesBefore);
+        }
+        return null;
+    }
+
+    public List<LocalDateTime> reminderTimesBetween(LocalDateTime from, LocalDateTime to, int defaultMinutesBefore) {
+        List<LocalDateTime> reminders = new ArrayList<>();
+        if (!notify || from == null || to == null || !to.isAfter(from)) {
+            return reminders;
+        }
+
+        // O lembrete pode cair no dia anterior ao evento, então a busca vai um dia além do fim da janela
+        for (LocalDate date : occurrencesBetween(from.toLocalDate(), to.toLocalDate().plusDays(1))) {
+            LocalDateTime reminder = reminderAt(date, defaultMinutesBefore);
+            if (reminder != null && !reminder.isBefore(from) && reminder.isBefore(to)) {
+                reminders.add(reminder);
+            }
+        }
+        return reminders;
+    }
+
     public String getId() { return id; }
     public void setId(String id) { this.id = id; }
 
@@ -107,4 +161,7 @@ public class Event extends BaseModel{
 
     public String getUserId() { return userId; }
     public void setUserId(String userId) { this.userId = userId; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
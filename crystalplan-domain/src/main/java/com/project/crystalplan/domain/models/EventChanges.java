@@ -0,0 +1,41 @@
+package com.project.crystalplan.domain.models;
+
+import java.util.List;
+
+/**
+ * Alterações de eventos desde o cursor informado pelo cliente: eventos criados ou editados, ids
+ * excluídos e o cursor a guardar para a próxima sincronização. Com {@code reset} o cursor enviado
+ * expirou e o cliente deve descartar a cópia local antes de aplicar as páginas seguintes.
+ */
+public class EventChanges {
+    private List<Event> events;
+    private List<String> deletedIds;
+    private String cursor;
+    private boolean hasMore;
+    private boolean reset;
+
+    public EventChanges() {}
+
+    public EventChanges(List<Event> events, List<String> deletedIds, String cursor, boolean hasMore, boolean reset) {
+        this.events = events;
+        this.deletedIds = deletedIds;
+        this.cursor = cursor;
+        this.hasMore = hasMore;
+        this.reset = reset;
+    }
+
+    public List<Event> getEvents() { return events; }
+    public void setEvents(List<Event> events) { this.events = events; }
+
+    public List<String> getDeletedIds() { return deletedIds; }
+    public void setDeletedIds(List<String> deletedIds) { this.deletedIds = deletedIds; }
+
+    public String getCursor() { return cursor; }
+    public void setCursor(String cursor) { this.cursor = cursor; }
+
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+
+    public boolean isReset() { return reset; }
+    public void setReset(boolean reset) { this.reset = reset; }
+}
@@ -0,0 +1,21 @@
+package com.project.crystalplan.domain.models;
+
+import java.time.LocalDate;
+
+public class EventOccurrence {
+    private LocalDate date;
+    private Event event;
+
+    public EventOccurrence() {}
+
+    public EventOccurrence(LocalDate date, Event event) {
+        this.date = date;
+        this.event = event;
+    }
+
+    public LocalDate getDate() { return date; }
+    public void setDate(LocalDate date) { this.date = date; }
+
+    public Event getEvent() { return event; }
+    public void setEvent(Event event) { this.event = event; }
+}
@@ -0,0 +1,66 @@
+package com.project.crystalplan.domain.models;
+
+import com.project.crystalplan.domain.enums.NotificationType;
+import com.project.crystalplan.domain.enums.Recurrence;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+/**
+ * Versão resumida de {@link Event} para grades e listas: sem descrição, lembrete nem auditoria.
+ */
+public class EventSummary {
+    private String id;
+    private String title;
+    private Recurrence recurrence;
+    private LocalDate eventDate;
+    private Set<DayOfWeek> daysOfWeek;
+    private LocalTime eventTime;
+    private boolean notify;
+    private NotificationType notificationType;
+
+    public EventSummary() {}
+
+    public EventSummary(String id, String title, Recurrence recurrence, LocalDate eventDate, Set<DayOfWeek> daysOfWeek,
+                        LocalTime eventTime, boolean notify, NotificationType notificationType) {
+        this.id = id;
+        this.title = title;
+        this.recurrence = recurrence;
+        this.eventDate = eventDate;
+        this.daysOfWeek = daysOfWeek;
+        this.eventTime = eventTime;
+        this.notify = notify;
+        this.notificationType = notificationType;
+    }
+
+    public static EventSummary of(Event event) {
+        return new EventSummary(event.getId(), event.getTitle(), event.getRecurrence(), event.getEventDate(),
+                event.getDaysOfWeek(), event.getEventTime(), event.isNotify(), event.getNotificationType());
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public Recurrence getRecurrence() { return recurrence; }
+    public void setRecurrence(Recurrence recurrence) { this.recurrence = recurrence; }
+
+    public LocalDate getEventDate() { return eventDate; }
+    public void setEventDate(LocalDate eventDate) { this.eventDate = eventDate; }
+
+    public Set<DayOfWeek> getDaysOfWeek() { return daysOfWeek; }
+    public void setDaysOfWeek(Set<DayOfWeek> daysOfWeek) { this.daysOfWeek = daysOfWeek; }
+
+    public LocalTime getEventTime() { return eventTime; }
+    public void setEventTime(LocalTime eventTime) { this.eventTime = eventTime; }
+
+    public boolean isNotify() { return notify; }
+    public void setNotify(boolean notify) { this.notify = notify; }
+
+    public NotificationType getNotificationType() { return notificationType; }
+    public void setNotificationType(NotificationType notificationType) { this.notificationType = notificationType; }
+}
@@ -0,0 +1,84 @@
+package com.project.crystalplan.domain.models;
+
+import com.project.crystalplan.domain.exceptions.InvalidArgumentException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * Posição da sincronização de eventos, ordenada por {@code updatedAt} e {@code id} crescentes.
+ * Trafega como token opaco (Base64 de {@code <updatedAt>:<issuedAt>:<id>}, em epoch millis) e é
+ * guardada pelo cliente entre uma sincronização e outra.
+ * <p>
+ * Eventos excluídos ficam gravados como tombstone por {@link #MAX_AGE}; um cursor emitido antes disso
+ * pode ter perdido exclusões e obriga o cliente a sincronizar do zero.
+ */
+public class EventSyncCursor {
+
+    public static final Duration MAX_AGE = Duration.ofDays(30);
+
+    private final LocalDateTime updatedAt;
+    private final String id;
+    private final LocalDateTime issuedAt;
+
+    public EventSyncCursor(LocalDateTime updatedAt, String id, LocalDateTime issuedAt) {
+        this.updatedAt = updatedAt;
+        this.id = id;
+        this.issuedAt = issuedAt;
+    }
+
+    /** Posição antes de qualquer evento, para quem ainda não tem nenhum gravado. */
+    public static EventSyncCursor start(LocalDateTime issuedAt) {
+        return new EventSyncCursor(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), "0", issuedAt);
+    }
+
+    public static EventSyncCursor after(Event event, LocalDateTime issuedAt) {
+        return new EventSyncCursor(event.getUpdatedAt(), event.getId(), issuedAt);
+    }
+
+    public static EventSyncCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = value.split(":", 3);
+            if (parts.length < 3 || parts[2].isEmpty()) {
+                throw new IllegalArgumentException();
+            }
+            return new EventSyncCursor(fromEpochMillis(parts[0]), parts[2], fromEpochMillis(parts[1]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidArgumentException("Cursor de sincronização inválido");
+        }
+    }
+
+    public String encode() {
+        String value = toEpochMillis(updatedAt) + ":" + toEpochMillis(issuedAt) + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public EventSyncCursor reissuedAt(LocalDateTime issuedAt) {
+        return new EventSyncCursor(updatedAt, id, issuedAt);
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return issuedAt.isBefore(now.minus(MAX_AGE));
+    }
+
+    private static LocalDateTime fromEpochMillis(String value) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(value)), ZoneOffset.UTC);
+    }
+
+    private static long toEpochMillis(LocalDateTime value) {
+        return value.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public String getId() { return id; }
+    public LocalDateTime getIssuedAt() { return issuedAt; }
+}
@@ -3,6 +3,7 @@ package com.project.crystalplan.domain.models;
 import com.project.crystalplan.domain.enums.NotificationStatus;
 import com.project.crystalplan.domain.enums.NotificationType;
 
+import java.time.Duration;
 import java.time.Instant;
 
 public class NotificationLog {
@@ -12,6 +13,7 @@ public class NotificationLog {
     private NotificationType notificationType;
     private Instant sentAt;
     private NotificationStatus status;
+    private Instant scheduledAt;
 
     public NotificationLog() {}
 
@@ -25,6 +27,19 @@ public class NotificationLog {
         this.status = status;
     }
 
+    public NotificationLog(String id, String eventId, String userId, NotificationType notificationType,
+                           Instant sentAt, NotificationStatus status, Instant scheduledAt) {
+        this(id, eventId, userId, notificationType, sentAt, status);
+        this.scheduledAt = scheduledAt;
+    }
+
+    public Duration deliveryDelay() {
+        if (scheduledAt == null || sentAt == null || sentAt.isBefore(scheduledAt)) {
+            return null;
+        }
+        return Duration.between(scheduledAt, sentAt);
+    }
+
     public String getId() { return id; }
     public void setId(String id) { this.id = id; }
 
@@ -42,4 +57,7 @@ public class NotificationLog {
 
     public NotificationStatus getStatus() { return status; }
     public void setStatus(NotificationStatus status) { this.status = status; }
+
+    public Instant getScheduledAt() { return scheduledAt; }
+    public void setScheduledAt(Instant scheduledAt) { this.scheduledAt = scheduledAt; }
 }
@@ -0,0 +1,51 @@
+package com.project.crystalplan.domain.models;
+
+import com.project.crystalplan.domain.exceptions.InvalidArgumentException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Posição de continuação na listagem de logs, ordenada por {@code sentAt} e {@code id} decrescentes.
+ * Trafega como token opaco (Base64 de {@code <epochMillis>:<id>}).
+ */
+public class NotificationLogCursor {
+    private final Instant sentAt;
+    private final String id;
+
+    public NotificationLogCursor(Instant sentAt, String id) {
+        this.sentAt = sentAt;
+        this.id = id;
+    }
+
+    public static NotificationLogCursor after(NotificationLog log) {
+        return new NotificationLogCursor(log.getSentAt(), log.getId());
+    }
+
+    public static NotificationLogCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(':');
+            long epochMillis = Long.parseLong(value.substring(0, separator));
+            String id = value.substring(separator + 1);
+            if (id.isEmpty()) {
+                throw new IllegalArgumentException();
+            }
+            return new NotificationLogCursor(Instant.ofEpochMilli(epochMillis), id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidArgumentException("Cursor de paginação inválido");
+        }
+    }
+
+    public String encode() {
+        String value = sentAt.toEpochMilli() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Instant getSentAt() { return sentAt; }
+    public String getId() { return id; }
+}
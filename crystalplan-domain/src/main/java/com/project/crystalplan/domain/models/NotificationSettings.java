@@ -1,5 +1,6 @@
 package com.project.crystalplan.domain.models;
 
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 public class NotificationSettings {
@@ -25,6 +26,22 @@ public class NotificationSettings {
         this.defaultReminderMinutesBefore = defaultReminderMinutesBefore;
     }
 
+    public boolean isQuietAt(LocalTime time) {
+        if (quietHoursStart == null || quietHoursEnd == null || quietHoursStart.equals(quietHoursEnd)) {
+            return false;
+        }
+        if (quietHoursStart.isBefore(quietHoursEnd)) {
+            return !time.isBefore(quietHoursStart) && time.isBefore(quietHoursEnd);
+        }
+        // Janela que atravessa a meia-noite (ex.: 22:00 às 07:00)
+        return !time.isBefore(quietHoursStart) || time.isBefore(quietHoursEnd);
+    }
+
+    public LocalDateTime quietHoursEndAfter(LocalDateTime at) {
+        LocalDateTime end = at.toLocalDate().atTime(quietHoursEnd);
+        return end.isAfter(at) ? end : end.plusDays(1);
+    }
+
     public String getId() { return id; }
     public void setId(String id) { this.id = id; }
 
@@ -0,0 +1,46 @@
+package com.project.crystalplan.domain.models;
+
+import java.time.LocalTime;
+
+/**
+ * Alteração parcial de {@link NotificationSettings}: só os campos preenchidos são gravados.
+ */
+public class NotificationSettingsPatch {
+    private Boolean emailNotificationsEnabled;
+    private Boolean visualNotificationsEnabled;
+    private LocalTime quietHoursStart;
+    private LocalTime quietHoursEnd;
+    private Integer defaultReminderMinutesBefore;
+
+    public NotificationSettingsPatch() {}
+
+    public NotificationSettingsPatch(Boolean emailNotificationsEnabled, Boolean visualNotificationsEnabled,
+                                     LocalTime quietHoursStart, LocalTime quietHoursEnd,
+                                     Integer defaultReminderMinutesBefore) {
+        this.emailNotificationsEnabled = emailNotificationsEnabled;
+        this.visualNotificationsEnabled = visualNotificationsEnabled;
+        this.quietHoursStart = quietHoursStart;
+        this.quietHoursEnd = quietHoursEnd;
+        this.defaultReminderMinutesBefore = defaultReminderMinutesBefore;
+    }
+
+    public boolean isEmpty() {
+        return emailNotificationsEnabled == null && visualNotificationsEnabled == null
+                && quietHoursStart == null && quietHoursEnd == null && defaultReminderMinutesBefore == null;
+    }
+
+    public Boolean getEmailNotificationsEnabled() { return emailNotificationsEnabled; }
+    public void setEmailNotificationsEnabled(Boolean emailNotificationsEnabled) { this.emailNotificationsEnabled = emailNotificationsEnabled; }
+
+    public Boolean getVisualNotificationsEnabled() { return visualNotificationsEnabled; }
+    public void setVisualNotificationsEnabled(Boolean visualNotificationsEnabled) { this.visualNotificationsEnabled = visualNotificationsEnabled; }
+
+    public LocalTime getQuietHoursStart() { return quietHoursStart; }
+    public void setQuietHoursStart(LocalTime quietHoursStart) { this.quietHoursStart = quietHoursStart; }
+
+    public LocalTime getQuietHoursEnd() { return quietHoursEnd; }
+    public void setQuietHoursEnd(LocalTime quietHoursEnd) { this.quietHoursEnd = quietHoursEnd; }
+
+    public Integer getDefaultReminderMinutesBefore() { return defaultReminderMinutesBefore; }
+    public void setDefaultReminderMinutesBefore(Integer defaultReminderMinutesBefore) { this.defaultReminderMinutesBefore = defaultReminderMinutesBefore; }
+}
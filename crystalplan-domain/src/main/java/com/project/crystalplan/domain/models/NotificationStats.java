@@ -0,0 +1,73 @@
+package com.project.crystalplan.domain.models;
+
+import com.project.crystalplan.domain.enums.NotificationStatus;
+import com.project.crystalplan.domain.enums.NotificationType;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Estatísticas de entrega de notificações em um intervalo de dias (UTC), de um usuário ou de todos.
+ * Os atrasos são limites das faixas de {@link DeliveryDelayHistogram}, em segundos.
+ */
+public class NotificationStats {
+    private String userId;
+    private LocalDate from;
+    private LocalDate to;
+    private long total;
+    private Map<NotificationStatus, Long> byStatus;
+    private Map<NotificationType, Long> byType;
+    private SortedMap<LocalDate, Long> byDay;
+    private Double successRate;
+    private Long delayP50Seconds;
+    private Long delayP95Seconds;
+
+    public NotificationStats() {}
+
+    public NotificationStats(String userId, LocalDate from, LocalDate to, long total,
+                             Map<NotificationStatus, Long> byStatus, Map<NotificationType, Long> byType,
+                             SortedMap<LocalDate, Long> byDay, Double successRate,
+                             Long delayP50Seconds, Long delayP95Seconds) {
+        this.userId = userId;
+        this.from = from;
+        this.to = to;
+        this.total = total;
+        this.byStatus = byStatus;
+        this.byType = byType;
+        this.byDay = byDay;
+        this.successRate = successRate;
+        this.delayP50Seconds = delayP50Seconds;
+        this.delayP95Seconds = delayP95Seconds;
+    }
+
+    public String getUserId() { return userId; }
+    public void setUserId(String userId) { this.userId = userId; }
+
+    public LocalDate getFrom() { return from; }
+    public void setFrom(LocalDate from) { this.from = from; }
+
+    public LocalDate getTo() { return to; }
+    public void setTo(LocalDate to) { this.to = to; }
+
+    public long getTotal() { return total; }
+    public void setTotal(long total) { this.total = total; }
+
+    public Map<NotificationStatus, Long> getByStatus() { return byStatus; }
+    public void setByStatus(Map<NotificationStatus, Long> byStatus) { this.byStatus = byStatus; }
+
+    public Map<NotificationType, Long> getByType() { return byType; }
+    public void setByType(Map<NotificationType, Long> byType) { this.byType = byType; }
+
+    public SortedMap<LocalDate, Long> getByDay() { return byDay; }
+    public void setByDay(SortedMap<LocalDate, Long> byDay) { this.byDay = byDay; }
+
+    public Double getSuccessRate() { return successRate; }
+    public void setSuccessRate(Double successRate) { this.successRate = successRate; }
+
+    public Long getDelayP50Seconds() { return delayP50Seconds; }
+    public void setDelayP50Seconds(Long delayP50Seconds) { this.delayP50Seconds = delayP50Seconds; }
+
+    public Long getDelayP95Seconds() { return delayP95Seconds; }
+    public void setDelayP95Seconds(Long delayP95Seconds) { this.delayP95Seconds = delayP95Seconds; }
+}
@@ -2,16 +2,29 @@ package com.project.crystalplan.domain.repositories;
 
 import com.project.crystalplan.domain.enums.Recurrence;
 import com.project.crystalplan.domain.models.Event;
+import com.project.crystalplan.domain.models.EventSummary;
+import com.project.crystalplan.domain.models.EventSyncCursor;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+/**
+ * As consultas por usuário e por data devolvem só eventos ativos. {@code findById}, {@code findAllById},
+ * {@code findStoredBirthdays} e {@code findChangedSince} também enxergam os excluídos, que ficam gravados
+ * como tombstone.
+ */
 public interface EventRepository {
     Event save(Event event);
+    List<Event> insertAll(List<Event> events);
     Optional<Event> findById(String id);
+    List<Event> findAllById(Collection<String> ids);
     List<Event> findByUserId(String userId);
+    void streamByUserId(String userId, Consumer<Event> action);
     List<Event> findByUserIdAndRecurrenceAndEventDate(String userId, Recurrence recurrence, LocalDate eventDate);
     List<Event> findByUserIdAndRecurrenceAndDaysOfWeekContaining(String userId, Recurrence recurrence, DayOfWeek dayOfWeek);
     List<Event> findByUserIdAndRecurrence(String userId, Recurrence recurrence);
@@ -21,6 +34,19 @@ public interface EventRepository {
             LocalDate startDate,
             LocalDate endDate
     );
+    List<EventSummary> findSummariesByUserId(String userId);
+    List<EventSummary> findSummariesByUserIdAndRecurrenceAndEventDate(String userId, Recurrence recurrence, LocalDate eventDate);
+    List<EventSummary> findSummariesByUserIdAndRecurrenceAndDaysOfWeekContaining(String userId, Recurrence recurrence, DayOfWeek dayOfWeek);
+    List<EventSummary> findSummariesByUserIdAndRecurrence(String userId, Recurrence recurrence);
+    List<EventSummary> findSummariesByUserIdAndRecurrenceAndEventDateBetween(String userId, Recurrence recurrence, LocalDate startDate, LocalDate endDate);
+    List<Event> findStoredBirthdays(String userId, Collection<String> derivedIds, LocalDate startDate, LocalDate endDate);
+    List<Event> findOccurrenceCandidates(String userId, LocalDate startDate, LocalDate endDate);
+    List<Event> findNotifiableBetween(LocalDate startDate, LocalDate endDate);
+    List<Event> findNotifiableUpdatedSince(LocalDateTime since);
+    List<Event> findChangedSince(String userId, EventSyncCursor after, int limit);
+    Optional<Event> updateIfCurrent(Event event, Long expectedVersion);
+    Optional<Event> deactivate(String id, LocalDateTime deletedAt);
+    int purgeInactiveBefore(LocalDateTime cutoff, int limit);
     void deleteById(String id);
     boolean existsById(String id);
 }
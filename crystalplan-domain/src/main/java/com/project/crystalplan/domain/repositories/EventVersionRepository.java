@@ -0,0 +1,10 @@
+package com.project.crystalplan.domain.repositories;
+
+/**
+ * Contador por usuário incrementado a cada escrita que muda o que as listagens de eventos devolvem.
+ * Permite saber se a lista mudou sem carregar os eventos.
+ */
+public interface EventVersionRepository {
+    long findVersion(String userId);
+    void increment(String userId);
+}
@@ -1,15 +1,24 @@
 package com.project.crystalplan.domain.repositories;
 
 import com.project.crystalplan.domain.enums.NotificationStatus;
+import com.project.crystalplan.domain.models.CursorPage;
 import com.project.crystalplan.domain.models.NotificationLog;
+import com.project.crystalplan.domain.models.NotificationLogCursor;
+
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 public interface NotificationLogRepository {
     NotificationLog save(NotificationLog notificationLog);
+    List<NotificationLog> saveAll(List<NotificationLog> notificationLogs);
     Optional<NotificationLog> findById(String id);
     List<NotificationLog> findByUserId(String userId);
     List<NotificationLog> findByEventId(String eventId);
     List<NotificationLog> findByStatus(NotificationStatus status);
+    CursorPage<NotificationLog> findByUserId(String userId, NotificationLogCursor after, int limit);
+    CursorPage<NotificationLog> findByEventId(String eventId, NotificationLogCursor after, int limit);
+    CursorPage<NotificationLog> findByStatus(NotificationStatus status, NotificationLogCursor after, int limit);
+    long archiveSentBefore(Instant cutoff);
     void deleteById(String id);
 }
\ No newline at end of file
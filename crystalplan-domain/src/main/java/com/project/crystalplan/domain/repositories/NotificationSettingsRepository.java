@@ -1,12 +1,17 @@
 package com.project.crystalplan.domain.repositories;
 
 import com.project.crystalplan.domain.models.NotificationSettings;
+import com.project.crystalplan.domain.models.NotificationSettingsPatch;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface NotificationSettingsRepository {
     NotificationSettings save(NotificationSettings settings);
+    NotificationSettings patch(String userId, NotificationSettingsPatch patch);
     Optional<NotificationSettings> findById(String id);
     Optional<NotificationSettings> findByUserId(String userId);
+    List<NotificationSettings> findByUserIdIn(Collection<String> userIds);
     void deleteById(String id);
 }
\ No newline at end of file
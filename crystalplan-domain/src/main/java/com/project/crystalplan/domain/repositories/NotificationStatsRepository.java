@@ -0,0 +1,9 @@
+package com.project.crystalplan.domain.repositories;
+
+import com.project.crystalplan.domain.models.NotificationStats;
+
+import java.time.LocalDate;
+
+public interface NotificationStatsRepository {
+    NotificationStats findStats(String userId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,27 @@
+package com.project.crystalplan.domain.repositories;
+
+import com.project.crystalplan.domain.enums.Recurrence;
+import com.project.crystalplan.domain.models.Event;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+
+public interface ReactiveEventRepository {
+    Mono<Event> findById(String id);
+    Flux<Event> findAllById(Collection<String> ids);
+    Flux<Event> findByUserId(String userId);
+    Flux<Event> findByUserIdAndRecurrenceAndEventDate(String userId, Recurrence recurrence, LocalDate eventDate);
+    Flux<Event> findByUserIdAndRecurrenceAndDaysOfWeekContaining(String userId, Recurrence recurrence, DayOfWeek dayOfWeek);
+    Flux<Event> findByUserIdAndRecurrence(String userId, Recurrence recurrence);
+    Flux<Event> findByUserIdAndRecurrenceAndEventDateBetween(
+            String userId,
+            Recurrence recurrence,
+            LocalDate startDate,
+            LocalDate endDate
+    );
+    Flux<Event> findStoredBirthdays(String userId, Collection<String> derivedIds, LocalDate startDate, LocalDate endDate);
+    Flux<Event> findOccurrenceCandidates(String userId, LocalDate startDate, LocalDate endDate);
+}
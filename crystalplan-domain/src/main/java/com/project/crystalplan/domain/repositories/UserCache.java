@@ -0,0 +1,11 @@
+package com.project.crystalplan.domain.repositories;
+
+import com.project.crystalplan.domain.models.User;
+
+import java.util.Optional;
+
+public interface UserCache {
+    Optional<User> get(String userId);
+    void put(User user);
+    void evict(String userId);
+}
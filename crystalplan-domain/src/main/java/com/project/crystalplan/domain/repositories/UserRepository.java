@@ -2,6 +2,8 @@ package com.project.crystalplan.domain.repositories;
 
 import com.project.crystalplan.domain.models.User;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository {
@@ -10,6 +12,8 @@ public interface UserRepository {
     Optional<User> findByIdAndActiveTrue(String id);
     Optional<User> findByEmail(String email);
     Optional<User> findByEmailAndActiveTrue(String email);
+    /** Usuários ativos cujo aniversário (dia e mês, de qualquer ano) cai entre as duas datas. */
+    List<User> findActiveByBirthdayBetween(LocalDate startDate, LocalDate endDate);
     boolean existsByEmail(String email);
     boolean existsById(String id);
     void deleteById(String id);
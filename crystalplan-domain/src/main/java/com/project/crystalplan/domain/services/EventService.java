@@ -1,21 +1,37 @@
 package com.project.crystalplan.domain.services;
 
 import com.project.crystalplan.domain.models.Event;
+import com.project.crystalplan.domain.models.EventChanges;
+import com.project.crystalplan.domain.models.EventOccurrence;
+import com.project.crystalplan.domain.models.EventSummary;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.SortedMap;
+import java.util.function.Consumer;
 
 public interface EventService {
 
     Event createEvent(Event event);
+    List<Event> createEvents(List<Event> events);
     Event updateEvent(String id, Event event);
     void deleteEvent(String id);
     Optional<Event> getEventById(String id);
+    long getEventsVersion(String userId);
     List<Event> getAllEventsByUser(String userId);
+    void streamEventsByUser(String userId, Consumer<Event> action);
+    EventChanges getEventChanges(String userId, String cursor, int limit);
     List<Event> getSingleEventsByDate(String userId, LocalDate date);
     List<Event> getAllWeeklyEventsByUser(String userId);
     List<Event> getAllSingleEventsByMonth(String userId, int year, int month);
     List<Event> getWeeklyEventsByDayOfWeek(String userId, DayOfWeek dayOfWeek);
+    List<EventSummary> getAllEventSummariesByUser(String userId);
+    List<EventSummary> getSingleEventSummariesByDate(String userId, LocalDate date);
+    List<EventSummary> getAllWeeklyEventSummariesByUser(String userId);
+    List<EventSummary> getAllSingleEventSummariesByMonth(String userId, int year, int month);
+    List<EventSummary> getWeeklyEventSummariesByDayOfWeek(String userId, DayOfWeek dayOfWeek);
+    List<EventOccurrence> getOccurrencesBetween(String userId, LocalDate startDate, LocalDate endDate);
+    SortedMap<LocalDate, List<Event>> getMonthCalendar(String userId, int year, int month);
 }
\ No newline at end of file
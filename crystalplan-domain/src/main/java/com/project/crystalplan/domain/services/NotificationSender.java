@@ -0,0 +1,12 @@
+package com.project.crystalplan.domain.services;
+
+import com.project.crystalplan.domain.enums.NotificationType;
+import com.project.crystalplan.domain.models.Event;
+
+import java.util.List;
+
+public interface NotificationSender {
+    NotificationType getType();
+    void send(Event event);
+    void sendDigest(String userId, List<Event> events);
+}
@@ -2,21 +2,28 @@
 
 package com.project.crystalplan.domain.services;
 
+import com.project.crystalplan.domain.models.CursorPage;
 import com.project.crystalplan.domain.models.NotificationSettings;
+import com.project.crystalplan.domain.models.NotificationSettingsPatch;
 import com.project.crystalplan.domain.models.NotificationLog;
+import com.project.crystalplan.domain.models.NotificationStats;
 
-import java.util.List;
+import java.time.LocalDate;
 
 public interface NotificationService {
 
     // Settings
     NotificationSettings getUserSettings(String userId);
     NotificationSettings updateUserSettings(NotificationSettings settings);
+    NotificationSettings patchUserSettings(String userId, NotificationSettingsPatch patch);
 
     // Logs
     // MODIFICAÇÃO CHAVE AQUI: Agora retorna NotificationLog
     NotificationLog saveNotificationLog(NotificationLog log);
-    List<NotificationLog> getNotificationLogsByUserId(String userId);
+    CursorPage<NotificationLog> getNotificationLogsByUserId(String userId, String cursor, int limit);
     NotificationLog getNotificationLogById(String logId);
-    List<NotificationLog> getLogsByEventId(String eventId);
+    CursorPage<NotificationLog> getLogsByEventId(String eventId, String cursor, int limit);
+
+    // Estatísticas (userId nulo = todos os usuários)
+    NotificationStats getDeliveryStats(String userId, LocalDate from, LocalDate to);
 }
\ No newline at end of file
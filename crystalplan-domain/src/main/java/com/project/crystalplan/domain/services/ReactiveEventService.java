@@ -0,0 +1,20 @@
+package com.project.crystalplan.domain.services;
+
+import com.project.crystalplan.domain.models.Event;
+import com.project.crystalplan.domain.models.EventOccurrence;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+public interface ReactiveEventService {
+
+    Mono<Event> getEventById(String id);
+    Flux<Event> getAllEventsByUser(String userId);
+    Flux<Event> getSingleEventsByDate(String userId, LocalDate date);
+    Flux<Event> getAllWeeklyEventsByUser(String userId);
+    Flux<Event> getAllSingleEventsByMonth(String userId, int year, int month);
+    Flux<Event> getWeeklyEventsByDayOfWeek(String userId, DayOfWeek dayOfWeek);
+    Flux<EventOccurrence> getOccurrencesBetween(String userId, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,52 @@
+package com.project.crystalplan.domain.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BirthdayEventsTest {
+
+    private final User user = new User("abc123", "Maria", "maria@example.com", "Password@123", LocalDate.of(1990, 7, 15));
+
+    @Test
+    void shouldParseDerivedId() {
+        String id = BirthdayEvents.idFor("abc123", 2030);
+
+        assertThat(id).isEqualTo("birthday-abc123-2030");
+        assertThat(BirthdayEvents.isDerivedId(id)).isTrue();
+        assertThat(BirthdayEvents.userIdOf(id)).contains("abc123");
+        assertThat(BirthdayEvents.yearOf(id)).contains(2030);
+        assertThat(BirthdayEvents.isDerivedId("64b7f0c2e1a4")).isFalse();
+        assertThat(BirthdayEvents.isDerivedId("birthday-abc123-x")).isFalse();
+    }
+
+    @Test
+    void shouldDeriveEventForYear() {
+        Event event = BirthdayEvents.forYear(user, 2030).orElseThrow();
+
+        assertThat(event.getId()).isEqualTo("birthday-abc123-2030");
+        assertThat(event.getEventDate()).isEqualTo(LocalDate.of(2030, 7, 15));
+        assertThat(event.getUserId()).isEqualTo("abc123");
+        assertThat(event.getDescription()).contains("40 anos");
+        assertThat(BirthdayEvents.forYear(user, 1990)).isEmpty();
+    }
+
+    @Test
+    void shouldDeriveOnlyBirthdaysInsideWindow() {
+        List<Event> events = BirthdayEvents.between(user, LocalDate.of(2025, 8, 1), LocalDate.of(2027, 7, 14));
+
+        assertThat(events).extracting(Event::getEventDate).containsExactly(LocalDate.of(2026, 7, 15));
+    }
+
+    @Test
+    void shouldStartUpcomingBirthdaysNextYearWhenAlreadyPassed() {
+        List<Event> events = BirthdayEvents.upcoming(user, LocalDate.of(2025, 8, 1), 20);
+
+        assertThat(events).hasSize(20);
+        assertThat(events.get(0).getEventDate()).isEqualTo(LocalDate.of(2026, 7, 15));
+        assertThat(events.get(19).getEventDate()).isEqualTo(LocalDate.of(2045, 7, 15));
+    }
+}
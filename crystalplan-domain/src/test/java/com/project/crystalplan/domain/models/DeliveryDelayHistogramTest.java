@@ -0,0 +1,30 @@
+package com.project.crystalplan.domain.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeliveryDelayHistogramTest {
+
+    @Test
+    void shouldPlaceDelaysInBucketByUpperBound() {
+        assertThat(DeliveryDelayHistogram.bucketOf(Duration.ZERO)).isEqualTo(0);
+        assertThat(DeliveryDelayHistogram.bucketOf(Duration.ofMillis(300))).isEqualTo(1);
+        assertThat(DeliveryDelayHistogram.bucketOf(Duration.ofSeconds(5))).isEqualTo(2);
+        assertThat(DeliveryDelayHistogram.bucketOf(Duration.ofSeconds(6))).isEqualTo(3);
+        assertThat(DeliveryDelayHistogram.bucketOf(Duration.ofHours(2))).isEqualTo(DeliveryDelayHistogram.BUCKETS - 1);
+    }
+
+    @Test
+    void shouldReturnUpperBoundOfPercentileBucket() {
+        long[] counts = new long[DeliveryDelayHistogram.BUCKETS];
+        counts[1] = 90;
+        counts[5] = 10;
+
+        assertThat(DeliveryDelayHistogram.percentile(counts, 0.50)).isEqualTo(1L);
+        assertThat(DeliveryDelayHistogram.percentile(counts, 0.95)).isEqualTo(60L);
+        assertThat(DeliveryDelayHistogram.percentile(new long[DeliveryDelayHistogram.BUCKETS], 0.50)).isNull();
+    }
+}
@@ -0,0 +1,55 @@
+package com.project.crystalplan.domain.models;
+
+import com.project.crystalplan.domain.exceptions.InvalidArgumentException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventSyncCursorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 8, 1, 12, 0);
+
+    @Test
+    void shouldRoundTripThroughToken() {
+        EventSyncCursor cursor = new EventSyncCursor(LocalDateTime.of(2025, 7, 30, 10, 15, 0, 123_000_000), "64b7f0c2e1a4", NOW);
+
+        EventSyncCursor decoded = EventSyncCursor.decode(cursor.encode());
+
+        assertThat(decoded.getUpdatedAt()).isEqualTo(cursor.getUpdatedAt());
+        assertThat(decoded.getId()).isEqualTo("64b7f0c2e1a4");
+        assertThat(decoded.getIssuedAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    void shouldStartBeforeAnyEvent() {
+        EventSyncCursor decoded = EventSyncCursor.decode(EventSyncCursor.start(NOW).encode());
+
+        assertThat(decoded.getUpdatedAt()).isBefore(LocalDateTime.of(2000, 1, 1, 0, 0));
+        assertThat(decoded.getIssuedAt()).isEqualTo(NOW);
+        assertThat(decoded.isExpired(NOW)).isFalse();
+    }
+
+    @Test
+    void shouldTreatBlankTokenAsFullSync() {
+        assertThat(EventSyncCursor.decode(null)).isNull();
+        assertThat(EventSyncCursor.decode("")).isNull();
+    }
+
+    @Test
+    void shouldRejectMalformedToken() {
+        assertThrows(InvalidArgumentException.class, () -> EventSyncCursor.decode("%%%"));
+        assertThrows(InvalidArgumentException.class, () -> EventSyncCursor.decode("YWJj"));
+        assertThrows(InvalidArgumentException.class, () -> EventSyncCursor.decode("MTox"));
+    }
+
+    @Test
+    void shouldExpireByIssueDateNotByPosition() {
+        LocalDateTime oldChange = NOW.minusYears(1);
+
+        assertThat(new EventSyncCursor(oldChange, "1", NOW.minusDays(1)).isExpired(NOW)).isFalse();
+        assertThat(new EventSyncCursor(oldChange, "1", NOW.minus(EventSyncCursor.MAX_AGE).minusSeconds(1)).isExpired(NOW)).isTrue();
+    }
+}
@@ -7,7 +7,9 @@ import org.junit.jupiter.api.Test;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -130,10 +132,11 @@ class EventTest {
     }
 
     @Test
-    void shouldSetReminderTimeToDefaultWhenNotifyTrueAndReminderTimeNull() {
+    void shouldRemindMinutesBeforeEventWhenNotifyTrueAndReminderTimeNull() {
+        LocalDate today = LocalDate.now();
         Event event = new Event();
         event.setRecurrence(Recurrence.SINGLE);
-        event.setEventDate(LocalDate.now());
+        event.setEventDate(today);
         event.setEventTime(LocalTime.NOON);
         event.setNotify(true);
         event.setNotificationType(NotificationType.EMAIL);
@@ -141,7 +144,8 @@ class EventTest {
 
         event.validate();
 
-        assertThat(event.getReminderTime()).isEqualTo(LocalTime.of(10, 0));
+        assertThat(event.getReminderTime()).isNull();
+        assertThat(event.reminderAt(today, 15)).isEqualTo(today.atTime(11, 45));
     }
 
     @Test
@@ -157,4 +161,64 @@ class EventTest {
                 .isInstanceOf(InvalidArgumentException.class)
                 .hasMessageContaining("userId é obrigatório");
     }
+
+    @Test
+    void shouldReturnSingleOccurrenceOnlyWhenDateIsInsideWindow() {
+        Event event = new Event("1", "Consulta", null, Recurrence.SINGLE, LocalDate.of(2025, 7, 15),
+                null, null, null, false, null, "user-1");
+
+        assertThat(event.occurrencesBetween(LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 31)))
+                .containsExactly(LocalDate.of(2025, 7, 15));
+        assertThat(event.occurrencesBetween(LocalDate.of(2025, 7, 15), LocalDate.of(2025, 7, 15)))
+                .containsExactly(LocalDate.of(2025, 7, 15));
+        assertThat(event.occurrencesBetween(LocalDate.of(2025, 8, 1), LocalDate.of(2025, 8, 31)))
+                .isEmpty();
+    }
+
+    @Test
+    void shouldExpandWeeklyOccurrencesInsideWindowInDateOrder() {
+        Event event = new Event("2", "Academia", null, Recurrence.WEEKLY, null,
+                Set.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY), null, null, false, null, "user-1");
+
+        // 2025-07-01 é uma terça-feira
+        List<LocalDate> dates = event.occurrencesBetween(LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 14));
+
+        assertThat(dates).containsExactly(
+                LocalDate.of(2025, 7, 2),
+                LocalDate.of(2025, 7, 7),
+                LocalDate.of(2025, 7, 9),
+                LocalDate.of(2025, 7, 14)
+        );
+    }
+
+    @Test
+    void shouldReturnNoOccurrencesForInvertedWindow() {
+        Event event = new Event("3", "Academia", null, Recurrence.WEEKLY, null,
+                Set.of(DayOfWeek.MONDAY), null, null, false, null, "user-1");
+
+        assertThat(event.occurrencesBetween(LocalDate.of(2025, 7, 14), LocalDate.of(2025, 7, 1))).isEmpty();
+    }
+
+    @Test
+    void shouldComputeRemindersInsideWindowIncludingNextDayEvents() {
+        // Sem reminderTime, o lembrete é o horário do evento menos a antecedência padrão
+        Event event = new Event("4", "Plantão", null, Recurrence.WEEKLY, null,
+                Set.of(DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY), LocalTime.of(0, 10), null, true, NotificationType.EMAIL, "user-1");
+
+        List<LocalDateTime> reminders = event.reminderTimesBetween(
+                LocalDateTime.of(2025, 7, 2, 0, 0), LocalDateTime.of(2025, 7, 3, 0, 0), 15);
+
+        assertThat(reminders).containsExactly(
+                LocalDateTime.of(2025, 7, 2, 23, 55)
+        );
+    }
+
+    @Test
+    void shouldNotComputeRemindersWhenNotifyIsFalse() {
+        Event event = new Event("5", "Reunião", null, Recurrence.SINGLE, LocalDate.of(2025, 7, 2),
+                null, LocalTime.of(10, 0), LocalTime.of(9, 45), false, null, "user-1");
+
+        assertThat(event.reminderTimesBetween(
+                LocalDateTime.of(2025, 7, 2, 0, 0), LocalDateTime.of(2025, 7, 3, 0, 0), 15)).isEmpty();
+    }
 }
@@ -0,0 +1,34 @@
+package com.project.crystalplan.domain.models;
+
+import com.project.crystalplan.domain.exceptions.InvalidArgumentException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NotificationLogCursorTest {
+
+    @Test
+    void shouldRoundTripThroughToken() {
+        NotificationLogCursor cursor = new NotificationLogCursor(Instant.ofEpochMilli(1_700_000_000_123L), "log:1");
+
+        NotificationLogCursor decoded = NotificationLogCursor.decode(cursor.encode());
+
+        assertThat(decoded.getSentAt()).isEqualTo(cursor.getSentAt());
+        assertThat(decoded.getId()).isEqualTo("log:1");
+    }
+
+    @Test
+    void shouldTreatBlankTokenAsFirstPage() {
+        assertThat(NotificationLogCursor.decode(null)).isNull();
+        assertThat(NotificationLogCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void shouldRejectMalformedToken() {
+        assertThrows(InvalidArgumentException.class, () -> NotificationLogCursor.decode("%%%"));
+        assertThrows(InvalidArgumentException.class, () -> NotificationLogCursor.decode("YWJj"));
+    }
+}
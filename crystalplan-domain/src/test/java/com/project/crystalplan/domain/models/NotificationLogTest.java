@@ -4,6 +4,7 @@ import com.project.crystalplan.domain.enums.NotificationStatus;
 import com.project.crystalplan.domain.enums.NotificationType;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.Instant;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -54,4 +55,15 @@ class NotificationLogTest {
         assertThat(log.getSentAt()).isEqualTo(sentAt);
         assertThat(log.getStatus()).isEqualTo(status);
     }
+
+    @Test
+    void shouldMeasureDeliveryDelayFromScheduledTime() {
+        Instant scheduledAt = Instant.parse("2025-01-01T10:00:00Z");
+        NotificationLog log = new NotificationLog("log-003", "event-003", "user-003", NotificationType.EMAIL,
+                scheduledAt.plusSeconds(12), NotificationStatus.SUCCESS, scheduledAt);
+
+        assertThat(log.deliveryDelay()).isEqualTo(Duration.ofSeconds(12));
+        assertThat(new NotificationLog("log-004", "event-004", "user-004", NotificationType.EMAIL,
+                scheduledAt, NotificationStatus.SUCCESS).deliveryDelay()).isNull();
+    }
 }
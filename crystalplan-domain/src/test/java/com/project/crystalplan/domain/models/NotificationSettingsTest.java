@@ -2,6 +2,7 @@ package com.project.crystalplan.domain.models;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -59,4 +60,36 @@ class NotificationSettingsTest {
         assertThat(settings.getQuietHoursEnd()).isEqualTo(quietEnd);
         assertThat(settings.getDefaultReminderMinutesBefore()).isEqualTo(reminderMinutes);
     }
+
+    @Test
+    void shouldDetectQuietHoursCrossingMidnight() {
+        NotificationSettings settings = new NotificationSettings();
+
+        assertThat(settings.isQuietAt(LocalTime.of(23, 30))).isTrue();
+        assertThat(settings.isQuietAt(LocalTime.of(6, 59))).isTrue();
+        assertThat(settings.isQuietAt(LocalTime.of(7, 0))).isFalse();
+        assertThat(settings.isQuietAt(LocalTime.of(21, 59))).isFalse();
+    }
+
+    @Test
+    void shouldDetectQuietHoursWithinSameDay() {
+        NotificationSettings settings = new NotificationSettings();
+        settings.setQuietHoursStart(LocalTime.of(13, 0));
+        settings.setQuietHoursEnd(LocalTime.of(14, 0));
+
+        assertThat(settings.isQuietAt(LocalTime.of(13, 30))).isTrue();
+        assertThat(settings.isQuietAt(LocalTime.of(23, 0))).isFalse();
+        assertThat(settings.quietHoursEndAfter(LocalDateTime.of(2025, 7, 30, 13, 30)))
+                .isEqualTo(LocalDateTime.of(2025, 7, 30, 14, 0));
+    }
+
+    @Test
+    void shouldFindNextQuietHoursEnd() {
+        NotificationSettings settings = new NotificationSettings();
+
+        assertThat(settings.quietHoursEndAfter(LocalDateTime.of(2025, 7, 30, 23, 0)))
+                .isEqualTo(LocalDateTime.of(2025, 7, 31, 7, 0));
+        assertThat(settings.quietHoursEndAfter(LocalDateTime.of(2025, 7, 31, 3, 0)))
+                .isEqualTo(LocalDateTime.of(2025, 7, 31, 7, 0));
+    }
 }
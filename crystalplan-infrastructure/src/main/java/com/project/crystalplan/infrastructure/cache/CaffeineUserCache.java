@@ -0,0 +1,55 @@
+package com.project.crystalplan.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.crystalplan.domain.models.User;
+import com.project.crystalplan.domain.repositories.UserCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Cache local dos usuários ativos consultados a cada requisição autenticada.
+ * O TTL limita por quanto tempo outra instância pode enxergar um usuário já desativado.
+ */
+@Component
+public class CaffeineUserCache implements UserCache, MeterBinder {
+
+    private final Cache<String, User> cache;
+
+    public CaffeineUserCache(@Value("${auth.user-cache.max-size:10000}") long maxSize,
+                             @Value("${auth.user-cache.ttl:60s}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "auth.users");
+    }
+
+    @Override
+    public Optional<User> get(String userId) {
+        return Optional.ofNullable(cache.getIfPresent(userId));
+    }
+
+    @Override
+    public void put(User user) {
+        if (user.getId() != null && user.isActive()) {
+            cache.put(user.getId(), user);
+        }
+    }
+
+    @Override
+    public void evict(String userId) {
+        cache.invalidate(userId);
+    }
+}
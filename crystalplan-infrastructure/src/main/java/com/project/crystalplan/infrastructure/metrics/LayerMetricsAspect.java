@@ -0,0 +1,91 @@
+package com.project.crystalplan.infrastructure.metrics;
+
+import com.project.crystalplan.domain.models.CursorPage;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Mede cada método público dos serviços ({@code crystalplan.service}) e dos repositórios
+ * ({@code crystalplan.repository}), com as tags {@code class}, {@code method} e {@code exception}.
+ * Nos repositórios também registra o tamanho do resultado em {@code crystalplan.repository.results}.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class LayerMetricsAspect {
+
+    static final String SERVICE_TIMER = "crystalplan.service";
+    static final String REPOSITORY_TIMER = "crystalplan.repository";
+    static final String REPOSITORY_RESULTS = "crystalplan.repository.results";
+
+    private final MeterRegistry registry;
+
+    /** Flux e Mono só montam a consulta ao retornar; o tempo medido aqui não seria o da execução. */
+    @Pointcut("execution(org.reactivestreams.Publisher+ *(..))")
+    void reactiveResult() {}
+
+    @Around("execution(public * com.project.crystalplan.application.impl.*ServiceImpl.*(..)) && !reactiveResult()")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timed(SERVICE_TIMER, joinPoint, false);
+    }
+
+    @Around("execution(public * com.project.crystalplan.infrastructure.persistence.mongo.repository.impl.*RepositoryImpl.*(..)) && !reactiveResult()")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timed(REPOSITORY_TIMER, joinPoint, true);
+    }
+
+    private Object timed(String name, ProceedingJoinPoint joinPoint, boolean recordResultSize) throws Throwable {
+        // A classe alvo, e não o tipo declarado: com proxy JDK este seria a interface, com CGLIB a implementação
+        String type = AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        String exception = "none";
+        Timer.Sample sample = Timer.start(registry);
+        try {
+            Object result = joinPoint.proceed();
+            if (recordResultSize) {
+                recordResultSize(type, method, result);
+            }
+            return result;
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(name)
+                    .tag("class", type)
+                    .tag("method", method)
+                    .tag("exception", exception)
+                    .register(registry));
+        }
+    }
+
+    private void recordResultSize(String type, String method, Object result) {
+        int size;
+        if (result instanceof Collection<?> collection) {
+            size = collection.size();
+        } else if (result instanceof CursorPage<?> page) {
+            size = page.getItems() == null ? 0 : page.getItems().size();
+        } else if (result instanceof Optional<?> optional) {
+            size = optional.isPresent() ? 1 : 0;
+        } else {
+            // Escritas, contagens e métodos sem retorno não têm tamanho de resultado
+            return;
+        }
+        DistributionSummary.builder(REPOSITORY_RESULTS)
+                .baseUnit("documents")
+                .tag("class", type)
+                .tag("method", method)
+                .register(registry)
+                .record(size);
+    }
+}
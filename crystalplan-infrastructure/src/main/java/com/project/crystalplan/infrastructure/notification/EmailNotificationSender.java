@@ -0,0 +1,38 @@
+package com.project.crystalplan.infrastructure.notification;
+
+import com.project.crystalplan.domain.enums.NotificationType;
+import com.project.crystalplan.domain.exceptions.NotificationChannelUnavailableException;
+import com.project.crystalplan.domain.models.Event;
+import com.project.crystalplan.domain.services.NotificationSender;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Ainda não há provedor de e-mail configurado: nada é enviado e o agendador registra os lembretes
+ * deste canal como {@code SKIPPED}, fora da taxa de sucesso.
+ */
+@Slf4j
+@Component
+public class EmailNotificationSender implements NotificationSender {
+
+    public EmailNotificationSender() {
+        log.warn("Nenhum provedor de e-mail configurado: lembretes por e-mail não serão enviados");
+    }
+
+    @Override
+    public NotificationType getType() {
+        return NotificationType.EMAIL;
+    }
+
+    @Override
+    public void send(Event event) {
+        throw new NotificationChannelUnavailableException(getType());
+    }
+
+    @Override
+    public void sendDigest(String userId, List<Event> events) {
+        throw new NotificationChannelUnavailableException(getType());
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.crystalplan.infrastructure.notification;
+
+import com.project.crystalplan.domain.enums.NotificationType;
+import com.project.crystalplan.domain.models.Event;
+import com.project.crystalplan.domain.services.NotificationSender;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Notificações visuais são exibidas pelo front a partir do log de notificações; aqui só registramos o disparo.
+ */
+@Slf4j
+@Component
+public class VisualNotificationSender implements NotificationSender {
+
+    @Override
+    public NotificationType getType() {
+        return NotificationType.VISUAL;
+    }
+
+    @Override
+    public void send(Event event) {
+        log.debug("Lembrete visual do evento '{}' para o usuário {}", event.getTitle(), event.getUserId());
+    }
+
+    @Override
+    public void sendDigest(String userId, List<Event> events) {
+        log.debug("Resumo visual com {} lembretes para o usuário {}", events.size(), userId);
+    }
+}
@@ -0,0 +1,31 @@
+package com.project.crystalplan.infrastructure.persistence.mongo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Com as requisições em virtual threads o limite de concorrência passa a ser o pool de conexões do
+ * Mongo: quem não consegue conexão espera no máximo {@code max-wait} e falha, em vez de enfileirar
+ * sem limite.
+ */
+@Configuration
+public class MongoPoolConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer connectionPoolCustomizer(
+            @Value("${crystalplan.mongo.pool.max-size:100}") int maxSize,
+            @Value("${crystalplan.mongo.pool.min-size:0}") int minSize,
+            @Value("${crystalplan.mongo.pool.max-connecting:2}") int maxConnecting,
+            @Value("${crystalplan.mongo.pool.max-wait:2s}") Duration maxWait) {
+        return settings -> settings.applyToConnectionPoolSettings(pool -> pool
+                .maxSize(maxSize)
+                .minSize(minSize)
+                .maxConnecting(maxConnecting)
+                .maxWaitTime(maxWait.toMillis(), TimeUnit.MILLISECONDS));
+    }
+}
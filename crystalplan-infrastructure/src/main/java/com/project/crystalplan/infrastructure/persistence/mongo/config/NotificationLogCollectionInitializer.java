@@ -0,0 +1,177 @@
+package com.project.crystalplan.infrastructure.persistence.mongo.config;
+
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.TimeSeriesGranularity;
+import com.mongodb.client.model.TimeSeriesOptions;
+import com.mongodb.client.result.UpdateResult;
+import com.project.crystalplan.infrastructure.persistence.mongo.document.NotificationLogDocument;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Prepara a coleção de logs de notificação assim que a conexão com o Mongo existe, antes de o
+ * {@code MongoTemplate} criar os índices declarados: com a criação automática de índices, a coleção
+ * nasceria como coleção comum e não poderia mais virar time-series.
+ * <p>
+ * Como time-series, os logs ficam agrupados por {@code meta} ({@code userId} e {@code eventId}) e
+ * ordenados por {@code sentAt}. O modo exige MongoDB 7.0+, que aceita remoções por {@code _id} (usadas
+ * no arquivamento); em versões anteriores a coleção é criada como coleção comum. Time-series não tem
+ * índice único de {@code _id}: {@code findById} percorre os buckets e a gravação em lote detecta
+ * reenvios consultando os ids do lote (ver {@code NotificationLogRepositoryImpl}).
+ * <p>
+ * Nos dois formatos, a retenção remove os logs mais antigos que o prazo configurado. O arquivo só
+ * expira se {@code notification.logs.archive.retention} for configurado; por padrão é mantido.
+ */
+@Slf4j
+@Component
+public class NotificationLogCollectionInitializer implements BeanPostProcessor {
+
+    static final String TTL_INDEX = "sent_ttl_idx";
+    static final int MIN_TIME_SERIES_VERSION = 7;
+    // Índices sobre userId e eventId na raiz do documento, anteriores ao meta field
+    private static final Set<String> LEGACY_INDEXES = Set.of("user_sent_idx", "event_sent_idx");
+
+    private final boolean timeSeries;
+    private final Duration retention;
+    private final Duration archiveRetention;
+    private final AtomicBoolean initialized = new AtomicBoolean();
+
+    public NotificationLogCollectionInitializer(@Value("${notification.logs.time-series.enabled:false}") boolean timeSeries,
+                                                @Value("${notification.logs.retention:90d}") Duration retention,
+                                                @Value("${notification.logs.archive.retention:0d}") Duration archiveRetention) {
+        this.timeSeries = timeSeries;
+        this.retention = retention;
+        this.archiveRetention = archiveRetention;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof MongoDatabaseFactory factory && initialized.compareAndSet(false, true)) {
+            initialize(factory.getMongoDatabase());
+        }
+        return bean;
+    }
+
+    void initialize(MongoDatabase database) {
+        if (isPositive(archiveRetention)) {
+            ensureTtlIndex(database, NotificationLogDocument.ARCHIVE_COLLECTION, archiveRetention);
+        }
+        migrateMeta(database, NotificationLogDocument.ARCHIVE_COLLECTION);
+
+        Document existing = database.listCollections()
+                .filter(new Document("name", NotificationLogDocument.COLLECTION))
+                .first();
+
+        if (existing == null && timeSeries && supportsTimeSeries(database)) {
+            CreateCollectionOptions options = new CreateCollectionOptions()
+                    .timeSeriesOptions(new TimeSeriesOptions("sentAt")
+                            .metaField("meta")
+                            .granularity(TimeSeriesGranularity.SECONDS));
+            if (isPositive(retention)) {
+                options.expireAfter(retention.toSeconds(), TimeUnit.SECONDS);
+            }
+            database.createCollection(NotificationLogDocument.COLLECTION, options);
+            log.info("Coleção '{}' criada como time-series, retenção de {}", NotificationLogDocument.COLLECTION, retention);
+            return;
+        }
+
+        boolean existingTimeSeries = existing != null && "timeseries".equals(existing.getString("type"));
+        if (timeSeries && existing != null && !existingTimeSeries) {
+            log.warn("A coleção '{}' já existe como coleção comum; a conversão para time-series exige migrar os dados",
+                    NotificationLogDocument.COLLECTION);
+        }
+
+        if (existingTimeSeries) {
+            if (!"meta".equals(metaFieldOf(existing))) {
+                log.warn("A coleção time-series '{}' usa o meta field '{}'; as consultas por usuário e evento esperam 'meta' e exigem migrar os dados",
+                        NotificationLogDocument.COLLECTION, metaFieldOf(existing));
+            }
+            database.runCommand(new Document("collMod", NotificationLogDocument.COLLECTION)
+                    .append("expireAfterSeconds", isPositive(retention) ? retention.toSeconds() : "off"));
+            return;
+        }
+
+        if (existing != null) {
+            migrateMeta(database, NotificationLogDocument.COLLECTION);
+            dropLegacyIndexes(database);
+        }
+        if (isPositive(retention)) {
+            ensureTtlIndex(database, NotificationLogDocument.COLLECTION, retention);
+        }
+    }
+
+    private boolean supportsTimeSeries(MongoDatabase database) {
+        Document buildInfo = database.runCommand(new Document("buildInfo", 1));
+        List<Integer> version = buildInfo != null ? buildInfo.getList("versionArray", Integer.class) : null;
+        if (version != null && !version.isEmpty() && version.get(0) >= MIN_TIME_SERIES_VERSION) {
+            return true;
+        }
+        log.warn("Logs de notificação como time-series exigem MongoDB {}.0+ (servidor: {}); a coleção '{}' será criada como coleção comum",
+                MIN_TIME_SERIES_VERSION, buildInfo != null ? buildInfo.getString("version") : "desconhecido",
+                NotificationLogDocument.COLLECTION);
+        return false;
+    }
+
+    private String metaFieldOf(Document collection) {
+        Document options = collection.get("options", Document.class);
+        Document timeSeriesOptions = options != null ? options.get("timeseries", Document.class) : null;
+        return timeSeriesOptions != null ? timeSeriesOptions.getString("metaField") : null;
+    }
+
+    private void migrateMeta(MongoDatabase database, String collection) {
+        // Logs gravados com userId e eventId na raiz passam para o meta field, usado pelas consultas
+        UpdateResult result = database.getCollection(collection).updateMany(
+                new Document("meta", new Document("$exists", false)).append("userId", new Document("$exists", true)),
+                List.of(new Document("$set", new Document("meta", new Document("userId", "$userId").append("eventId", "$eventId"))),
+                        new Document("$unset", List.of("userId", "eventId"))));
+        if (result.getModifiedCount() > 0) {
+            log.info("{} logs de notificação da coleção '{}' migrados para o meta field", result.getModifiedCount(), collection);
+        }
+    }
+
+    private void dropLegacyIndexes(MongoDatabase database) {
+        database.getCollection(NotificationLogDocument.COLLECTION).listIndexes()
+                .into(new ArrayList<>()).stream()
+                .map(index -> index.getString("name"))
+                .filter(LEGACY_INDEXES::contains)
+                .forEach(name -> database.getCollection(NotificationLogDocument.COLLECTION).dropIndex(name));
+    }
+
+    private void ensureTtlIndex(MongoDatabase database, String collection, Duration ttl) {
+        Document ttlIndex = database.getCollection(collection).listIndexes()
+                .into(new ArrayList<>()).stream()
+                .filter(index -> TTL_INDEX.equals(index.getString("name")))
+                .findFirst()
+                .orElse(null);
+
+        if (ttlIndex == null) {
+            database.getCollection(collection).createIndex(Indexes.ascending("sentAt"),
+                    new IndexOptions().name(TTL_INDEX).expireAfter(ttl.toSeconds(), TimeUnit.SECONDS));
+            return;
+        }
+        Number current = ttlIndex.get("expireAfterSeconds", Number.class);
+        if (current == null || current.longValue() != ttl.toSeconds()) {
+            // Mudar a retenção não exige recriar o índice
+            database.runCommand(new Document("collMod", collection)
+                    .append("index", new Document("name", TTL_INDEX).append("expireAfterSeconds", ttl.toSeconds())));
+        }
+    }
+
+    private boolean isPositive(Duration duration) {
+        return duration != null && !duration.isZero() && !duration.isNegative();
+    }
+}
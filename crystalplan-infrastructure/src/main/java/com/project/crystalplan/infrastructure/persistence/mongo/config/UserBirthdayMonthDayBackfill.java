@@ -0,0 +1,42 @@
+package com.project.crystalplan.infrastructure.persistence.mongo.config;
+
+import com.project.crystalplan.infrastructure.persistence.mongo.document.UserDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Preenche {@code birthdayMonthDay} dos usuários gravados antes do campo existir, para que o
+ * agendador de lembretes encontre os aniversários deles. A conta é feita no servidor, no mesmo fuso
+ * que o Spring Data usa para gravar o {@code LocalDate} como data.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserBirthdayMonthDayBackfill {
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        Document missing = new Document("birthday", new Document("$ne", null))
+                .append("birthdayMonthDay", new Document("$exists", false));
+        Document monthDay = new Document("$dateToString", new Document("format", "--%m-%d")
+                .append("date", "$birthday")
+                .append("timezone", TimeZone.getDefault().getID()));
+
+        long updated = mongoTemplate.getCollection(UserDocument.COLLECTION)
+                .updateMany(missing, List.of(new Document("$set", new Document("birthdayMonthDay", monthDay))))
+                .getModifiedCount();
+        if (updated > 0) {
+            log.info("birthdayMonthDay preenchido em {} usuários", updated);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.project.crystalplan.domain.enums.NotificationType;
 import com.project.crystalplan.domain.enums.Recurrence;
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.DayOfWeek;
@@ -13,6 +15,15 @@ import java.time.LocalTime;
 import java.util.Set;
 
 @Document(collection = "events")
+@CompoundIndexes({
+        @CompoundIndex(name = "user_recurrence_date_idx", def = "{'userId': 1, 'recurrence': 1, 'eventDate': 1}"),
+        @CompoundIndex(name = "user_recurrence_days_idx", def = "{'userId': 1, 'recurrence': 1, 'daysOfWeek': 1}"),
+        @CompoundIndex(name = "notify_recurrence_date_idx", def = "{'notify': 1, 'recurrence': 1, 'eventDate': 1}"),
+        @CompoundIndex(name = "notify_recurrence_days_idx", def = "{'notify': 1, 'recurrence': 1, 'daysOfWeek': 1}"),
+        @CompoundIndex(name = "notify_updated_idx", def = "{'notify': 1, 'updatedAt': 1}"),
+        @CompoundIndex(name = "user_updated_idx", def = "{'userId': 1, 'updatedAt': 1, '_id': 1}"),
+        @CompoundIndex(name = "active_updated_idx", def = "{'active': 1, 'updatedAt': 1}")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -38,4 +49,6 @@ public class EventDocument {
     private LocalDateTime updatedAt;
     private boolean active;
 
+    private Long version;
+
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.project.crystalplan.infrastructure.persistence.mongo.document;
+
+import com.project.crystalplan.domain.enums.NotificationType;
+import com.project.crystalplan.domain.enums.Recurrence;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+/**
+ * Projeção de {@link EventDocument} usada nas consultas resumidas: o Spring Data pede ao Mongo só
+ * os campos declarados aqui.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSummaryDocument {
+    @Id
+    private String id;
+
+    private String title;
+    private Recurrence recurrence;
+    private LocalDate eventDate;
+    private Set<DayOfWeek> daysOfWeek;
+    private LocalTime eventTime;
+    private boolean notify;
+    private NotificationType notificationType;
+}
@@ -0,0 +1,15 @@
+package com.project.crystalplan.infrastructure.persistence.mongo.document;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Document(collection = "event_versions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventVersionDocument {
+    @Id
+    private String userId;
+    private long version;
+}
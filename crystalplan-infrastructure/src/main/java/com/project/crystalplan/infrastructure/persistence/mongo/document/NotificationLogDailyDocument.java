@@ -0,0 +1,34 @@
+package com.project.crystalplan.infrastructure.persistence.mongo.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Map;
+
+/**
+ * Contadores diários (UTC) dos logs de notificação, de um usuário ou de todos ({@link #GLOBAL_SCOPE}).
+ * São incrementados a cada gravação de log, então as estatísticas nunca leem os logs em si.
+ */
+@Document(collection = NotificationLogDailyDocument.COLLECTION)
+@CompoundIndex(name = "scope_day_idx", def = "{'scope': 1, 'day': 1}")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationLogDailyDocument {
+    public static final String COLLECTION = "notification_log_daily";
+    public static final String GLOBAL_SCOPE = "*";
+
+    // <scope>|<dia>
+    @Id
+    private String id;
+    private String scope;
+    private String day;
+    private long total;
+    private Map<String, Long> status;
+    private Map<String, Long> type;
+    private Map<String, Long> delay;
+}
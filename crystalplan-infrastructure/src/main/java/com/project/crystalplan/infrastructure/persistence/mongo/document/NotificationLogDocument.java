@@ -4,21 +4,40 @@ import com.project.crystalplan.domain.enums.NotificationStatus;
 import com.project.crystalplan.domain.enums.NotificationType;
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
-import java.util.UUID;
 
-@Document(collection = "notification_logs")
+@Document(collection = NotificationLogDocument.COLLECTION)
+@CompoundIndexes({
+        @CompoundIndex(name = "meta_user_sent_idx", def = "{'meta.userId': 1, 'sentAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "meta_event_sent_idx", def = "{'meta.eventId': 1, 'sentAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "status_sent_idx", def = "{'status': 1, 'sentAt': -1, '_id': -1}")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class NotificationLogDocument {
+    public static final String COLLECTION = "notification_logs";
+    public static final String ARCHIVE_COLLECTION = "notification_logs_archive";
+
+    // ObjectId: cresce com o tempo, então o índice de _id só recebe inserções no fim
     @Id
-    private String id = UUID.randomUUID().toString();
-    private String eventId;
-    private String userId;
+    private String id;
+    // Meta field da coleção time-series: os buckets agrupam os logs do mesmo usuário e evento
+    private Meta meta;
     private NotificationType notificationType;
     private Instant sentAt;
     private NotificationStatus status;
+    private Instant scheduledAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Meta {
+        private String userId;
+        private String eventId;
+    }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.project.crystalplan.infrastructure.persistence.mongo.document;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalTime;
@@ -13,6 +14,7 @@ import java.time.LocalTime;
 public class NotificationSettingsDocument {
     @Id
     private String id;
+    @Indexed(name = "user_unique_idx", unique = true)
     private String userId;
     private Boolean emailNotificationsEnabled;
     private Boolean visualNotificationsEnabled;
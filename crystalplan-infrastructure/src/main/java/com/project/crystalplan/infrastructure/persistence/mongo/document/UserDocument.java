@@ -7,13 +7,20 @@ import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime; // Import para LocalDateTime
+import java.time.MonthDay;
 import java.util.UUID; // Import para UUID
 
-@Document(collection = "users")
+@Document(collection = UserDocument.COLLECTION)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class UserDocument {
+    public static final String COLLECTION = "users";
+
+    public static String monthDayOf(LocalDate birthday) {
+        return birthday == null ? null : MonthDay.from(birthday).toString();
+    }
+
     @Id
     private String id;
     private String uuid;
@@ -22,6 +29,9 @@ public class UserDocument {
     private String email;
     private String password;
     private LocalDate birthday;
+    // Dia e mês do aniversário ("--MM-dd"), para o agendador achar quem faz aniversário na janela pelo índice
+    @Indexed
+    private String birthdayMonthDay;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private boolean active;
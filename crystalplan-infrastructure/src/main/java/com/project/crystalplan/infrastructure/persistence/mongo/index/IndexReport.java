@@ -0,0 +1,20 @@
+package com.project.crystalplan.infrastructure.persistence.mongo.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class IndexReport {
+    private final String collection;
+    private final List<String> declaredIndexes;
+    private final List<String> createdIndexes;
+    private final List<String> undeclaredIndexes;
+    private final List<String> unusedIndexes;
+
+    public boolean hasFindings() {
+        return !createdIndexes.isEmpty() || !undeclaredIndexes.isEmpty() || !unusedIndexes.isEmpty();
+    }
+}
@@ -0,0 +1,127 @@
+package com.project.crystalplan.infrastructure.persistence.mongo.index;
+
+import com.mongodb.MongoException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Garante na subida da aplicação que os índices declarados nos documentos existem
+ * e relata índices ausentes (criados aqui), não declarados e sem uso desde o último restart do Mongo.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "crystalplan.mongo.index-verification.enabled", havingValue = "true", matchIfMissing = true)
+public class MongoIndexManager {
+
+    private static final String ID_INDEX = "_id_";
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mappingContext;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyIndexesOnStartup() {
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(org.springframework.data.mongodb.core.mapping.Document.class)) {
+                continue;
+            }
+            IndexReport report = ensureIndexes(entity.getType());
+            if (report.hasFindings()) {
+                log.warn("Índices da coleção '{}': criados={}, não declarados={}, sem uso={}",
+                        report.getCollection(), report.getCreatedIndexes(),
+                        report.getUndeclaredIndexes(), report.getUnusedIndexes());
+            } else {
+                log.info("Índices da coleção '{}' verificados: {}", report.getCollection(), report.getDeclaredIndexes());
+            }
+        }
+    }
+
+    public List<IndexDefinition> declaredIndexes(Class<?> documentClass) {
+        List<IndexDefinition> definitions = new ArrayList<>();
+        IndexResolver.create(mappingContext).resolveIndexFor(documentClass).forEach(definitions::add);
+        return definitions;
+    }
+
+    public IndexReport ensureIndexes(Class<?> documentClass) {
+        String collection = mongoTemplate.getCollectionName(documentClass);
+        IndexOperations indexOps = mongoTemplate.indexOps(documentClass);
+
+        List<IndexInfo> indexes = indexOps.getIndexInfo();
+        Set<String> existing = indexes.stream()
+                .map(IndexInfo::getName)
+                .collect(Collectors.toSet());
+        // Índices TTL são mantidos pela configuração de retenção, não pelas anotações
+        Set<String> ttl = indexes.stream()
+                .filter(info -> info.getExpireAfter().isPresent())
+                .map(IndexInfo::getName)
+                .collect(Collectors.toSet());
+
+        List<String> declared = new ArrayList<>();
+        List<String> created = new ArrayList<>();
+        for (IndexDefinition definition : declaredIndexes(documentClass)) {
+            String name = indexName(definition);
+            declared.add(name);
+            if (!existing.contains(name)) {
+                created.add(indexOps.ensureIndex(definition));
+            }
+        }
+
+        List<String> undeclared = existing.stream()
+                .filter(name -> !ID_INDEX.equals(name) && !declared.contains(name) && !ttl.contains(name))
+                .sorted()
+                .collect(Collectors.toList());
+
+        return new IndexReport(collection, declared, created, undeclared, unusedIndexes(collection));
+    }
+
+    private List<String> unusedIndexes(String collection) {
+        try {
+            List<Document> stats = mongoTemplate.getCollection(collection)
+                    .aggregate(List.of(new Document("$indexStats", new Document())))
+                    .into(new ArrayList<>());
+
+            return stats.stream()
+                    .filter(stat -> !ID_INDEX.equals(stat.getString("name")))
+                    .filter(stat -> {
+                        Document accesses = stat.get("accesses", Document.class);
+                        Number ops = accesses != null ? accesses.get("ops", Number.class) : null;
+                        return ops == null || ops.longValue() == 0;
+                    })
+                    .map(stat -> stat.getString("name"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (MongoException | DataAccessException e) {
+            log.debug("Não foi possível ler $indexStats da coleção '{}': {}", collection, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private String indexName(IndexDefinition definition) {
+        String name = definition.getIndexOptions().getString("name");
+        if (name != null) {
+            return name;
+        }
+        // Mesmo formato que o Mongo usa para nomear índices sem nome explícito
+        return definition.getIndexKeys().entrySet().stream()
+                .map(entry -> entry.getKey() + "_" + entry.getValue())
+                .collect(Collectors.joining("_"));
+    }
+}
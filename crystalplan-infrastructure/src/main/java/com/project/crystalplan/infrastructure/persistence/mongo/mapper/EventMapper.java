@@ -1,7 +1,9 @@
 package com.project.crystalplan.infrastructure.persistence.mongo.mapper;
 
 import com.project.crystalplan.domain.models.Event;
+import com.project.crystalplan.domain.models.EventSummary;
 import com.project.crystalplan.infrastructure.persistence.mongo.document.EventDocument;
+import com.project.crystalplan.infrastructure.persistence.mongo.document.EventSummaryDocument;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -24,6 +26,7 @@ public class EventMapper {
         document.setCreatedAt(event.getCreatedAt());
         document.setUpdatedAt(event.getUpdatedAt());
         document.setActive(event.isActive());
+        document.setVersion(event.getVersion());
         return document;
     }
 
@@ -44,6 +47,12 @@ public class EventMapper {
         event.setCreatedAt(doc.getCreatedAt());
         event.setUpdatedAt(doc.getUpdatedAt());
         event.setActive(doc.isActive());
+        event.setVersion(doc.getVersion());
         return event;
     }
+
+    public EventSummary toSummary(EventSummaryDocument doc) {
+        return new EventSummary(doc.getId(), doc.getTitle(), doc.getRecurrence(), doc.getEventDate(),
+                doc.getDaysOfWeek(), doc.getEventTime(), doc.isNotify(), doc.getNotificationType());
+    }
 }
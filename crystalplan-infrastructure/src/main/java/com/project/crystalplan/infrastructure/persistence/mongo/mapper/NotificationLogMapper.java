@@ -14,22 +14,25 @@ public class NotificationLogMapper {
     public NotificationLogDocument toDocument(NotificationLog notificationLog) {
         NotificationLogDocument document = new NotificationLogDocument();
         document.setId(notificationLog.getId());
-        document.setEventId(notificationLog.getEventId());
-        document.setUserId(notificationLog.getUserId());
+        document.setMeta(new NotificationLogDocument.Meta(notificationLog.getUserId(), notificationLog.getEventId()));
         document.setNotificationType(notificationLog.getNotificationType());
         document.setSentAt(notificationLog.getSentAt());
         document.setStatus(notificationLog.getStatus());
+        document.setScheduledAt(notificationLog.getScheduledAt());
         return document;
     }
 
     public NotificationLog toDomain(NotificationLogDocument doc) {
         NotificationLog notificationLog = new NotificationLog();
         notificationLog.setId(doc.getId());
-        notificationLog.setEventId(doc.getEventId());
-        notificationLog.setUserId(doc.getUserId());
+        if (doc.getMeta() != null) {
+            notificationLog.setEventId(doc.getMeta().getEventId());
+            notificationLog.setUserId(doc.getMeta().getUserId());
+        }
         notificationLog.setNotificationType(doc.getNotificationType());
         notificationLog.setSentAt(doc.getSentAt());
         notificationLog.setStatus(doc.getStatus());
+        notificationLog.setScheduledAt(doc.getScheduledAt());
         return notificationLog;
     }
 }
\ No newline at end of file
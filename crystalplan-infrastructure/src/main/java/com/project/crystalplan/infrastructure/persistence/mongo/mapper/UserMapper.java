@@ -18,6 +18,7 @@ public class UserMapper {
         document.setEmail(user.getEmail());
         document.setPassword(user.getPassword());
         document.setBirthday(user.getBirthday());
+        document.setBirthdayMonthDay(UserDocument.monthDayOf(user.getBirthday()));
         document.setCreatedAt(user.getCreatedAt());
         document.setUpdatedAt(user.getUpdatedAt());
         document.setActive(user.isActive());
@@ -0,0 +1,245 @@
+package com.project.crystalplan.infrastructure.persistence.mongo.repository.impl;
+
+import com.project.crystalplan.domain.enums.NotificationStatus;
+import com.project.crystalplan.domain.exceptions.BatchInsertException;
+import com.project.crystalplan.domain.models.CursorPage;
+import com.project.crystalplan.domain.models.NotificationLog;
+import com.project.crystalplan.domain.models.NotificationLogCursor;
+import com.project.crystalplan.domain.repositories.NotificationLogRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Acumula os logs de notificação em uma fila limitada e grava em lote (insert sem ordem), quando o lote
+ * enche ou a cada intervalo. Com a fila cheia, quem está gravando esvazia a fila antes de seguir.
+ * Leituras não esvaziam a fila: consultas por usuário, evento e status enxergam um log depois do
+ * próximo flush (até {@code flush-interval-ms}); {@code findById} e {@code deleteById} olham também a fila.
+ * Depois do {@code shutdown}, as gravações vão direto para o repositório.
+ * Logs de um lote que falhou voltam para a fila até {@code max-attempts} tentativas; os que
+ * excedem esse limite (ou não cabem de volta na fila) são descartados e contados em
+ * {@code notification.log_buffer.dropped}.
+ */
+@Slf4j
+@Primary
+@Repository
+public class BufferedNotificationLogRepository implements NotificationLogRepository, MeterBinder {
+
+    private final NotificationLogRepository delegate;
+    private final BlockingQueue<NotificationLog> buffer;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Map<String, Integer> failedAttempts = new HashMap<>();
+    private final AtomicLong dropped = new AtomicLong();
+    private final ScheduledExecutorService flusher;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private volatile boolean closed;
+
+    @Autowired
+    public BufferedNotificationLogRepository(@Qualifier("notificationLogRepositoryImpl") NotificationLogRepository delegate,
+                                             @Value("${notification.log-buffer.capacity:10000}") int capacity,
+                                             @Value("${notification.log-buffer.batch-size:500}") int batchSize,
+                                             @Value("${notification.log-buffer.flush-interval-ms:1000}") long flushIntervalMs,
+                                             @Value("${notification.log-buffer.max-attempts:3}") int maxAttempts) {
+        this.delegate = delegate;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-log-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public NotificationLog save(NotificationLog notificationLog) {
+        if (notificationLog.getId() == null) {
+            notificationLog.setId(new ObjectId().toHexString());
+        }
+
+        if (closed) {
+            return delegate.save(notificationLog);
+        }
+        if (!buffer.offer(notificationLog)) {
+            flush();
+            if (!buffer.offer(notificationLog)) {
+                return delegate.save(notificationLog);
+            }
+        }
+
+        if (closed) {
+            // O shutdown começou depois da verificação acima e pode já ter feito o último flush
+            flush();
+        } else if (buffer.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            try {
+                flusher.execute(() -> {
+                    flushRequested.set(false);
+                    flush();
+                });
+            } catch (RejectedExecutionException e) {
+                flushRequested.set(false);
+                flush();
+            }
+        }
+        return notificationLog;
+    }
+
+    @Override
+    public List<NotificationLog> saveAll(List<NotificationLog> notificationLogs) {
+        flush();
+        return delegate.saveAll(notificationLogs);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("notification.log_buffer.pending", buffer, BlockingQueue::size)
+                .register(registry);
+        FunctionCounter.builder("notification.log_buffer.dropped", dropped, AtomicLong::get)
+                .register(registry);
+    }
+
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<NotificationLog> batch = new ArrayList<>(batchSize);
+            while (buffer.drainTo(batch, batchSize) > 0) {
+                try {
+                    delegate.saveAll(batch);
+                    batch.forEach(saved -> failedAttempts.remove(saved.getId()));
+                } catch (BatchInsertException e) {
+                    // Só as posições rejeitadas voltam; as demais já foram gravadas
+                    List<NotificationLog> failed = new ArrayList<>();
+                    for (int i = 0; i < batch.size(); i++) {
+                        if (e.getFailures().containsKey(i)) {
+                            failed.add(batch.get(i));
+                        } else {
+                            failedAttempts.remove(batch.get(i).getId());
+                        }
+                    }
+                    retryLater(failed, e);
+                    break;
+                } catch (RuntimeException e) {
+                    retryLater(batch, e);
+                    break;
+                }
+                batch = new ArrayList<>(batchSize);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void retryLater(List<NotificationLog> failed, RuntimeException cause) {
+        int discarded = 0;
+        for (NotificationLog notificationLog : failed) {
+            int attempts = failedAttempts.merge(notificationLog.getId(), 1, Integer::sum);
+            if (attempts >= maxAttempts || !buffer.offer(notificationLog)) {
+                failedAttempts.remove(notificationLog.getId());
+                discarded++;
+            }
+        }
+        dropped.addAndGet(discarded);
+        log.error("Falha ao gravar {} logs de notificação ({} descartados): {}",
+                failed.size(), discarded, cause.getMessage());
+    }
+
+    public int pending() {
+        return buffer.size();
+    }
+
+    public long dropped() {
+        return dropped.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Sem próximo ciclo do flusher: as novas tentativas precisam acontecer aqui
+        for (int attempt = 0; attempt < maxAttempts && !buffer.isEmpty(); attempt++) {
+            flush();
+        }
+    }
+
+    @Override
+    public Optional<NotificationLog> findById(String id) {
+        Optional<NotificationLog> pending = buffer.stream()
+                .filter(notificationLog -> id.equals(notificationLog.getId()))
+                .findFirst();
+        return pending.isPresent() ? pending : delegate.findById(id);
+    }
+
+    @Override
+    public List<NotificationLog> findByUserId(String userId) {
+        return delegate.findByUserId(userId);
+    }
+
+    @Override
+    public List<NotificationLog> findByEventId(String eventId) {
+        return delegate.findByEventId(eventId);
+    }
+
+    @Override
+    public List<NotificationLog> findByStatus(NotificationStatus status) {
+        return delegate.findByStatus(status);
+    }
+
+    @Override
+    public CursorPage<NotificationLog> findByUserId(String userId, NotificationLogCursor after, int limit) {
+        return delegate.findByUserId(userId, after, limit);
+    }
+
+    @Override
+    public CursorPage<NotificationLog> findByEventId(String eventId, NotificationLogCursor after, int limit) {
+        return delegate.findByEventId(eventId, after, limit);
+    }
+
+    @Override
+    public CursorPage<NotificationLog> findByStatus(NotificationStatus status, NotificationLogCursor after, int limit) {
+        return delegate.findByStatus(status, after, limit);
+    }
+
+    @Override
+    public long archiveSentBefore(Instant cutoff) {
+        return delegate.archiveSentBefore(cutoff);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        buffer.removeIf(notificationLog -> id.equals(notificationLog.getId()));
+        delegate.deleteById(id);
+    }
+}
@@ -0,0 +1,120 @@
+package com.project.crystalplan.infrastructure.persistence.mongo.repository.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.crystalplan.domain.models.NotificationSettings;
+import com.project.crystalplan.domain.models.NotificationSettingsPatch;
+import com.project.crystalplan.domain.repositories.NotificationSettingsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Cache das configurações de notificação por usuário, na frente do Mongo. Usuários sem configuração
+ * gravada também ficam no cache, com os valores padrão do modelo e sem id, para que a ausência não
+ * volte ao banco a cada leitura. Gravações passam pelo banco e atualizam o cache em seguida.
+ */
+@Primary
+@Repository
+public class CachingNotificationSettingsRepository implements NotificationSettingsRepository, MeterBinder {
+
+    private final NotificationSettingsRepository delegate;
+    private final Cache<String, NotificationSettings> cache;
+
+    @Autowired
+    public CachingNotificationSettingsRepository(@Qualifier("notificationSettingsRepositoryImpl") NotificationSettingsRepository delegate,
+                                                 @Value("${notification.settings-cache.max-size:10000}") long maxSize,
+                                                 @Value("${notification.settings-cache.ttl:5m}") Duration ttl) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "notification.settings");
+    }
+
+    @Override
+    public NotificationSettings save(NotificationSettings settings) {
+        return cached(delegate.save(settings));
+    }
+
+    @Override
+    public NotificationSettings patch(String userId, NotificationSettingsPatch patch) {
+        return cached(delegate.patch(userId, patch));
+    }
+
+    @Override
+    public Optional<NotificationSettings> findById(String id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<NotificationSettings> findByUserId(String userId) {
+        NotificationSettings settings = cache.get(userId, id -> delegate.findByUserId(id).orElseGet(() -> defaults(id)));
+        return Optional.of(settings).filter(CachingNotificationSettingsRepository::isStored);
+    }
+
+    @Override
+    public List<NotificationSettings> findByUserIdIn(Collection<String> userIds) {
+        return cache.getAll(userIds, this::load).values().stream()
+                .filter(CachingNotificationSettingsRepository::isStored)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void deleteById(String id) {
+        Optional<NotificationSettings> existing = delegate.findById(id);
+        delegate.deleteById(id);
+        existing.ifPresent(settings -> cache.invalidate(settings.getUserId()));
+    }
+
+    private NotificationSettings cached(NotificationSettings saved) {
+        if (saved.getUserId() != null) {
+            cache.put(saved.getUserId(), saved);
+        }
+        return saved;
+    }
+
+    private Map<String, NotificationSettings> load(Set<? extends String> userIds) {
+        List<String> missing = new ArrayList<>(userIds);
+
+        Map<String, NotificationSettings> loaded = new HashMap<>();
+        for (NotificationSettings settings : delegate.findByUserIdIn(missing)) {
+            loaded.putIfAbsent(settings.getUserId(), settings);
+        }
+        for (String userId : missing) {
+            loaded.computeIfAbsent(userId, CachingNotificationSettingsRepository::defaults);
+        }
+        return loaded;
+    }
+
+    private static NotificationSettings defaults(String userId) {
+        NotificationSettings defaults = new NotificationSettings();
+        defaults.setUserId(userId);
+        return defaults;
+    }
+
+    private static boolean isStored(NotificationSettings settings) {
+        return settings.getId() != null;
+    }
+}
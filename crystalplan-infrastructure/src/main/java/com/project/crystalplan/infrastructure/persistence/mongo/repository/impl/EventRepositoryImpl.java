@@ -1,30 +1,54 @@
 package com.project.crystalplan.infrastructure.persistence.mongo.repository.impl;
 
 import com.project.crystalplan.domain.enums.Recurrence;
+import com.project.crystalplan.domain.exceptions.BatchInsertException;
+import com.project.crystalplan.domain.models.BirthdayEvents;
 import com.project.crystalplan.domain.models.Event;
+import com.project.crystalplan.domain.models.EventSummary;
+import com.project.crystalplan.domain.models.EventSyncCursor;
 import com.project.crystalplan.domain.repositories.EventRepository;
 import com.project.crystalplan.infrastructure.persistence.mongo.repository.springdata.SpringDataEventMongoRepository;
 import com.project.crystalplan.infrastructure.persistence.mongo.document.EventDocument;
 import com.project.crystalplan.infrastructure.persistence.mongo.mapper.EventMapper;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 public class EventRepositoryImpl implements EventRepository {
 
     private final SpringDataEventMongoRepository springDataRepo;
     private final EventMapper mapper;
+    private final MongoTemplate mongoTemplate;
 
     @Autowired
-    public EventRepositoryImpl(SpringDataEventMongoRepository springDataRepo, EventMapper mapper) {
+    public EventRepositoryImpl(SpringDataEventMongoRepository springDataRepo, EventMapper mapper,
+                               MongoTemplate mongoTemplate) {
         this.springDataRepo = springDataRepo;
         this.mapper = mapper;
+        this.mongoTemplate = mongoTemplate;
     }
 
     @Override
@@ -34,47 +58,228 @@ public class EventRepositoryImpl implements EventRepository {
         return mapper.toDomain(saved);
     }
 
+    @Override
+    public List<Event> insertAll(List<Event> events) {
+        List<EventDocument> documents = events.stream()
+                .map(mapper::toDocument)
+                .collect(Collectors.toList());
+        // Os ids são gerados aqui para que o resultado do insertMany possa ser devolvido sem nova leitura
+        documents.stream()
+                .filter(document -> document.getId() == null)
+                .forEach(document -> document.setId(new ObjectId().toHexString()));
+
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EventDocument.class)
+                    .insert(documents)
+                    .execute();
+        } catch (BulkOperationException e) {
+            Map<Integer, String> failures = new TreeMap<>();
+            e.getErrors().forEach(error -> failures.put(error.getIndex(), error.getMessage()));
+            throw new BatchInsertException(e.getResult().getInsertedCount(), failures);
+        }
+
+        return documents.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Event> findById(String id) {
         return springDataRepo.findById(id)
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<Event> findAllById(Collection<String> ids) {
+        return springDataRepo.findAllById(ids).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Event> findByUserId(String userId) {
-        return springDataRepo.findByUserId(userId).stream()
+        return springDataRepo.findByUserIdAndActiveTrue(userId).stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public void streamByUserId(String userId, Consumer<Event> action) {
+        // O cursor do Mongo fica aberto só durante a iteração e é fechado mesmo se o consumidor falhar
+        try (Stream<EventDocument> documents = springDataRepo.streamByUserIdAndActiveTrue(userId)) {
+            documents.map(mapper::toDomain).forEach(action);
+        }
+    }
+
     @Override
     public List<Event> findByUserIdAndRecurrenceAndEventDate(String userId, Recurrence recurrence, LocalDate eventDate) {
-        return springDataRepo.findByUserIdAndRecurrenceAndEventDate(userId, recurrence, eventDate).stream()
+        return springDataRepo.findByUserIdAndRecurrenceAndEventDateAndActiveTrue(userId, recurrence, eventDate).stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<Event> findByUserIdAndRecurrenceAndDaysOfWeekContaining(String userId, Recurrence recurrence, DayOfWeek dayOfWeek) {
-        return springDataRepo.findByUserIdAndRecurrenceAndDaysOfWeekContaining(userId, recurrence, dayOfWeek).stream()
+        return springDataRepo.findByUserIdAndRecurrenceAndDaysOfWeekContainingAndActiveTrue(userId, recurrence, dayOfWeek).stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<Event> findByUserIdAndRecurrence(String userId, Recurrence recurrence) {
-        return springDataRepo.findByUserIdAndRecurrence(userId, recurrence).stream()
+        return springDataRepo.findByUserIdAndRecurrenceAndActiveTrue(userId, recurrence).stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<Event> findByUserIdAndRecurrenceAndEventDateBetween(String userId, Recurrence recurrence, LocalDate startDate, LocalDate endDate) {
-        return springDataRepo.findByUserIdAndRecurrenceAndEventDateBetween(userId, recurrence, startDate, endDate).stream()
+        return springDataRepo.findByUserIdAndRecurrenceAndEventDateBetweenAndActiveTrue(userId, recurrence, startDate, endDate).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<EventSummary> findSummariesByUserId(String userId) {
+        return springDataRepo.findSummariesByUserIdAndActiveTrue(userId).stream()
+                .map(mapper::toSummary)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<EventSummary> findSummariesByUserIdAndRecurrenceAndEventDate(String userId, Recurrence recurrence, LocalDate eventDate) {
+        return springDataRepo.findSummariesByUserIdAndRecurrenceAndEventDateAndActiveTrue(userId, recurrence, eventDate).stream()
+                .map(mapper::toSummary)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<EventSummary> findSummariesByUserIdAndRecurrenceAndDaysOfWeekContaining(String userId, Recurrence recurrence, DayOfWeek dayOfWeek) {
+        return springDataRepo.findSummariesByUserIdAndRecurrenceAndDaysOfWeekContainingAndActiveTrue(userId, recurrence, dayOfWeek).stream()
+                .map(mapper::toSummary)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<EventSummary> findSummariesByUserIdAndRecurrence(String userId, Recurrence recurrence) {
+        return springDataRepo.findSummariesByUserIdAndRecurrenceAndActiveTrue(userId, recurrence).stream()
+                .map(mapper::toSummary)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<EventSummary> findSummariesByUserIdAndRecurrenceAndEventDateBetween(String userId, Recurrence recurrence, LocalDate startDate, LocalDate endDate) {
+        return springDataRepo.findSummariesByUserIdAndRecurrenceAndEventDateBetweenAndActiveTrue(userId, recurrence, startDate, endDate).stream()
+                .map(mapper::toSummary)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Event> findStoredBirthdays(String userId, Collection<String> derivedIds, LocalDate startDate, LocalDate endDate) {
+        return springDataRepo.findStoredBirthdays(userId, derivedIds, startDate, endDate, BirthdayEvents.TITLE).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Event> findOccurrenceCandidates(String userId, LocalDate startDate, LocalDate endDate) {
+        return springDataRepo.findOccurrenceCandidates(userId, startDate, endDate).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Event> findNotifiableBetween(LocalDate startDate, LocalDate endDate) {
+        // Eventos semanais só entram se algum dos seus dias cai na janela
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (LocalDate date = startDate; !date.isAfter(endDate) && days.size() < 7; date = date.plusDays(1)) {
+            days.add(date.getDayOfWeek());
+        }
+        return springDataRepo.findNotifiableBetween(startDate, endDate, days).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Event> findNotifiableUpdatedSince(LocalDateTime since) {
+        return springDataRepo.findByNotifyTrueAndActiveTrueAndUpdatedAtGreaterThan(since).stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Event> findChangedSince(String userId, EventSyncCursor after, int limit) {
+        Criteria criteria = Criteria.where("userId").is(userId);
+        if (after != null) {
+            // Keyset: tudo que vem depois de (updatedAt, id) na ordem crescente, inclusive os inativos
+            criteria = criteria.orOperator(
+                    Criteria.where("updatedAt").gt(after.getUpdatedAt()),
+                    Criteria.where("updatedAt").is(after.getUpdatedAt()).and("_id").gt(after.getId())
+            );
+        }
+
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "updatedAt", "_id"))
+                .limit(limit);
+        return mongoTemplate.find(query, EventDocument.class).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<Event> updateIfCurrent(Event event, Long expectedVersion) {
+        Criteria criteria = Criteria.where("_id").is(event.getId()).and("active").is(true);
+        if (expectedVersion != null) {
+            criteria = criteria.and("version").is(expectedVersion);
+        }
+        // uuid, userId e createdAt ficam como estão gravados
+        Update update = new Update()
+                .set("title", event.getTitle())
+                .set("description", event.getDescription())
+                .set("recurrence", event.getRecurrence())
+                .set("eventDate", event.getEventDate())
+                .set("daysOfWeek", event.getDaysOfWeek())
+                .set("eventTime", event.getEventTime())
+                .set("reminderTime", event.getReminderTime())
+                .set("notify", event.isNotify())
+                .set("notificationType", event.getNotificationType())
+                .set("updatedAt", event.getUpdatedAt())
+                .inc("version", 1);
+        EventDocument updated = mongoTemplate.findAndModify(new Query(criteria), update,
+                FindAndModifyOptions.options().returnNew(true), EventDocument.class);
+        return Optional.ofNullable(updated).map(mapper::toDomain);
+    }
+
+    @Override
+    public Optional<Event> deactivate(String id, LocalDateTime deletedAt) {
+        Query query = new Query(Criteria.where("_id").is(id).and("active").is(true));
+        Update update = new Update()
+                .set("active", false)
+                .set("updatedAt", deletedAt)
+                .inc("version", 1);
+        EventDocument deactivated = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), EventDocument.class);
+        return Optional.ofNullable(deactivated).map(mapper::toDomain);
+    }
+
+    @Override
+    public int purgeInactiveBefore(LocalDateTime cutoff, int limit) {
+        // Tombstones de aniversários ficam: sem eles o aniversário voltaria a ser derivado
+        Query candidates = new Query(Criteria.where("active").is(false)
+                .and("updatedAt").lt(cutoff)
+                .and("_id").not().regex("^" + BirthdayEvents.ID_PREFIX))
+                .limit(limit);
+        candidates.fields().include("_id");
+        List<String> ids = mongoTemplate.find(candidates, EventDocument.class).stream()
+                .map(EventDocument::getId)
+                .collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return (int) mongoTemplate.remove(new Query(Criteria.where("_id").in(ids).and("active").is(false)), EventDocument.class)
+                .getDeletedCount();
+    }
+
     @Override
     public void deleteById(String id) {
         springDataRepo.deleteById(id);
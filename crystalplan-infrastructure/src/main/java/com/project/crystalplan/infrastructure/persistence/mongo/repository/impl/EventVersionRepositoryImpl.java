@@ -0,0 +1,38 @@
+package com.project.crystalplan.infrastructure.persistence.mongo.repository.impl;
+
+import com.project.crystalplan.domain.repositories.EventVersionRepository;
+import com.project.crystalplan.infrastructure.persistence.mongo.document.EventVersionDocument;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class EventVersionRepositoryImpl implements EventVersionRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public EventVersionRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public long findVersion(String userId) {
+        EventVersionDocument document = mongoTemplate.findById(userId, EventVersionDocument.class);
+        return document == null ? 0L : document.getVersion();
+    }
+
+    @Override
+    public void increment(String userId) {
+        if (userId == null) {
+            return;
+        }
+        // $inc com upsert é atômico no servidor: escritas concorrentes nunca perdem incrementos
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(userId)),
+                new Update().inc("version", 1L),
+                EventVersionDocument.class);
+    }
+}
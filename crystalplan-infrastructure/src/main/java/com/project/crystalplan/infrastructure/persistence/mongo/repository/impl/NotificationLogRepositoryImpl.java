@@ -1,38 +1,171 @@
 package com.project.crystalplan.infrastructure.persistence.mongo.repository.impl;
 
+import com.mongodb.bulk.BulkWriteError;
 import com.project.crystalplan.domain.enums.NotificationStatus;
+import com.project.crystalplan.domain.exceptions.BatchInsertException;
+import com.project.crystalplan.domain.models.CursorPage;
 import com.project.crystalplan.domain.models.NotificationLog;
+import com.project.crystalplan.domain.models.NotificationLogCursor;
 import com.project.crystalplan.domain.repositories.NotificationLogRepository;
 import com.project.crystalplan.infrastructure.persistence.mongo.repository.springdata.SpringDataNotificationLogMongoRepository;
 import com.project.crystalplan.infrastructure.persistence.mongo.document.NotificationLogDocument;
 import com.project.crystalplan.infrastructure.persistence.mongo.mapper.NotificationLogMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.MergeOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Repository
 public class NotificationLogRepositoryImpl implements NotificationLogRepository {
 
+    private static final int DUPLICATE_KEY = 11000;
+    private static final int ARCHIVE_CHUNK_SIZE = 1000;
+
     private final SpringDataNotificationLogMongoRepository springDataRepo;
     private final NotificationLogMapper mapper;
+    private final MongoTemplate mongoTemplate;
+    private final NotificationStatsRepositoryImpl statsRepository;
+    private final boolean timeSeries;
 
     @Autowired
     public NotificationLogRepositoryImpl(SpringDataNotificationLogMongoRepository springDataRepo,
-                                         NotificationLogMapper mapper) {
+                                         NotificationLogMapper mapper, MongoTemplate mongoTemplate,
+                                         NotificationStatsRepositoryImpl statsRepository,
+                                         @Value("${notification.logs.time-series.enabled:false}") boolean timeSeries) {
         this.springDataRepo = springDataRepo;
         this.mapper = mapper;
+        this.mongoTemplate = mongoTemplate;
+        this.statsRepository = statsRepository;
+        this.timeSeries = timeSeries;
     }
 
     @Override
     public NotificationLog save(NotificationLog notificationLog) {
         NotificationLogDocument document = mapper.toDocument(notificationLog);
-        NotificationLogDocument saved = springDataRepo.save(document);
-        return mapper.toDomain(saved);
+        // Insert, e não save: o id pode vir preenchido (buffer) e time-series não aceita upsert
+        NotificationLog saved = mapper.toDomain(mongoTemplate.insert(document));
+        recordStats(List.of(saved));
+        return saved;
     }
 
+    @Override
+    public List<NotificationLog> saveAll(List<NotificationLog> notificationLogs) {
+        List<NotificationLogDocument> documents = notificationLogs.stream()
+                .map(mapper::toDocument)
+                .collect(Collectors.toList());
+        // Os ids são gerados aqui para que as falhas por posição identifiquem o log
+        documents.stream()
+                .filter(document -> document.getId() == null)
+                .forEach(document -> document.setId(new ObjectId().toHexString()));
+
+        Map<Integer, String> failures = new TreeMap<>();
+        Set<Integer> duplicates = new HashSet<>();
+        Set<String> storedIds = timeSeries ? storedIds(documents) : Set.of();
+        // Posição no lote original de cada documento enviado ao Mongo
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < documents.size(); i++) {
+            if (storedIds.contains(documents.get(i).getId())) {
+                duplicates.add(i);
+            } else {
+                positions.add(i);
+            }
+        }
+
+        int insertedCount = positions.size();
+        if (!positions.isEmpty()) {
+            try {
+                // Sem ordem: um documento rejeitado não impede a gravação dos que vêm depois dele
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationLogDocument.class)
+                        .insert(positions.stream().map(documents::get).collect(Collectors.toList()))
+                        .execute();
+            } catch (BulkOperationException e) {
+                insertedCount = e.getResult().getInsertedCount();
+                for (BulkWriteError error : e.getErrors()) {
+                    int position = positions.get(error.getIndex());
+                    if (error.getCode() == DUPLICATE_KEY) {
+                        // Já gravado por uma tentativa anterior do mesmo lote
+                        duplicates.add(position);
+                    } else {
+                        failures.put(position, error.getMessage());
+                    }
+                }
+            }
+        }
+
+        List<NotificationLog> inserted = new ArrayList<>();
+        List<NotificationLog> stored = new ArrayList<>();
+        for (int i = 0; i < documents.size(); i++) {
+            if (failures.containsKey(i)) {
+                continue;
+            }
+            NotificationLog log = mapper.toDomain(documents.get(i));
+            stored.add(log);
+            if (!duplicates.contains(i)) {
+                inserted.add(log);
+            }
+        }
+        recordStats(inserted);
+        if (!failures.isEmpty()) {
+            throw new BatchInsertException(insertedCount, failures);
+        }
+        return stored;
+    }
+
+    /**
+     * Time-series não tem índice único de {@code _id}, então um reenvio não falha com chave duplicada.
+     * Os ids já gravados são consultados antes; o filtro por {@code sentAt} limita a busca aos buckets
+     * do período do lote. Cobre os reenvios do buffer, que grava um lote por vez, mas não gravações
+     * concorrentes do mesmo log.
+     */
+    private Set<String> storedIds(List<NotificationLogDocument> documents) {
+        List<Instant> sentAt = documents.stream()
+                .map(NotificationLogDocument::getSentAt)
+                .filter(Objects::nonNull)
+                .sorted()
+                .collect(Collectors.toList());
+        if (sentAt.isEmpty()) {
+            return Set.of();
+        }
+        Query query = new Query(Criteria.where("_id").in(documents.stream().map(NotificationLogDocument::getId).collect(Collectors.toList()))
+                .and("sentAt").gte(sentAt.get(0)).lte(sentAt.get(sentAt.size() - 1)));
+        query.fields().include("_id");
+        return mongoTemplate.find(query, NotificationLogDocument.class).stream()
+                .map(NotificationLogDocument::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private void recordStats(List<NotificationLog> saved) {
+        try {
+            statsRepository.record(saved);
+        } catch (RuntimeException e) {
+            // Os logs já foram gravados; só as estatísticas ficam sem este lote
+            log.warn("Falha ao atualizar as estatísticas de {} logs de notificação: {}", saved.size(), e.getMessage());
+        }
+    }
+
+    // Em time-series não há índice de _id: a busca percorre a coleção
     @Override
     public Optional<NotificationLog> findById(String id) {
         return springDataRepo.findById(id)
@@ -41,14 +174,14 @@ public class NotificationLogRepositoryImpl implements NotificationLogRepository
 
     @Override
     public List<NotificationLog> findByUserId(String userId) {
-        return springDataRepo.findByUserId(userId).stream()
+        return springDataRepo.findByMetaUserId(userId).stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<NotificationLog> findByEventId(String eventId) {
-        return springDataRepo.findByEventId(eventId).stream()
+        return springDataRepo.findByMetaEventId(eventId).stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
@@ -60,6 +193,77 @@ public class NotificationLogRepositoryImpl implements NotificationLogRepository
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPage<NotificationLog> findByUserId(String userId, NotificationLogCursor after, int limit) {
+        return findPage(Criteria.where("meta.userId").is(userId), after, limit);
+    }
+
+    @Override
+    public CursorPage<NotificationLog> findByEventId(String eventId, NotificationLogCursor after, int limit) {
+        return findPage(Criteria.where("meta.eventId").is(eventId), after, limit);
+    }
+
+    @Override
+    public CursorPage<NotificationLog> findByStatus(NotificationStatus status, NotificationLogCursor after, int limit) {
+        return findPage(Criteria.where("status").is(status), after, limit);
+    }
+
+    private CursorPage<NotificationLog> findPage(Criteria filter, NotificationLogCursor after, int limit) {
+        Criteria criteria = filter;
+        if (after != null) {
+            // Keyset: tudo que vem depois de (sentAt, id) na ordem decrescente, sem skip
+            criteria = new Criteria().andOperator(filter, new Criteria().orOperator(
+                    Criteria.where("sentAt").lt(after.getSentAt()),
+                    Criteria.where("sentAt").is(after.getSentAt()).and("_id").lt(after.getId())
+            ));
+        }
+
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "sentAt", "_id"))
+                .limit(limit + 1);
+        List<NotificationLog> logs = mongoTemplate.find(query, NotificationLogDocument.class).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+
+        if (logs.size() <= limit) {
+            return new CursorPage<>(logs, null);
+        }
+        List<NotificationLog> page = logs.subList(0, limit);
+        return new CursorPage<>(new ArrayList<>(page), NotificationLogCursor.after(page.get(limit - 1)).encode());
+    }
+
+    @Override
+    public long archiveSentBefore(Instant cutoff) {
+        long archived = 0;
+        List<String> ids;
+        // Os ids são lidos antes da cópia: um log gravado durante o arquivamento (ex.: vindo do buffer)
+        // não entra neste lote e fica para a próxima execução, em vez de ser removido sem cópia
+        while (!(ids = idsSentBefore(cutoff)).isEmpty()) {
+            Criteria chunk = Criteria.where("_id").in(ids);
+            // Cópia feita no servidor; $merge por _id torna a cópia repetível se a remoção abaixo falhar
+            Aggregation archive = Aggregation.newAggregation(
+                    Aggregation.match(chunk),
+                    Aggregation.merge()
+                            .intoCollection(NotificationLogDocument.ARCHIVE_COLLECTION)
+                            .whenMatched(MergeOperation.WhenDocumentsMatch.keepExistingDocument())
+                            .whenNotMatched(MergeOperation.WhenDocumentsDontMatch.insertNewDocument())
+                            .build())
+                    .withOptions(AggregationOptions.builder().skipOutput().build());
+            mongoTemplate.aggregate(archive, NotificationLogDocument.class, NotificationLogDocument.class);
+            archived += mongoTemplate.remove(new Query(chunk), NotificationLogDocument.class).getDeletedCount();
+        }
+        return archived;
+    }
+
+    private List<String> idsSentBefore(Instant cutoff) {
+        Query query = new Query(Criteria.where("sentAt").lt(cutoff)).limit(ARCHIVE_CHUNK_SIZE);
+        query.fields().include("_id");
+        return mongoTemplate.find(query, NotificationLogDocument.class).stream()
+                .map(NotificationLogDocument::getId)
+                .collect(Collectors.toList());
+    }
+
+    // Em time-series, remover por _id exige MongoDB 7.0+
     @Override
     public void deleteById(String id) {
         springDataRepo.deleteById(id);
@@ -1,32 +1,63 @@
 package com.project.crystalplan.infrastructure.persistence.mongo.repository.impl;
 
 import com.project.crystalplan.domain.models.NotificationSettings;
+import com.project.crystalplan.domain.models.NotificationSettingsPatch;
 import com.project.crystalplan.domain.repositories.NotificationSettingsRepository;
 import com.project.crystalplan.infrastructure.persistence.mongo.document.NotificationSettingsDocument;
 import com.project.crystalplan.infrastructure.persistence.mongo.mapper.NotificationSettingsMapper;
 import com.project.crystalplan.infrastructure.persistence.mongo.repository.springdata.SpringDataNotificationSettingsMongoRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Repository
 public class NotificationSettingsRepositoryImpl implements NotificationSettingsRepository {
 
     private final SpringDataNotificationSettingsMongoRepository springDataRepo;
     private final NotificationSettingsMapper mapper;
+    private final MongoTemplate mongoTemplate;
 
     @Autowired
     public NotificationSettingsRepositoryImpl(SpringDataNotificationSettingsMongoRepository springDataRepo,
-                                              NotificationSettingsMapper mapper) {
+                                              NotificationSettingsMapper mapper,
+                                              MongoTemplate mongoTemplate) {
         this.springDataRepo = springDataRepo;
         this.mapper = mapper;
+        this.mongoTemplate = mongoTemplate;
     }
 
     @Override
     public NotificationSettings save(NotificationSettings settings) {
-        NotificationSettingsDocument saved = springDataRepo.save(mapper.toDocument(settings));
-        return mapper.toDomain(saved);
+        // Upsert pelo userId (índice único): duas gravações simultâneas não criam documentos duplicados
+        Update update = new Update()
+                .set("emailNotificationsEnabled", settings.getEmailNotificationsEnabled())
+                .set("visualNotificationsEnabled", settings.getVisualNotificationsEnabled())
+                .set("quietHoursStart", settings.getQuietHoursStart())
+                .set("quietHoursEnd", settings.getQuietHoursEnd())
+                .set("defaultReminderMinutesBefore", settings.getDefaultReminderMinutesBefore());
+        return upsert(settings.getUserId(), update);
+    }
+
+    @Override
+    public NotificationSettings patch(String userId, NotificationSettingsPatch patch) {
+        // Campos ausentes no patch só recebem o valor padrão quando o documento é criado agora
+        NotificationSettings defaults = new NotificationSettings();
+        Update update = new Update();
+        setOrDefault(update, "emailNotificationsEnabled", patch.getEmailNotificationsEnabled(), defaults.getEmailNotificationsEnabled());
+        setOrDefault(update, "visualNotificationsEnabled", patch.getVisualNotificationsEnabled(), defaults.getVisualNotificationsEnabled());
+        setOrDefault(update, "quietHoursStart", patch.getQuietHoursStart(), defaults.getQuietHoursStart());
+        setOrDefault(update, "quietHoursEnd", patch.getQuietHoursEnd(), defaults.getQuietHoursEnd());
+        setOrDefault(update, "defaultReminderMinutesBefore", patch.getDefaultReminderMinutesBefore(), defaults.getDefaultReminderMinutesBefore());
+        return upsert(userId, update);
     }
 
     @Override
@@ -39,8 +70,32 @@ public class NotificationSettingsRepositoryImpl implements NotificationSettingsR
         return springDataRepo.findByUserId(userId).map(mapper::toDomain);
     }
 
+    @Override
+    public List<NotificationSettings> findByUserIdIn(Collection<String> userIds) {
+        return springDataRepo.findByUserIdIn(userIds).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void deleteById(String id) {
         springDataRepo.deleteById(id);
     }
+
+    private NotificationSettings upsert(String userId, Update update) {
+        NotificationSettingsDocument saved = mongoTemplate.findAndModify(
+                new Query(Criteria.where("userId").is(userId)),
+                update,
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                NotificationSettingsDocument.class);
+        return mapper.toDomain(saved);
+    }
+
+    private void setOrDefault(Update update, String field, Object value, Object defaultValue) {
+        if (value != null) {
+            update.set(field, value);
+        } else {
+            update.setOnInsert(field, defaultValue);
+        }
+    }
 }
@@ -0,0 +1,149 @@
+package com.project.crystalplan.infrastructure.persistence.mongo.repository.impl;
+
+import com.project.crystalplan.domain.enums.NotificationStatus;
+import com.project.crystalplan.domain.enums.NotificationType;
+import com.project.crystalplan.domain.models.DeliveryDelayHistogram;
+import com.project.crystalplan.domain.models.NotificationLog;
+import com.project.crystalplan.domain.models.NotificationStats;
+import com.project.crystalplan.domain.repositories.NotificationStatsRepository;
+import com.project.crystalplan.infrastructure.persistence.mongo.document.NotificationLogDailyDocument;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.GroupOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+@Repository
+public class NotificationStatsRepositoryImpl implements NotificationStatsRepository {
+
+    private static final String SEPARATOR = "|";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public NotificationStatsRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Soma os logs nos contadores diários do usuário e no global: um upsert com $inc por
+     * usuário e dia do lote, todos numa única ida ao banco.
+     */
+    public void record(Collection<NotificationLog> logs) {
+        Map<String, Map<String, Long>> counters = new LinkedHashMap<>();
+        for (NotificationLog log : logs) {
+            if (log.getSentAt() == null) {
+                continue;
+            }
+            String day = LocalDate.ofInstant(log.getSentAt(), ZoneOffset.UTC).toString();
+            count(counters.computeIfAbsent(NotificationLogDailyDocument.GLOBAL_SCOPE + SEPARATOR + day, key -> new LinkedHashMap<>()), log);
+            if (log.getUserId() != null) {
+                count(counters.computeIfAbsent(log.getUserId() + SEPARATOR + day, key -> new LinkedHashMap<>()), log);
+            }
+        }
+        if (counters.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationLogDailyDocument.class);
+        counters.forEach((id, increments) -> {
+            int separator = id.lastIndexOf(SEPARATOR);
+            Update update = new Update()
+                    .setOnInsert("scope", id.substring(0, separator))
+                    .setOnInsert("day", id.substring(separator + 1));
+            increments.forEach(update::inc);
+            bulk.upsert(new Query(Criteria.where("_id").is(id)), update);
+        });
+        bulk.execute();
+    }
+
+    private void count(Map<String, Long> increments, NotificationLog log) {
+        increments.merge("total", 1L, Long::sum);
+        if (log.getStatus() != null) {
+            increments.merge("status." + log.getStatus(), 1L, Long::sum);
+        }
+        if (log.getNotificationType() != null) {
+            increments.merge("type." + log.getNotificationType(), 1L, Long::sum);
+        }
+        Duration delay = log.deliveryDelay();
+        if (delay != null) {
+            increments.merge("delay.b" + DeliveryDelayHistogram.bucketOf(delay), 1L, Long::sum);
+        }
+    }
+
+    @Override
+    public NotificationStats findStats(String userId, LocalDate from, LocalDate to) {
+        String scope = userId != null ? userId : NotificationLogDailyDocument.GLOBAL_SCOPE;
+
+        GroupOperation totals = Aggregation.group().sum("total").as("total");
+        for (NotificationStatus status : NotificationStatus.values()) {
+            totals = totals.sum("status." + status).as("status_" + status);
+        }
+        for (NotificationType type : NotificationType.values()) {
+            totals = totals.sum("type." + type).as("type_" + type);
+        }
+        for (int bucket = 0; bucket < DeliveryDelayHistogram.BUCKETS; bucket++) {
+            totals = totals.sum("delay.b" + bucket).as("delay_b" + bucket);
+        }
+
+        // Totais do intervalo e série por dia na mesma consulta
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("scope").is(scope).and("day").gte(from.toString()).lte(to.toString())),
+                Aggregation.facet(totals).as("totals")
+                        .and(Aggregation.sort(Sort.Direction.ASC, "day"), Aggregation.project("day", "total").andExclude("_id")).as("days"));
+        Document result = mongoTemplate.aggregate(aggregation, NotificationLogDailyDocument.COLLECTION, Document.class)
+                .getUniqueMappedResult();
+
+        List<Document> totalsResult = result != null ? result.getList("totals", Document.class) : List.of();
+        Document sums = totalsResult.isEmpty() ? new Document() : totalsResult.get(0);
+
+        Map<NotificationStatus, Long> byStatus = new EnumMap<>(NotificationStatus.class);
+        for (NotificationStatus status : NotificationStatus.values()) {
+            byStatus.put(status, longOf(sums, "status_" + status));
+        }
+        Map<NotificationType, Long> byType = new EnumMap<>(NotificationType.class);
+        for (NotificationType type : NotificationType.values()) {
+            byType.put(type, longOf(sums, "type_" + type));
+        }
+        long[] delays = new long[DeliveryDelayHistogram.BUCKETS];
+        for (int bucket = 0; bucket < delays.length; bucket++) {
+            delays[bucket] = longOf(sums, "delay_b" + bucket);
+        }
+
+        SortedMap<LocalDate, Long> byDay = new TreeMap<>();
+        if (result != null) {
+            for (Document day : result.getList("days", Document.class)) {
+                byDay.put(LocalDate.parse(day.getString("day")), longOf(day, "total"));
+            }
+        }
+
+        long delivered = byStatus.get(NotificationStatus.SUCCESS);
+        long attempted = delivered + byStatus.get(NotificationStatus.FAILURE);
+        Double successRate = attempted > 0 ? (double) delivered / attempted : null;
+
+        return new NotificationStats(userId, from, to, longOf(sums, "total"), byStatus, byType, byDay, successRate,
+                DeliveryDelayHistogram.percentile(delays, 0.50), DeliveryDelayHistogram.percentile(delays, 0.95));
+    }
+
+    private long longOf(Document document, String field) {
+        Object value = document.get(field);
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+}
@@ -0,0 +1,85 @@
+package com.project.crystalplan.infrastructure.persistence.mongo.repository.impl;
+
+import com.project.crystalplan.domain.enums.Recurrence;
+import com.project.crystalplan.domain.models.BirthdayEvents;
+import com.project.crystalplan.domain.models.Event;
+import com.project.crystalplan.domain.repositories.ReactiveEventRepository;
+import com.project.crystalplan.infrastructure.persistence.mongo.mapper.EventMapper;
+import com.project.crystalplan.infrastructure.persistence.mongo.repository.springdata.ReactiveSpringDataEventMongoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+
+@Repository
+@ConditionalOnProperty(name = "crystalplan.reactive.enabled", havingValue = "true")
+public class ReactiveEventRepositoryImpl implements ReactiveEventRepository {
+
+    private final ReactiveSpringDataEventMongoRepository springDataRepo;
+    private final EventMapper mapper;
+
+    @Autowired
+    public ReactiveEventRepositoryImpl(ReactiveSpringDataEventMongoRepository springDataRepo, EventMapper mapper) {
+        this.springDataRepo = springDataRepo;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Mono<Event> findById(String id) {
+        return springDataRepo.findById(id)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Flux<Event> findAllById(Collection<String> ids) {
+        return springDataRepo.findAllById(ids)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Flux<Event> findByUserId(String userId) {
+        return springDataRepo.findByUserIdAndActiveTrue(userId)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Flux<Event> findByUserIdAndRecurrenceAndEventDate(String userId, Recurrence recurrence, LocalDate eventDate) {
+        return springDataRepo.findByUserIdAndRecurrenceAndEventDateAndActiveTrue(userId, recurrence, eventDate)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Flux<Event> findByUserIdAndRecurrenceAndDaysOfWeekContaining(String userId, Recurrence recurrence, DayOfWeek dayOfWeek) {
+        return springDataRepo.findByUserIdAndRecurrenceAndDaysOfWeekContainingAndActiveTrue(userId, recurrence, dayOfWeek)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Flux<Event> findByUserIdAndRecurrence(String userId, Recurrence recurrence) {
+        return springDataRepo.findByUserIdAndRecurrenceAndActiveTrue(userId, recurrence)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Flux<Event> findByUserIdAndRecurrenceAndEventDateBetween(String userId, Recurrence recurrence, LocalDate startDate, LocalDate endDate) {
+        return springDataRepo.findByUserIdAndRecurrenceAndEventDateBetweenAndActiveTrue(userId, recurrence, startDate, endDate)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Flux<Event> findStoredBirthdays(String userId, Collection<String> derivedIds, LocalDate startDate, LocalDate endDate) {
+        return springDataRepo.findStoredBirthdays(userId, derivedIds, startDate, endDate, BirthdayEvents.TITLE)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Flux<Event> findOccurrenceCandidates(String userId, LocalDate startDate, LocalDate endDate) {
+        return springDataRepo.findOccurrenceCandidates(userId, startDate, endDate)
+                .map(mapper::toDomain);
+    }
+}
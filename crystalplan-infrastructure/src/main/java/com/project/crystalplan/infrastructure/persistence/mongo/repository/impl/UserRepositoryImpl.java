@@ -8,7 +8,13 @@ import com.project.crystalplan.infrastructure.persistence.mongo.repository.sprin
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Repository
 public class UserRepositoryImpl implements UserRepository {
@@ -48,6 +54,21 @@ public class UserRepositoryImpl implements UserRepository {
         return springDataRepo.findByEmailAndActiveTrue(email).map(mapper::toDomain);
     }
 
+    @Override
+    public List<User> findActiveByBirthdayBetween(LocalDate startDate, LocalDate endDate) {
+        Set<String> monthDays = new HashSet<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate) && monthDays.size() < 366; date = date.plusDays(1)) {
+            monthDays.add(UserDocument.monthDayOf(date));
+            // Fora dos anos bissextos, quem nasceu em 29/02 faz aniversário em 28/02 (LocalDate.withYear)
+            if (date.getMonth() == Month.FEBRUARY && date.getDayOfMonth() == 28 && !date.isLeapYear()) {
+                monthDays.add(UserDocument.monthDayOf(LocalDate.of(2000, 2, 29)));
+            }
+        }
+        return springDataRepo.findByBirthdayMonthDayInAndActiveTrue(monthDays).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public boolean existsByEmail(String email) {
         return springDataRepo.existsByEmail(email);
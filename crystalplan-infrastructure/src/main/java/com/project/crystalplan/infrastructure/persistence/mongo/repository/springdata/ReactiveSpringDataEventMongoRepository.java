@@ -0,0 +1,36 @@
+package com.project.crystalplan.infrastructure.persistence.mongo.repository.springdata;
+
+import com.project.crystalplan.domain.enums.Recurrence;
+import com.project.crystalplan.infrastructure.persistence.mongo.document.EventDocument;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+
+public interface ReactiveSpringDataEventMongoRepository extends ReactiveMongoRepository<EventDocument, String> {
+    Flux<EventDocument> findByUserIdAndActiveTrue(String userId);
+    Flux<EventDocument> findByUserIdAndRecurrenceAndEventDateAndActiveTrue(String userId, Recurrence recurrence, LocalDate eventDate);
+    Flux<EventDocument> findByUserIdAndRecurrenceAndDaysOfWeekContainingAndActiveTrue(String userId, Recurrence recurrence, DayOfWeek dayOfWeek);
+    Flux<EventDocument> findByUserIdAndRecurrenceAndActiveTrue(String userId, Recurrence recurrence);
+    Flux<EventDocument> findByUserIdAndRecurrenceAndEventDateBetweenAndActiveTrue(
+            String userId,
+            Recurrence recurrence,
+            LocalDate startDate,
+            LocalDate endDate
+    );
+
+    @Query("{ 'userId': ?0, 'active': true, '$or': [ " +
+            "{ 'recurrence': 'SINGLE', 'eventDate': { '$gte': ?1, '$lte': ?2 } }, " +
+            "{ 'recurrence': 'WEEKLY' } ] }")
+    Flux<EventDocument> findOccurrenceCandidates(String userId, LocalDate startDate, LocalDate endDate);
+
+    // Aniversários gravados, ativos ou não: os materializados pelo id derivado e os legados pela data
+    @Query(value = "{ 'userId': ?0, '$or': [ " +
+            "{ '_id': { '$in': ?1 } }, " +
+            "{ 'recurrence': 'SINGLE', 'eventDate': { '$gte': ?2, '$lte': ?3 }, 'title': ?4 } ] }",
+            fields = "{ 'userId': 1, 'title': 1, 'recurrence': 1, 'eventDate': 1, 'active': 1 }")
+    Flux<EventDocument> findStoredBirthdays(String userId, Collection<String> derivedIds, LocalDate startDate, LocalDate endDate, String title);
+}
@@ -1,22 +1,59 @@
 package com.project.crystalplan.infrastructure.persistence.mongo.repository.springdata;
 
 import com.project.crystalplan.infrastructure.persistence.mongo.document.EventDocument;
+import com.project.crystalplan.infrastructure.persistence.mongo.document.EventSummaryDocument;
 import com.project.crystalplan.domain.enums.Recurrence;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface SpringDataEventMongoRepository extends MongoRepository<EventDocument, String> {
-    List<EventDocument> findByUserId(String userId);
-    List<EventDocument> findByUserIdAndRecurrenceAndEventDate(String userId, Recurrence recurrence, LocalDate eventDate);
-    List<EventDocument> findByUserIdAndRecurrenceAndDaysOfWeekContaining(String userId, Recurrence recurrence, DayOfWeek dayOfWeek);
-    List<EventDocument> findByUserIdAndRecurrence(String userId, Recurrence recurrence);
-    List<EventDocument> findByUserIdAndRecurrenceAndEventDateBetween(
+    List<EventDocument> findByUserIdAndActiveTrue(String userId);
+    Stream<EventDocument> streamByUserIdAndActiveTrue(String userId);
+    List<EventDocument> findByUserIdAndRecurrenceAndEventDateAndActiveTrue(String userId, Recurrence recurrence, LocalDate eventDate);
+    List<EventDocument> findByUserIdAndRecurrenceAndDaysOfWeekContainingAndActiveTrue(String userId, Recurrence recurrence, DayOfWeek dayOfWeek);
+    List<EventDocument> findByUserIdAndRecurrenceAndActiveTrue(String userId, Recurrence recurrence);
+    List<EventDocument> findByUserIdAndRecurrenceAndEventDateBetweenAndActiveTrue(
             String userId,
             Recurrence recurrence,
             LocalDate startDate,
             LocalDate endDate
     );
+
+    // Projeções resumidas: o tipo de retorno limita os campos lidos do Mongo
+    List<EventSummaryDocument> findSummariesByUserIdAndActiveTrue(String userId);
+    List<EventSummaryDocument> findSummariesByUserIdAndRecurrenceAndEventDateAndActiveTrue(String userId, Recurrence recurrence, LocalDate eventDate);
+    List<EventSummaryDocument> findSummariesByUserIdAndRecurrenceAndDaysOfWeekContainingAndActiveTrue(String userId, Recurrence recurrence, DayOfWeek dayOfWeek);
+    List<EventSummaryDocument> findSummariesByUserIdAndRecurrenceAndActiveTrue(String userId, Recurrence recurrence);
+    List<EventSummaryDocument> findSummariesByUserIdAndRecurrenceAndEventDateBetweenAndActiveTrue(
+            String userId,
+            Recurrence recurrence,
+            LocalDate startDate,
+            LocalDate endDate
+    );
+
+    @Query("{ 'userId': ?0, 'active': true, '$or': [ " +
+            "{ 'recurrence': 'SINGLE', 'eventDate': { '$gte': ?1, '$lte': ?2 } }, " +
+            "{ 'recurrence': 'WEEKLY' } ] }")
+    List<EventDocument> findOccurrenceCandidates(String userId, LocalDate startDate, LocalDate endDate);
+
+    // Aniversários gravados, ativos ou não: os materializados pelo id derivado e os legados pela data
+    @Query(value = "{ 'userId': ?0, '$or': [ " +
+            "{ '_id': { '$in': ?1 } }, " +
+            "{ 'recurrence': 'SINGLE', 'eventDate': { '$gte': ?2, '$lte': ?3 }, 'title': ?4 } ] }",
+            fields = "{ 'userId': 1, 'title': 1, 'recurrence': 1, 'eventDate': 1, 'active': 1 }")
+    List<EventDocument> findStoredBirthdays(String userId, Collection<String> derivedIds, LocalDate startDate, LocalDate endDate, String title);
+
+    @Query("{ 'notify': true, 'active': true, '$or': [ " +
+            "{ 'recurrence': 'SINGLE', 'eventDate': { '$gte': ?0, '$lte': ?1 } }, " +
+            "{ 'recurrence': 'WEEKLY', 'daysOfWeek': { '$in': ?2 } } ] }")
+    List<EventDocument> findNotifiableBetween(LocalDate startDate, LocalDate endDate, Collection<DayOfWeek> daysOfWeek);
+
+    List<EventDocument> findByNotifyTrueAndActiveTrueAndUpdatedAtGreaterThan(LocalDateTime since);
 }
@@ -7,7 +7,7 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import java.util.List;
 
 public interface SpringDataNotificationLogMongoRepository extends MongoRepository<NotificationLogDocument, String> {
-    List<NotificationLogDocument> findByUserId(String userId);
-    List<NotificationLogDocument> findByEventId(String eventId);
+    List<NotificationLogDocument> findByMetaUserId(String userId);
+    List<NotificationLogDocument> findByMetaEventId(String eventId);
     List<NotificationLogDocument> findByStatus(NotificationStatus status);
 }
\ No newline at end of file
@@ -3,8 +3,11 @@ package com.project.crystalplan.infrastructure.persistence.mongo.repository.spri
 import com.project.crystalplan.infrastructure.persistence.mongo.document.NotificationSettingsDocument;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface SpringDataNotificationSettingsMongoRepository extends MongoRepository<NotificationSettingsDocument, String> {
     Optional<NotificationSettingsDocument> findByUserId(String userId);
+    List<NotificationSettingsDocument> findByUserIdIn(Collection<String> userIds);
 }
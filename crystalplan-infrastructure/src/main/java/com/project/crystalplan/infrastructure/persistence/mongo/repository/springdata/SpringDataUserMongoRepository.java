@@ -3,6 +3,8 @@ package com.project.crystalplan.infrastructure.persistence.mongo.repository.spri
 import com.project.crystalplan.infrastructure.persistence.mongo.document.UserDocument;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface SpringDataUserMongoRepository extends MongoRepository<UserDocument, String> {
@@ -10,4 +12,5 @@ public interface SpringDataUserMongoRepository extends MongoRepository<UserDocum
     boolean existsByEmail(String email);
     Optional<UserDocument> findByIdAndActiveTrue(String id);
     Optional<UserDocument> findByEmailAndActiveTrue(String email);
+    List<UserDocument> findByBirthdayMonthDayInAndActiveTrue(Collection<String> birthdayMonthDays);
 }
\ No newline at end of file
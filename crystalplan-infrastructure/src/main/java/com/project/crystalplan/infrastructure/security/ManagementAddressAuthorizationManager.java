@@ -0,0 +1,32 @@
+package com.project.crystalplan.infrastructure.security;
+
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Libera os endpoints de gestão (métricas, Prometheus) só para os endereços configurados: o token JWT
+ * de qualquer usuário cadastrado não dá acesso a eles.
+ */
+public class ManagementAddressAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private final List<IpAddressMatcher> allowed;
+
+    public ManagementAddressAuthorizationManager(List<String> allowedAddresses) {
+        this.allowed = allowedAddresses.stream()
+                .map(String::trim)
+                .filter(address -> !address.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return new AuthorizationDecision(allowed.stream().anyMatch(matcher -> matcher.matches(context.getRequest())));
+    }
+}
@@ -32,18 +32,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
             String token = bearerToken.substring(7);
-            if (tokenProvider.validateToken(token)) {
-                String userId = tokenProvider.getUserId(token);
-
-                Optional<User> userOpt = userService.getUserById(userId);
-                if (userOpt.isPresent()) {
-                    User user = userOpt.get();
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(user, null, null); // pode adicionar roles
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                }
+            Optional<User> userOpt = tokenProvider.resolveUserId(token).flatMap(userService::getUserById);
+            if (userOpt.isPresent()) {
+                User user = userOpt.get();
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(user, null, null); // pode adicionar roles
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         }
 
@@ -1,16 +1,28 @@
 package com.project.crystalplan.infrastructure.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
 
 @Component
-public class JwtTokenProvider {
+public class JwtTokenProvider implements MeterBinder {
 
     @Value("${JWT_SECURITY}")
     private String secretKey;
@@ -18,18 +30,43 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration}")
     private long validityInMilliseconds;
 
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private long verifiedCacheMaxSize;
+
+    private Clock clock = Clock.systemUTC();
     private Key key;
+    private JwtParser parser;
+    private Cache<String, VerifiedToken> verifiedTokens;
 
     @PostConstruct
     protected void init() {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        // O parser é imutável e thread-safe, então uma única instância atende todas as requisições
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .setClock(() -> Date.from(clock.instant()))
+                .build();
+        if (verifiedCacheMaxSize > 0) {
+            this.verifiedTokens = Caffeine.newBuilder()
+                    .maximumSize(verifiedCacheMaxSize)
+                    .expireAfterWrite(Duration.ofMillis(validityInMilliseconds))
+                    .recordStats()
+                    .build();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (verifiedTokens != null) {
+            CaffeineCacheMetrics.monitor(registry, verifiedTokens, "jwt.verified-tokens");
+        }
     }
 
     public String createToken(String userId, String email) {
         Claims claims = Jwts.claims().setSubject(userId);
         claims.put("email", email);
 
-        Date now = new Date();
+        Date now = Date.from(clock.instant());
         Date validity = new Date(now.getTime() + validityInMilliseconds);
 
         return Jwts.builder()
@@ -40,20 +77,57 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * Valida o token e devolve o userId com uma única verificação de assinatura.
+     * Tokens já verificados ficam em cache (pelo SHA-256) até o seu {@code exp}.
+     */
+    public Optional<String> resolveUserId(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        String digest = verifiedTokens != null ? digest(token) : null;
+        if (digest != null) {
+            VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+            if (cached != null) {
+                if (cached.expiresAt() > clock.millis()) {
+                    return Optional.of(cached.userId());
+                }
+                verifiedTokens.invalidate(digest);
+            }
+        }
+
+        Claims claims;
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            claims = parser.parseClaimsJws(token).getBody();
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
+
+        if (digest != null && claims.getExpiration() != null) {
+            verifiedTokens.put(digest, new VerifiedToken(claims.getSubject(), claims.getExpiration().getTime()));
+        }
+        return Optional.ofNullable(claims.getSubject());
+    }
+
+    public boolean validateToken(String token) {
+        return resolveUserId(token).isPresent();
     }
 
     public String getUserId(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token)
+        return parser.parseClaimsJws(token)
                 .getBody()
                 .getSubject();
     }
-}
 
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    private record VerifiedToken(String userId, long expiresAt) {}
+}
@@ -0,0 +1,51 @@
+package com.project.crystalplan.infrastructure.cache;
+
+import com.project.crystalplan.domain.models.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CaffeineUserCacheTest {
+
+    private final CaffeineUserCache cache = new CaffeineUserCache(100, Duration.ofMinutes(1));
+
+    @Test
+    void shouldReturnCachedUserUntilEvicted() {
+        User user = new User("user-1", "John Doe", "john@example.com", "Password@123", LocalDate.of(2000, 1, 1));
+        cache.put(user);
+
+        assertEquals(user, cache.get("user-1").orElseThrow());
+
+        cache.evict("user-1");
+
+        assertTrue(cache.get("user-1").isEmpty());
+    }
+
+    @Test
+    void shouldNotCacheInactiveUser() {
+        User user = new User("user-2", "Jane Doe", "jane@example.com", "Password@123", LocalDate.of(2000, 1, 1));
+        user.setActive(false);
+
+        cache.put(user);
+
+        assertTrue(cache.get("user-2").isEmpty());
+    }
+
+    @Test
+    void shouldExposeHitAndMissCounts() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        cache.put(new User("user-3", "John Doe", "john@example.com", "Password@123", LocalDate.of(2000, 1, 1)));
+
+        cache.get("user-3");
+        cache.get("user-3");
+        cache.get("user-4");
+
+        assertEquals(2.0, registry.get("cache.gets").tag("cache", "auth.users").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "auth.users").tag("result", "miss").functionCounter().count());
+    }
+}
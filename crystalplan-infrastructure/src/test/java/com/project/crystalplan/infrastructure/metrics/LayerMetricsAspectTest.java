@@ -0,0 +1,76 @@
+package com.project.crystalplan.infrastructure.metrics;
+
+import com.project.crystalplan.domain.models.Event;
+import com.project.crystalplan.domain.repositories.EventRepository;
+import com.project.crystalplan.infrastructure.persistence.mongo.document.EventDocument;
+import com.project.crystalplan.infrastructure.persistence.mongo.mapper.EventMapper;
+import com.project.crystalplan.infrastructure.persistence.mongo.repository.impl.EventRepositoryImpl;
+import com.project.crystalplan.infrastructure.persistence.mongo.repository.springdata.SpringDataEventMongoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LayerMetricsAspectTest {
+
+    @Mock
+    private SpringDataEventMongoRepository springDataRepo;
+
+    @Mock
+    private EventMapper mapper;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private EventRepository eventRepository;
+
+    @BeforeEach
+    void setUp() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new EventRepositoryImpl(springDataRepo, mapper, mongoTemplate));
+        factory.addAspect(new LayerMetricsAspect(registry));
+        eventRepository = factory.getProxy();
+    }
+
+    @Test
+    void shouldTimeFinderAndRecordResultSize() {
+        EventDocument document = new EventDocument();
+        when(springDataRepo.findByUserIdAndActiveTrue("user-1")).thenReturn(List.of(document, document, document));
+        when(mapper.toDomain(document)).thenReturn(new Event());
+
+        eventRepository.findByUserId("user-1");
+
+        assertEquals(1, registry.get(LayerMetricsAspect.REPOSITORY_TIMER)
+                .tag("class", "EventRepositoryImpl")
+                .tag("method", "findByUserId")
+                .tag("exception", "none")
+                .timer().count());
+        assertEquals(3.0, registry.get(LayerMetricsAspect.REPOSITORY_RESULTS)
+                .tag("method", "findByUserId")
+                .summary().totalAmount());
+    }
+
+    @Test
+    void shouldTagFailuresWithExceptionType() {
+        when(springDataRepo.existsById("event-1")).thenThrow(new IllegalStateException("falha"));
+
+        assertThrows(IllegalStateException.class, () -> eventRepository.existsById("event-1"));
+
+        assertEquals(1, registry.get(LayerMetricsAspect.REPOSITORY_TIMER)
+                .tag("method", "existsById")
+                .tag("exception", "IllegalStateException")
+                .timer().count());
+        assertNull(registry.find(LayerMetricsAspect.REPOSITORY_RESULTS).summary());
+    }
+}
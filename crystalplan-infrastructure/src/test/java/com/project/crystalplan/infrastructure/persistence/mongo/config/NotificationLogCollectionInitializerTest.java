@@ -0,0 +1,132 @@
+package com.project.crystalplan.infrastructure.persistence.mongo.config;
+
+import com.mongodb.client.ListCollectionsIterable;
+import com.mongodb.client.ListIndexesIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationLogCollectionInitializerTest {
+
+    @Mock
+    private MongoDatabase database;
+
+    @Mock
+    private ListCollectionsIterable<Document> collections;
+
+    @Mock
+    private MongoCollection<Document> collection;
+
+    @Mock
+    private ListIndexesIterable<Document> indexes;
+
+    @BeforeEach
+    void setUp() {
+        when(database.listCollections()).thenReturn(collections);
+        when(collections.filter(any(Bson.class))).thenReturn(collections);
+        when(database.getCollection(any())).thenReturn(collection);
+        when(collection.updateMany(any(Bson.class), anyList())).thenReturn(UpdateResult.acknowledged(0, 0L, null));
+    }
+
+    @Test
+    void shouldCreateTimeSeriesCollectionWithRetentionWhenMissing() {
+        when(collections.first()).thenReturn(null);
+        when(database.runCommand(new Document("buildInfo", 1)))
+                .thenReturn(new Document("version", "7.0.12").append("versionArray", List.of(7, 0, 12, 0)));
+        ArgumentCaptor<CreateCollectionOptions> options = ArgumentCaptor.forClass(CreateCollectionOptions.class);
+
+        new NotificationLogCollectionInitializer(true, Duration.ofDays(90), Duration.ZERO).initialize(database);
+
+        verify(database).createCollection(eq("notification_logs"), options.capture());
+        assertEquals("sentAt", options.getValue().getTimeSeriesOptions().getTimeField());
+        assertEquals("meta", options.getValue().getTimeSeriesOptions().getMetaField());
+        assertEquals(Duration.ofDays(90).toSeconds(), options.getValue().getExpireAfter(TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldCreateRegularCollectionWithTtlIndexWhenServerIsOlderThanSeven() {
+        when(collections.first()).thenReturn(null);
+        when(database.runCommand(new Document("buildInfo", 1)))
+                .thenReturn(new Document("version", "6.0.5").append("versionArray", List.of(6, 0, 5, 0)));
+        when(collection.listIndexes()).thenReturn(indexes);
+        when(indexes.into(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        new NotificationLogCollectionInitializer(true, Duration.ofDays(90), Duration.ZERO).initialize(database);
+
+        verify(database, never()).createCollection(any(), any(CreateCollectionOptions.class));
+        verify(collection).createIndex(any(Bson.class), any(IndexOptions.class));
+    }
+
+    @Test
+    void shouldUpdateRetentionOfExistingTimeSeriesCollection() {
+        when(collections.first()).thenReturn(new Document("name", "notification_logs").append("type", "timeseries")
+                .append("options", new Document("timeseries", new Document("timeField", "sentAt").append("metaField", "meta"))));
+
+        new NotificationLogCollectionInitializer(true, Duration.ofDays(30), Duration.ZERO).initialize(database);
+
+        verify(database).runCommand(new Document("collMod", "notification_logs")
+                .append("expireAfterSeconds", Duration.ofDays(30).toSeconds()));
+        verify(database, never()).createCollection(any(), any(CreateCollectionOptions.class));
+    }
+
+    @Test
+    void shouldMoveRootIdsIntoMetaAndDropLegacyIndexesOfRegularCollection() {
+        when(collections.first()).thenReturn(new Document("name", "notification_logs").append("type", "collection"));
+        when(collection.listIndexes()).thenReturn(indexes);
+        when(indexes.into(any())).thenAnswer(invocation -> {
+            Collection<Document> target = invocation.getArgument(0);
+            target.add(new Document("name", "_id_"));
+            target.add(new Document("name", "user_sent_idx"));
+            target.add(new Document("name", NotificationLogCollectionInitializer.TTL_INDEX)
+                    .append("expireAfterSeconds", Duration.ofDays(90).toSeconds()));
+            return target;
+        });
+        ArgumentCaptor<Bson> filter = ArgumentCaptor.forClass(Bson.class);
+
+        new NotificationLogCollectionInitializer(false, Duration.ofDays(90), Duration.ZERO).initialize(database);
+
+        // Arquivo e coleção principal
+        verify(collection, times(2)).updateMany(filter.capture(), anyList());
+        assertEquals(new Document("meta", new Document("$exists", false)).append("userId", new Document("$exists", true)),
+                filter.getValue());
+        verify(collection).dropIndex("user_sent_idx");
+        verify(collection, never()).createIndex(any(Bson.class), any(IndexOptions.class));
+    }
+
+    @Test
+    void shouldCreateTtlIndexOnArchiveWhenArchiveRetentionIsConfigured() {
+        when(collections.first()).thenReturn(null);
+        when(collection.listIndexes()).thenReturn(indexes);
+        when(indexes.into(any())).thenReturn(new ArrayList<>());
+        ArgumentCaptor<IndexOptions> options = ArgumentCaptor.forClass(IndexOptions.class);
+
+        new NotificationLogCollectionInitializer(false, Duration.ZERO, Duration.ofDays(365)).initialize(database);
+
+        verify(database, atLeastOnce()).getCollection("notification_logs_archive");
+        verify(collection).createIndex(any(Bson.class), options.capture());
+        assertEquals(Duration.ofDays(365).toSeconds(), options.getValue().getExpireAfter(TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,45 @@
+package com.project.crystalplan.infrastructure.persistence.mongo.config;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserBirthdayMonthDayBackfillTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MongoCollection<Document> users;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldFillMonthDayOnlyForUsersWithBirthdayAndWithoutIt() {
+        ArgumentCaptor<Bson> filter = ArgumentCaptor.forClass(Bson.class);
+        ArgumentCaptor<List<Bson>> pipeline = ArgumentCaptor.forClass(List.class);
+        when(mongoTemplate.getCollection("users")).thenReturn(users);
+        when(users.updateMany(filter.capture(), pipeline.capture())).thenReturn(UpdateResult.acknowledged(3, 3L, null));
+
+        new UserBirthdayMonthDayBackfill(mongoTemplate).backfill();
+
+        assertEquals(new Document("birthday", new Document("$ne", null))
+                .append("birthdayMonthDay", new Document("$exists", false)), filter.getValue());
+        Document set = ((Document) pipeline.getValue().get(0)).get("$set", Document.class);
+        Document monthDay = set.get("birthdayMonthDay", Document.class).get("$dateToString", Document.class);
+        assertEquals("--%m-%d", monthDay.getString("format"));
+        assertEquals("$birthday", monthDay.getString("date"));
+    }
+}
@@ -0,0 +1,108 @@
+package com.project.crystalplan.infrastructure.persistence.mongo.index;
+
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.MongoCollection;
+import com.project.crystalplan.infrastructure.persistence.mongo.document.EventDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MongoIndexManagerTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private IndexOperations indexOperations;
+
+    @Mock
+    private MongoCollection<Document> collection;
+
+    @Mock
+    private AggregateIterable<Document> indexStats;
+
+    private MongoIndexManager indexManager;
+
+    @BeforeEach
+    void setUp() {
+        // Como o Boot monta o contexto: LocalDate e afins são tipos simples, não entidades
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+        indexManager = new MongoIndexManager(mongoTemplate, mappingContext);
+    }
+
+    @Test
+    void declaredIndexes_ShouldCoverEveryEventFinder() {
+        List<String> names = indexManager.declaredIndexes(EventDocument.class).stream()
+                .map(definition -> definition.getIndexOptions().getString("name"))
+                .collect(Collectors.toList());
+
+        assertTrue(names.contains("user_recurrence_date_idx"));
+        assertTrue(names.contains("user_recurrence_days_idx"));
+    }
+
+    @Test
+    void ensureIndexes_ShouldCreateMissingIndexesAndReportUndeclaredAndUnused() {
+        List<IndexInfo> existing = List.of(
+                indexInfo("_id_"),
+                indexInfo("user_recurrence_date_idx"),
+                indexInfo("notify_recurrence_date_idx"),
+                indexInfo("notify_recurrence_days_idx"),
+                indexInfo("notify_updated_idx"),
+                indexInfo("user_updated_idx"),
+                indexInfo("active_updated_idx"),
+                indexInfo("legacy_title_idx")
+        );
+        when(mongoTemplate.getCollectionName(EventDocument.class)).thenReturn("events");
+        when(mongoTemplate.indexOps(EventDocument.class)).thenReturn(indexOperations);
+        when(indexOperations.getIndexInfo()).thenReturn(existing);
+        when(indexOperations.ensureIndex(any(IndexDefinition.class))).thenReturn("user_recurrence_days_idx");
+        when(mongoTemplate.getCollection("events")).thenReturn(collection);
+        when(collection.aggregate(anyList())).thenReturn(indexStats);
+        when(indexStats.into(any())).thenAnswer(invocation -> {
+            Collection<Document> target = invocation.getArgument(0);
+            target.add(stat("_id_", 0));
+            target.add(stat("user_recurrence_date_idx", 42));
+            target.add(stat("legacy_title_idx", 0));
+            return target;
+        });
+
+        IndexReport report = indexManager.ensureIndexes(EventDocument.class);
+
+        assertEquals("events", report.getCollection());
+        assertEquals(List.of("user_recurrence_days_idx"), report.getCreatedIndexes());
+        assertEquals(List.of("legacy_title_idx"), report.getUndeclaredIndexes());
+        assertEquals(List.of("legacy_title_idx"), report.getUnusedIndexes());
+        assertTrue(report.hasFindings());
+        verify(indexOperations, times(1)).ensureIndex(any(IndexDefinition.class));
+    }
+
+    private IndexInfo indexInfo(String name) {
+        IndexInfo info = mock(IndexInfo.class);
+        when(info.getName()).thenReturn(name);
+        return info;
+    }
+
+    private Document stat(String name, long ops) {
+        return new Document("name", name).append("accesses", new Document("ops", ops));
+    }
+}
@@ -0,0 +1,180 @@
+package com.project.crystalplan.infrastructure.persistence.mongo.repository.impl;
+
+import com.project.crystalplan.domain.enums.NotificationStatus;
+import com.project.crystalplan.domain.enums.NotificationType;
+import com.project.crystalplan.domain.exceptions.BatchInsertException;
+import com.project.crystalplan.domain.models.NotificationLog;
+import com.project.crystalplan.domain.repositories.NotificationLogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BufferedNotificationLogRepositoryTest {
+
+    @Mock
+    private NotificationLogRepository delegate;
+
+    private BufferedNotificationLogRepository repository;
+
+    @AfterEach
+    void tearDown() {
+        if (repository != null) {
+            repository.shutdown();
+        }
+    }
+
+    @Test
+    void shouldBufferLogsAndFlushThemInOneBulkInsert() {
+        repository = new BufferedNotificationLogRepository(delegate, 100, 50, 60_000, 3);
+
+        NotificationLog first = repository.save(log("event-1"));
+        NotificationLog second = repository.save(log("event-2"));
+
+        assertNotNull(first.getId());
+        assertNotNull(second.getId());
+        assertEquals(2, repository.pending());
+        verify(delegate, never()).save(any());
+
+        repository.flush();
+
+        verify(delegate, times(1)).saveAll(List.of(first, second));
+        assertEquals(0, repository.pending());
+    }
+
+    @Test
+    void shouldServeReadsWithoutFlushingAndFindPendingLogById() {
+        repository = new BufferedNotificationLogRepository(delegate, 100, 50, 60_000, 3);
+        when(delegate.findByUserId("user-1")).thenReturn(List.of());
+
+        NotificationLog pending = repository.save(log("event-1"));
+
+        assertEquals(List.of(), repository.findByUserId("user-1"));
+        assertEquals(Optional.of(pending), repository.findById(pending.getId()));
+        verify(delegate, never()).saveAll(anyList());
+        verify(delegate, never()).findById(any());
+        assertEquals(1, repository.pending());
+    }
+
+    @Test
+    void shouldDeletePendingLogFromBuffer() {
+        repository = new BufferedNotificationLogRepository(delegate, 100, 50, 60_000, 3);
+
+        NotificationLog pending = repository.save(log("event-1"));
+        repository.deleteById(pending.getId());
+
+        assertEquals(0, repository.pending());
+        verify(delegate).deleteById(pending.getId());
+    }
+
+    @Test
+    void shouldWriteDirectlyAfterShutdown() {
+        repository = new BufferedNotificationLogRepository(delegate, 100, 1, 60_000, 3);
+        repository.shutdown();
+        NotificationLog late = log("event-1");
+        when(delegate.save(late)).thenReturn(late);
+
+        // Com batch-size 1 o flush assíncrono seria pedido a um executor já encerrado
+        assertSame(late, repository.save(late));
+
+        verify(delegate).save(late);
+        assertEquals(0, repository.pending());
+    }
+
+    @Test
+    void shouldFlushInCallerThreadWhenBufferIsFull() {
+        repository = new BufferedNotificationLogRepository(delegate, 2, 50, 60_000, 3);
+
+        NotificationLog first = repository.save(log("event-1"));
+        NotificationLog second = repository.save(log("event-2"));
+        NotificationLog third = repository.save(log("event-3"));
+
+        verify(delegate, times(1)).saveAll(List.of(first, second));
+        assertEquals(1, repository.pending());
+
+        repository.shutdown();
+
+        verify(delegate, times(1)).saveAll(List.of(third));
+    }
+
+    @Test
+    void shouldFlushAsynchronouslyWhenBatchSizeIsReached() {
+        repository = new BufferedNotificationLogRepository(delegate, 100, 2, 60_000, 3);
+
+        repository.save(log("event-1"));
+        repository.save(log("event-2"));
+
+        verify(delegate, timeout(1000).times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void shouldRequeueBatchWhenDelegateFailsAndWriteItOnNextFlush() {
+        repository = new BufferedNotificationLogRepository(delegate, 100, 50, 60_000, 3);
+        when(delegate.saveAll(anyList()))
+                .thenThrow(new IllegalStateException("mongo indisponível"))
+                .thenReturn(List.of());
+
+        NotificationLog first = repository.save(log("event-1"));
+        NotificationLog second = repository.save(log("event-2"));
+
+        repository.flush();
+
+        assertEquals(2, repository.pending());
+
+        repository.flush();
+
+        verify(delegate, times(2)).saveAll(List.of(first, second));
+        assertEquals(0, repository.pending());
+        assertEquals(0, repository.dropped());
+    }
+
+    @Test
+    void shouldRequeueOnlyRejectedPositionsOfPartiallyWrittenBatch() {
+        repository = new BufferedNotificationLogRepository(delegate, 100, 50, 60_000, 3);
+        when(delegate.saveAll(anyList()))
+                .thenThrow(new BatchInsertException(1, Map.of(1, "document failed validation")))
+                .thenReturn(List.of());
+
+        NotificationLog first = repository.save(log("event-1"));
+        NotificationLog second = repository.save(log("event-2"));
+
+        repository.flush();
+        repository.flush();
+
+        verify(delegate, times(1)).saveAll(List.of(first, second));
+        verify(delegate, times(1)).saveAll(List.of(second));
+        assertEquals(0, repository.pending());
+    }
+
+    @Test
+    void shouldDropAndCountLogAfterMaxAttempts() {
+        repository = new BufferedNotificationLogRepository(delegate, 100, 50, 60_000, 2);
+        when(delegate.saveAll(anyList())).thenThrow(new IllegalStateException("mongo indisponível"));
+
+        repository.save(log("event-1"));
+
+        repository.flush();
+        assertEquals(1, repository.pending());
+
+        repository.flush();
+
+        verify(delegate, times(2)).saveAll(anyList());
+        assertEquals(0, repository.pending());
+        assertEquals(1, repository.dropped());
+    }
+
+    private NotificationLog log(String eventId) {
+        return new NotificationLog(null, eventId, "user-1", NotificationType.EMAIL, Instant.now(), NotificationStatus.SUCCESS);
+    }
+}
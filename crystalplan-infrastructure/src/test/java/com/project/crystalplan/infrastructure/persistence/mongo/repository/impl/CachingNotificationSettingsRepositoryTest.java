@@ -0,0 +1,100 @@
+package com.project.crystalplan.infrastructure.persistence.mongo.repository.impl;
+
+import com.project.crystalplan.domain.models.NotificationSettings;
+import com.project.crystalplan.domain.repositories.NotificationSettingsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingNotificationSettingsRepositoryTest {
+
+    @Mock
+    private NotificationSettingsRepository delegate;
+
+    private CachingNotificationSettingsRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingNotificationSettingsRepository(delegate, 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void shouldReadSettingsFromDatabaseOnlyOnce() {
+        NotificationSettings settings = settings("settings-1", "user-1");
+        when(delegate.findByUserId("user-1")).thenReturn(Optional.of(settings));
+
+        assertEquals(settings, repository.findByUserId("user-1").orElseThrow());
+        assertEquals(settings, repository.findByUserId("user-1").orElseThrow());
+
+        verify(delegate, times(1)).findByUserId("user-1");
+    }
+
+    @Test
+    void shouldCacheMissingSettingsAsDefaults() {
+        when(delegate.findByUserId("user-2")).thenReturn(Optional.empty());
+
+        assertTrue(repository.findByUserId("user-2").isEmpty());
+        assertTrue(repository.findByUserId("user-2").isEmpty());
+        assertTrue(repository.findByUserIdIn(List.of("user-2")).isEmpty());
+
+        verify(delegate, times(1)).findByUserId("user-2");
+        verify(delegate, never()).findByUserIdIn(anyCollection());
+    }
+
+    @Test
+    void shouldWriteThroughOnSave() {
+        when(delegate.findByUserId("user-3")).thenReturn(Optional.empty());
+        NotificationSettings saved = settings("settings-3", "user-3");
+        when(delegate.save(saved)).thenReturn(saved);
+
+        repository.findByUserId("user-3");
+        repository.save(saved);
+
+        assertEquals(saved, repository.findByUserId("user-3").orElseThrow());
+        verify(delegate, times(1)).findByUserId("user-3");
+    }
+
+    @Test
+    void shouldLoadOnlyMissingUsersInBatch() {
+        NotificationSettings cached = settings("settings-4", "user-4");
+        NotificationSettings loaded = settings("settings-5", "user-5");
+        when(delegate.findByUserId("user-4")).thenReturn(Optional.of(cached));
+        when(delegate.findByUserIdIn(List.of("user-5"))).thenReturn(List.of(loaded));
+
+        repository.findByUserId("user-4");
+        List<NotificationSettings> found = repository.findByUserIdIn(List.of("user-4", "user-5"));
+
+        assertEquals(2, found.size());
+        assertTrue(found.containsAll(List.of(cached, loaded)));
+    }
+
+    @Test
+    void shouldExposeHitAndMissCounts() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        repository.bindTo(registry);
+        when(delegate.findByUserId("user-6")).thenReturn(Optional.empty());
+
+        repository.findByUserId("user-6");
+        repository.findByUserId("user-6");
+
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "notification.settings").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "notification.settings").tag("result", "miss").functionCounter().count());
+    }
+
+    private NotificationSettings settings(String id, String userId) {
+        return new NotificationSettings(id, userId, true, false, LocalTime.of(22, 0), LocalTime.of(7, 0), 30);
+    }
+}
@@ -2,21 +2,39 @@ package com.project.crystalplan.infrastructure.persistence.mongo.repository.impl
 
 import com.project.crystalplan.domain.enums.NotificationType;
 import com.project.crystalplan.domain.enums.Recurrence;
+import com.project.crystalplan.domain.exceptions.BatchInsertException;
+import com.project.crystalplan.domain.models.BirthdayEvents;
 import com.project.crystalplan.domain.models.Event;
+import com.project.crystalplan.domain.models.EventSummary;
+import com.project.crystalplan.domain.models.EventSyncCursor;
 import com.project.crystalplan.infrastructure.persistence.mongo.document.EventDocument;
+import com.project.crystalplan.infrastructure.persistence.mongo.document.EventSummaryDocument;
 import com.project.crystalplan.infrastructure.persistence.mongo.mapper.EventMapper;
 import com.project.crystalplan.infrastructure.persistence.mongo.repository.springdata.SpringDataEventMongoRepository;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.result.DeleteResult;
+import org.bson.BsonDocument;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -24,8 +42,13 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +60,12 @@ class EventRepositoryImplTest {
     @Mock
     private EventMapper mapper;
 
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
     @InjectMocks
     private EventRepositoryImpl eventRepository;
 
@@ -97,6 +126,45 @@ class EventRepositoryImplTest {
         verify(mapper, times(1)).toDomain(sampleEventDocument);
     }
 
+    @Test
+    void insertAll_ShouldWriteAllEventsWithSingleUnorderedBulkInsert() {
+        EventDocument withoutId = EventDocument.builder().title("Birthday").userId(sampleUserId).build();
+        when(mapper.toDocument(any(Event.class))).thenReturn(withoutId, sampleEventDocument);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EventDocument.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        when(mapper.toDomain(any(EventDocument.class))).thenReturn(sampleEvent);
+
+        List<Event> inserted = eventRepository.insertAll(Arrays.asList(new Event(), sampleEvent));
+
+        assertEquals(2, inserted.size());
+        assertNotNull(withoutId.getId());
+        assertEquals("event-id-1", sampleEventDocument.getId());
+        verify(bulkOperations, times(1)).insert(Arrays.asList(withoutId, sampleEventDocument));
+        verify(bulkOperations, times(1)).execute();
+        verifyNoInteractions(springDataRepo);
+    }
+
+    @Test
+    void insertAll_ShouldReportPerItemFailures() {
+        BulkOperationException bulkException = mock(BulkOperationException.class);
+        BulkWriteResult result = mock(BulkWriteResult.class);
+        when(result.getInsertedCount()).thenReturn(1);
+        when(bulkException.getResult()).thenReturn(result);
+        when(bulkException.getErrors()).thenReturn(List.of(new BulkWriteError(11000, "duplicate key", new BsonDocument(), 1)));
+
+        when(mapper.toDocument(any(Event.class))).thenReturn(sampleEventDocument);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EventDocument.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenThrow(bulkException);
+
+        BatchInsertException exception = assertThrows(BatchInsertException.class,
+                () -> eventRepository.insertAll(Arrays.asList(sampleEvent, sampleEvent)));
+
+        assertEquals(1, exception.getInsertedCount());
+        assertEquals("duplicate key", exception.getFailures().get(1));
+        verify(mapper, never()).toDomain(any(EventDocument.class));
+    }
+
     @Test
     void findById_ShouldReturnEventWhenFound() {
         when(springDataRepo.findById("event-id-1")).thenReturn(Optional.of(sampleEventDocument));
@@ -126,7 +194,7 @@ class EventRepositoryImplTest {
         List<EventDocument> eventDocuments = Arrays.asList(sampleEventDocument, sampleEventDocument);
         List<Event> expectedEvents = Arrays.asList(sampleEvent, sampleEvent);
 
-        when(springDataRepo.findByUserId(sampleUserId)).thenReturn(eventDocuments);
+        when(springDataRepo.findByUserIdAndActiveTrue(sampleUserId)).thenReturn(eventDocuments);
         when(mapper.toDomain(any(EventDocument.class))).thenReturn(sampleEvent);
 
         List<Event> foundEvents = eventRepository.findByUserId(sampleUserId);
@@ -134,18 +202,33 @@ class EventRepositoryImplTest {
         assertFalse(foundEvents.isEmpty());
         assertEquals(expectedEvents.size(), foundEvents.size());
         assertEquals(expectedEvents, foundEvents);
-        verify(springDataRepo, times(1)).findByUserId(sampleUserId);
+        verify(springDataRepo, times(1)).findByUserIdAndActiveTrue(sampleUserId);
         verify(mapper, times(eventDocuments.size())).toDomain(any(EventDocument.class));
     }
 
+    @Test
+    void streamByUserId_ShouldMapEachDocumentAndCloseCursor() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<EventDocument> documents = Stream.of(sampleEventDocument, sampleEventDocument).onClose(() -> closed.set(true));
+        when(springDataRepo.streamByUserIdAndActiveTrue(sampleUserId)).thenReturn(documents);
+        when(mapper.toDomain(sampleEventDocument)).thenReturn(sampleEvent);
+
+        List<Event> streamed = new ArrayList<>();
+        eventRepository.streamByUserId(sampleUserId, streamed::add);
+
+        assertEquals(List.of(sampleEvent, sampleEvent), streamed);
+        assertTrue(closed.get());
+        verify(springDataRepo, never()).findByUserIdAndActiveTrue(any());
+    }
+
     @Test
     void findByUserId_ShouldReturnEmptyListWhenNoneFound() {
-        when(springDataRepo.findByUserId(sampleUserId)).thenReturn(Collections.emptyList());
+        when(springDataRepo.findByUserIdAndActiveTrue(sampleUserId)).thenReturn(Collections.emptyList());
 
         List<Event> foundEvents = eventRepository.findByUserId(sampleUserId);
 
         assertTrue(foundEvents.isEmpty());
-        verify(springDataRepo, times(1)).findByUserId(sampleUserId);
+        verify(springDataRepo, times(1)).findByUserIdAndActiveTrue(sampleUserId);
         verify(mapper, never()).toDomain(any(EventDocument.class));
     }
 
@@ -156,7 +239,7 @@ class EventRepositoryImplTest {
         List<EventDocument> eventDocuments = Collections.singletonList(sampleEventDocument);
         List<Event> expectedEvents = Collections.singletonList(sampleEvent);
 
-        when(springDataRepo.findByUserIdAndRecurrenceAndEventDate(sampleUserId, recurrence, eventDate))
+        when(springDataRepo.findByUserIdAndRecurrenceAndEventDateAndActiveTrue(sampleUserId, recurrence, eventDate))
                 .thenReturn(eventDocuments);
         when(mapper.toDomain(any(EventDocument.class))).thenReturn(sampleEvent);
 
@@ -165,7 +248,7 @@ class EventRepositoryImplTest {
         assertFalse(foundEvents.isEmpty());
         assertEquals(expectedEvents.size(), foundEvents.size());
         assertEquals(expectedEvents, foundEvents);
-        verify(springDataRepo, times(1)).findByUserIdAndRecurrenceAndEventDate(sampleUserId, recurrence, eventDate);
+        verify(springDataRepo, times(1)).findByUserIdAndRecurrenceAndEventDateAndActiveTrue(sampleUserId, recurrence, eventDate);
         verify(mapper, times(eventDocuments.size())).toDomain(any(EventDocument.class));
     }
 
@@ -203,7 +286,7 @@ class EventRepositoryImplTest {
         List<EventDocument> eventDocuments = Collections.singletonList(docForTest);
         List<Event> expectedEvents = Collections.singletonList(eventForTest);
 
-        when(springDataRepo.findByUserIdAndRecurrenceAndDaysOfWeekContaining(sampleUserId, recurrence, dayOfWeek))
+        when(springDataRepo.findByUserIdAndRecurrenceAndDaysOfWeekContainingAndActiveTrue(sampleUserId, recurrence, dayOfWeek))
                 .thenReturn(eventDocuments);
         when(mapper.toDomain(docForTest)).thenReturn(eventForTest);
 
@@ -212,7 +295,7 @@ class EventRepositoryImplTest {
         assertFalse(foundEvents.isEmpty());
         assertEquals(expectedEvents.size(), foundEvents.size());
         assertEquals(expectedEvents, foundEvents);
-        verify(springDataRepo, times(1)).findByUserIdAndRecurrenceAndDaysOfWeekContaining(sampleUserId, recurrence, dayOfWeek);
+        verify(springDataRepo, times(1)).findByUserIdAndRecurrenceAndDaysOfWeekContainingAndActiveTrue(sampleUserId, recurrence, dayOfWeek);
         verify(mapper, times(eventDocuments.size())).toDomain(docForTest);
     }
 
@@ -222,7 +305,7 @@ class EventRepositoryImplTest {
         List<EventDocument> eventDocuments = Collections.singletonList(sampleEventDocument);
         List<Event> expectedEvents = Collections.singletonList(sampleEvent);
 
-        when(springDataRepo.findByUserIdAndRecurrence(sampleUserId, recurrence))
+        when(springDataRepo.findByUserIdAndRecurrenceAndActiveTrue(sampleUserId, recurrence))
                 .thenReturn(eventDocuments);
         when(mapper.toDomain(any(EventDocument.class))).thenReturn(sampleEvent);
 
@@ -231,7 +314,7 @@ class EventRepositoryImplTest {
         assertFalse(foundEvents.isEmpty());
         assertEquals(expectedEvents.size(), foundEvents.size());
         assertEquals(expectedEvents, foundEvents);
-        verify(springDataRepo, times(1)).findByUserIdAndRecurrence(sampleUserId, recurrence);
+        verify(springDataRepo, times(1)).findByUserIdAndRecurrenceAndActiveTrue(sampleUserId, recurrence);
         verify(mapper, times(eventDocuments.size())).toDomain(any(EventDocument.class));
     }
 
@@ -243,7 +326,7 @@ class EventRepositoryImplTest {
         List<EventDocument> eventDocuments = Collections.singletonList(sampleEventDocument);
         List<Event> expectedEvents = Collections.singletonList(sampleEvent);
 
-        when(springDataRepo.findByUserIdAndRecurrenceAndEventDateBetween(sampleUserId, recurrence, startDate, endDate))
+        when(springDataRepo.findByUserIdAndRecurrenceAndEventDateBetweenAndActiveTrue(sampleUserId, recurrence, startDate, endDate))
                 .thenReturn(eventDocuments);
         when(mapper.toDomain(any(EventDocument.class))).thenReturn(sampleEvent);
 
@@ -252,10 +335,82 @@ class EventRepositoryImplTest {
         assertFalse(foundEvents.isEmpty());
         assertEquals(expectedEvents.size(), foundEvents.size());
         assertEquals(expectedEvents, foundEvents);
-        verify(springDataRepo, times(1)).findByUserIdAndRecurrenceAndEventDateBetween(sampleUserId, recurrence, startDate, endDate);
+        verify(springDataRepo, times(1)).findByUserIdAndRecurrenceAndEventDateBetweenAndActiveTrue(sampleUserId, recurrence, startDate, endDate);
+        verify(mapper, times(eventDocuments.size())).toDomain(any(EventDocument.class));
+    }
+
+    @Test
+    void findSummariesByUserIdAndRecurrenceAndEventDateBetween_ShouldReadProjectionOnly() {
+        LocalDate startDate = LocalDate.of(2025, 7, 1);
+        LocalDate endDate = LocalDate.of(2025, 7, 31);
+        EventSummaryDocument document = new EventSummaryDocument("event-id-1", "Meeting", Recurrence.SINGLE, startDate,
+                null, LocalTime.of(10, 0), true, NotificationType.EMAIL);
+        EventSummary summary = EventSummary.of(sampleEvent);
+
+        when(springDataRepo.findSummariesByUserIdAndRecurrenceAndEventDateBetweenAndActiveTrue(sampleUserId, Recurrence.SINGLE, startDate, endDate))
+                .thenReturn(List.of(document));
+        when(mapper.toSummary(document)).thenReturn(summary);
+
+        List<EventSummary> found = eventRepository.findSummariesByUserIdAndRecurrenceAndEventDateBetween(sampleUserId, Recurrence.SINGLE, startDate, endDate);
+
+        assertEquals(List.of(summary), found);
+        verify(springDataRepo, never()).findByUserIdAndRecurrenceAndEventDateBetweenAndActiveTrue(any(), any(), any(), any());
+        verify(mapper, never()).toDomain(any(EventDocument.class));
+    }
+
+    @Test
+    void findOccurrenceCandidates_ShouldReturnListOfEvents() {
+        LocalDate startDate = LocalDate.of(2025, 7, 1);
+        LocalDate endDate = LocalDate.of(2025, 8, 31);
+        List<EventDocument> eventDocuments = Collections.singletonList(sampleEventDocument);
+
+        when(springDataRepo.findOccurrenceCandidates(sampleUserId, startDate, endDate)).thenReturn(eventDocuments);
+        when(mapper.toDomain(any(EventDocument.class))).thenReturn(sampleEvent);
+
+        List<Event> foundEvents = eventRepository.findOccurrenceCandidates(sampleUserId, startDate, endDate);
+
+        assertEquals(Collections.singletonList(sampleEvent), foundEvents);
+        verify(springDataRepo, times(1)).findOccurrenceCandidates(sampleUserId, startDate, endDate);
         verify(mapper, times(eventDocuments.size())).toDomain(any(EventDocument.class));
     }
 
+    @Test
+    void findNotifiableBetween_ShouldRestrictWeeklyEventsToWindowWeekdays() {
+        LocalDate startDate = LocalDate.of(2025, 7, 30);
+        LocalDate endDate = LocalDate.of(2025, 7, 31);
+        when(springDataRepo.findNotifiableBetween(startDate, endDate, Set.of(DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY)))
+                .thenReturn(List.of(sampleEventDocument));
+        when(mapper.toDomain(sampleEventDocument)).thenReturn(sampleEvent);
+
+        List<Event> notifiable = eventRepository.findNotifiableBetween(startDate, endDate);
+
+        assertEquals(List.of(sampleEvent), notifiable);
+    }
+
+    @Test
+    void findNotifiableBetween_ShouldIncludeEveryWeekdayWhenWindowSpansAWeek() {
+        LocalDate startDate = LocalDate.of(2025, 7, 30);
+        LocalDate endDate = LocalDate.of(2025, 8, 9);
+
+        eventRepository.findNotifiableBetween(startDate, endDate);
+
+        verify(springDataRepo, times(1)).findNotifiableBetween(startDate, endDate, Set.of(DayOfWeek.values()));
+    }
+
+    @Test
+    void findStoredBirthdays_ShouldQueryByDerivedIdsAndBirthdayTitle() {
+        LocalDate startDate = LocalDate.of(2025, 7, 15);
+        LocalDate endDate = LocalDate.of(2044, 7, 15);
+        List<String> derivedIds = List.of("birthday-user-id-abc-2025");
+        when(springDataRepo.findStoredBirthdays(sampleUserId, derivedIds, startDate, endDate, BirthdayEvents.TITLE))
+                .thenReturn(List.of(sampleEventDocument));
+        when(mapper.toDomain(sampleEventDocument)).thenReturn(sampleEvent);
+
+        List<Event> stored = eventRepository.findStoredBirthdays(sampleUserId, derivedIds, startDate, endDate);
+
+        assertEquals(List.of(sampleEvent), stored);
+    }
+
     @Test
     void deleteById_ShouldCallSpringDataDeleteById() {
         doNothing().when(springDataRepo).deleteById("event-id-1");
@@ -287,4 +442,105 @@ class EventRepositoryImplTest {
         verify(springDataRepo, times(1)).existsById("non-existent-id");
         verifyNoMoreInteractions(mapper);
     }
-}
\ No newline at end of file
+
+    @Test
+    void findChangedSince_ShouldSortAscendingAfterCursorIncludingInactive() {
+        EventSyncCursor after = new EventSyncCursor(LocalDateTime.of(2025, 7, 30, 10, 0), "event-id-0", LocalDateTime.of(2025, 7, 30, 10, 5));
+        when(mongoTemplate.find(any(Query.class), eq(EventDocument.class))).thenReturn(List.of(sampleEventDocument));
+        when(mapper.toDomain(sampleEventDocument)).thenReturn(sampleEvent);
+
+        List<Event> changed = eventRepository.findChangedSince(sampleUserId, after, 51);
+
+        assertEquals(List.of(sampleEvent), changed);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(EventDocument.class));
+        assertEquals(51, query.getValue().getLimit());
+        assertEquals(new Document("updatedAt", 1).append("_id", 1), query.getValue().getSortObject());
+        assertFalse(query.getValue().getQueryObject().containsKey("active"));
+        assertTrue(query.getValue().getQueryObject().containsKey("$or"));
+    }
+
+    @Test
+    void deactivate_ShouldFlipOnlyActiveEventInOneOperation() {
+        LocalDateTime deletedAt = LocalDateTime.of(2025, 8, 1, 12, 0);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(EventDocument.class)))
+                .thenReturn(sampleEventDocument);
+        when(mapper.toDomain(sampleEventDocument)).thenReturn(sampleEvent);
+
+        Optional<Event> deactivated = eventRepository.deactivate("event-id-1", deletedAt);
+
+        assertTrue(deactivated.isPresent());
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).findAndModify(query.capture(), update.capture(), any(FindAndModifyOptions.class), eq(EventDocument.class));
+        assertEquals(new Document("_id", "event-id-1").append("active", true), query.getValue().getQueryObject());
+        assertEquals(new Document("active", false).append("updatedAt", deletedAt), update.getValue().getUpdateObject().get("$set"));
+    }
+
+    @Test
+    void deactivate_ShouldReturnEmptyWhenMissingOrAlreadyDeleted() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(EventDocument.class)))
+                .thenReturn(null);
+
+        assertTrue(eventRepository.deactivate("event-id-1", LocalDateTime.now()).isEmpty());
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void purgeInactiveBefore_ShouldRemoveOneBatchOfTombstonesSparingBirthdays() {
+        LocalDateTime cutoff = LocalDateTime.of(2025, 7, 1, 0, 0);
+        EventDocument tombstone = new EventDocument();
+        tombstone.setId("event-id-9");
+        when(mongoTemplate.find(any(Query.class), eq(EventDocument.class))).thenReturn(List.of(tombstone));
+        when(mongoTemplate.remove(any(Query.class), eq(EventDocument.class))).thenReturn(DeleteResult.acknowledged(1));
+
+        int purged = eventRepository.purgeInactiveBefore(cutoff, 500);
+
+        assertEquals(1, purged);
+        ArgumentCaptor<Query> candidates = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(candidates.capture(), eq(EventDocument.class));
+        assertEquals(500, candidates.getValue().getLimit());
+        assertEquals(false, candidates.getValue().getQueryObject().get("active"));
+        assertTrue(candidates.getValue().getQueryObject().get("_id").toString().contains("birthday-"));
+    }
+
+    @Test
+    void purgeInactiveBefore_ShouldSkipRemoveWhenNothingExpired() {
+        when(mongoTemplate.find(any(Query.class), eq(EventDocument.class))).thenReturn(List.of());
+
+        assertEquals(0, eventRepository.purgeInactiveBefore(LocalDateTime.now(), 500));
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(EventDocument.class));
+    }
+
+    @Test
+    void updateIfCurrent_ShouldMatchIdActiveAndVersionAndIncrementVersion() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(EventDocument.class)))
+                .thenReturn(sampleEventDocument);
+        when(mapper.toDomain(sampleEventDocument)).thenReturn(sampleEvent);
+
+        Optional<Event> updated = eventRepository.updateIfCurrent(sampleEvent, 7L);
+
+        assertEquals(Optional.of(sampleEvent), updated);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).findAndModify(query.capture(), update.capture(), any(FindAndModifyOptions.class), eq(EventDocument.class));
+        assertEquals(new Document("_id", "event-id-1").append("active", true).append("version", 7L), query.getValue().getQueryObject());
+        Document set = (Document) update.getValue().getUpdateObject().get("$set");
+        assertEquals("Meeting", set.get("title"));
+        assertFalse(set.containsKey("userId"));
+        assertFalse(set.containsKey("createdAt"));
+        assertEquals(new Document("version", 1), update.getValue().getUpdateObject().get("$inc"));
+        verify(springDataRepo, never()).save(any());
+    }
+
+    @Test
+    void updateIfCurrent_ShouldIgnoreVersionWhenClientDidNotSendOne() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(EventDocument.class)))
+                .thenReturn(null);
+
+        assertTrue(eventRepository.updateIfCurrent(sampleEvent, null).isEmpty());
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findAndModify(query.capture(), any(Update.class), any(FindAndModifyOptions.class), eq(EventDocument.class));
+        assertFalse(query.getValue().getQueryObject().containsKey("version"));
+    }
+}
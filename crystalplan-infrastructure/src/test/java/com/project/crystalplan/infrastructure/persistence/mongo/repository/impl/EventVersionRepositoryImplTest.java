@@ -0,0 +1,51 @@
+package com.project.crystalplan.infrastructure.persistence.mongo.repository.impl;
+
+import com.project.crystalplan.infrastructure.persistence.mongo.document.EventVersionDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventVersionRepositoryImplTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private EventVersionRepositoryImpl eventVersionRepository;
+
+    @Test
+    void findVersion_ShouldReturnZeroForUserWithoutWrites() {
+        when(mongoTemplate.findById("user-1", EventVersionDocument.class)).thenReturn(null);
+
+        assertEquals(0L, eventVersionRepository.findVersion("user-1"));
+    }
+
+    @Test
+    void findVersion_ShouldReturnStoredCounter() {
+        when(mongoTemplate.findById("user-1", EventVersionDocument.class)).thenReturn(new EventVersionDocument("user-1", 42L));
+
+        assertEquals(42L, eventVersionRepository.findVersion("user-1"));
+    }
+
+    @Test
+    void increment_ShouldUpsertWithInc() {
+        eventVersionRepository.increment("user-1");
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).upsert(query.capture(), update.capture(), eq(EventVersionDocument.class));
+        assertEquals(new Document("_id", "user-1"), query.getValue().getQueryObject());
+        assertEquals(new Document("$inc", new Document("version", 1L)), update.getValue().getUpdateObject());
+    }
+}
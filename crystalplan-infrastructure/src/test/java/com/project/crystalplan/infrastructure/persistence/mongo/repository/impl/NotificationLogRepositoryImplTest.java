@@ -2,24 +2,40 @@ package com.project.crystalplan.infrastructure.persistence.mongo.repository.impl
 
 import com.project.crystalplan.domain.enums.NotificationStatus;
 import com.project.crystalplan.domain.enums.NotificationType;
+import com.project.crystalplan.domain.exceptions.BatchInsertException;
+import com.project.crystalplan.domain.models.CursorPage;
 import com.project.crystalplan.domain.models.NotificationLog;
+import com.project.crystalplan.domain.models.NotificationLogCursor;
 import com.project.crystalplan.infrastructure.persistence.mongo.document.NotificationLogDocument;
 import com.project.crystalplan.infrastructure.persistence.mongo.mapper.NotificationLogMapper;
 import com.project.crystalplan.infrastructure.persistence.mongo.repository.springdata.SpringDataNotificationLogMongoRepository;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.result.DeleteResult;
+import org.bson.BsonDocument;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
 
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,7 +47,15 @@ class NotificationLogRepositoryImplTest {
     @Mock
     private NotificationLogMapper mapper;
 
-    @InjectMocks
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private NotificationStatsRepositoryImpl statsRepository;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
     private NotificationLogRepositoryImpl notificationLogRepository;
 
     private NotificationLog sampleLog;
@@ -41,6 +65,7 @@ class NotificationLogRepositoryImplTest {
 
     @BeforeEach
     void setUp() {
+        notificationLogRepository = new NotificationLogRepositoryImpl(springDataRepo, mapper, mongoTemplate, statsRepository, false);
         sampleLog = new NotificationLog(
                 "log-id-1",
                 sampleEventId,
@@ -51,18 +76,18 @@ class NotificationLogRepositoryImplTest {
         );
         sampleLogDocument = new NotificationLogDocument(
                 "log-id-1",
-                sampleEventId,
-                sampleUserId,
+                new NotificationLogDocument.Meta(sampleUserId, sampleEventId),
                 NotificationType.EMAIL,
                 Instant.now(),
-                NotificationStatus.SANDED
+                NotificationStatus.SANDED,
+                null
         );
     }
 
     @Test
     void save_ShouldSaveNotificationLogAndReturnDomainObject() {
         when(mapper.toDocument(any(NotificationLog.class))).thenReturn(sampleLogDocument);
-        when(springDataRepo.save(any(NotificationLogDocument.class))).thenReturn(sampleLogDocument);
+        when(mongoTemplate.insert(any(NotificationLogDocument.class))).thenReturn(sampleLogDocument);
         when(mapper.toDomain(any(NotificationLogDocument.class))).thenReturn(sampleLog);
 
         NotificationLog savedLog = notificationLogRepository.save(sampleLog);
@@ -70,10 +95,142 @@ class NotificationLogRepositoryImplTest {
         assertNotNull(savedLog);
         assertEquals(sampleLog, savedLog);
         verify(mapper, times(1)).toDocument(sampleLog);
-        verify(springDataRepo, times(1)).save(sampleLogDocument);
+        verify(mongoTemplate, times(1)).insert(sampleLogDocument);
         verify(mapper, times(1)).toDomain(sampleLogDocument);
     }
 
+    @Test
+    void saveAll_ShouldInsertAllLogsInSingleUnorderedBulk() {
+        when(mapper.toDocument(sampleLog)).thenReturn(sampleLogDocument);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationLogDocument.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        when(mapper.toDomain(sampleLogDocument)).thenReturn(sampleLog);
+
+        List<NotificationLog> saved = notificationLogRepository.saveAll(List.of(sampleLog));
+
+        assertEquals(List.of(sampleLog), saved);
+        verify(bulkOperations, times(1)).insert(List.of(sampleLogDocument));
+        verify(bulkOperations, times(1)).execute();
+        verifyNoInteractions(springDataRepo);
+        verify(statsRepository, times(1)).record(List.of(sampleLog));
+    }
+
+    @Test
+    void saveAll_ShouldReportFailedPositionsAndCountOnlyInsertedLogs() {
+        NotificationLog rejected = new NotificationLog(null, sampleEventId, sampleUserId,
+                NotificationType.EMAIL, Instant.now(), NotificationStatus.FAILURE);
+        NotificationLog alreadyStored = new NotificationLog("log-id-0", sampleEventId, sampleUserId,
+                NotificationType.EMAIL, Instant.now(), NotificationStatus.SUCCESS);
+        NotificationLogDocument rejectedDocument = new NotificationLogDocument();
+        NotificationLogDocument storedDocument = new NotificationLogDocument();
+        storedDocument.setId("log-id-0");
+        when(mapper.toDocument(rejected)).thenReturn(rejectedDocument);
+        when(mapper.toDocument(sampleLog)).thenReturn(sampleLogDocument);
+        when(mapper.toDocument(alreadyStored)).thenReturn(storedDocument);
+        when(mapper.toDomain(sampleLogDocument)).thenReturn(sampleLog);
+        when(mapper.toDomain(storedDocument)).thenReturn(alreadyStored);
+
+        BulkOperationException bulkException = mock(BulkOperationException.class);
+        BulkWriteResult result = mock(BulkWriteResult.class);
+        when(result.getInsertedCount()).thenReturn(1);
+        when(bulkException.getResult()).thenReturn(result);
+        when(bulkException.getErrors()).thenReturn(List.of(
+                new BulkWriteError(121, "document failed validation", new BsonDocument(), 0),
+                new BulkWriteError(11000, "duplicate key", new BsonDocument(), 2)));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationLogDocument.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenThrow(bulkException);
+
+        BatchInsertException exception = assertThrows(BatchInsertException.class,
+                () -> notificationLogRepository.saveAll(List.of(rejected, sampleLog, alreadyStored)));
+
+        assertEquals(1, exception.getInsertedCount());
+        assertEquals(Map.of(0, "document failed validation"), exception.getFailures());
+        assertNotNull(rejectedDocument.getId());
+        verify(statsRepository, times(1)).record(List.of(sampleLog));
+    }
+
+    @Test
+    void saveAll_ShouldSkipLogsAlreadyStoredInTimeSeriesCollection() {
+        NotificationLogRepositoryImpl timeSeriesRepository =
+                new NotificationLogRepositoryImpl(springDataRepo, mapper, mongoTemplate, statsRepository, true);
+        NotificationLog retried = new NotificationLog("log-id-0", sampleEventId, sampleUserId,
+                NotificationType.EMAIL, Instant.now(), NotificationStatus.SUCCESS);
+        NotificationLogDocument retriedDocument = new NotificationLogDocument("log-id-0", new NotificationLogDocument.Meta(sampleUserId, sampleEventId),
+                NotificationType.EMAIL, retried.getSentAt(), NotificationStatus.SUCCESS, null);
+        when(mapper.toDocument(retried)).thenReturn(retriedDocument);
+        when(mapper.toDocument(sampleLog)).thenReturn(sampleLogDocument);
+        when(mapper.toDomain(retriedDocument)).thenReturn(retried);
+        when(mapper.toDomain(sampleLogDocument)).thenReturn(sampleLog);
+        // Sem índice único de _id, o reenvio é detectado pela consulta dos ids do lote
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        when(mongoTemplate.find(query.capture(), eq(NotificationLogDocument.class))).thenReturn(List.of(retriedDocument));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationLogDocument.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+
+        List<NotificationLog> saved = timeSeriesRepository.saveAll(List.of(retried, sampleLog));
+
+        assertEquals(List.of(retried, sampleLog), saved);
+        assertEquals(List.of("log-id-0", "log-id-1"), query.getValue().getQueryObject().get("_id", Document.class).get("$in"));
+        assertTrue(query.getValue().getQueryObject().containsKey("sentAt"));
+        verify(bulkOperations).insert(List.of(sampleLogDocument));
+        verify(statsRepository).record(List.of(sampleLog));
+    }
+
+    @Test
+    void saveAll_ShouldKeepLogsWhenStatsRollupFails() {
+        when(mapper.toDocument(sampleLog)).thenReturn(sampleLogDocument);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationLogDocument.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        when(mapper.toDomain(sampleLogDocument)).thenReturn(sampleLog);
+        doThrow(new IllegalStateException("mongo indisponível")).when(statsRepository).record(anyList());
+
+        List<NotificationLog> saved = notificationLogRepository.saveAll(List.of(sampleLog));
+
+        assertEquals(List.of(sampleLog), saved);
+    }
+
+    @Test
+    void findByUserIdPage_ShouldFetchOneExtraRowAndReturnCursorOfLastItem() {
+        NotificationLog second = new NotificationLog("log-id-2", sampleEventId, sampleUserId, NotificationType.EMAIL,
+                Instant.ofEpochMilli(1_700_000_000_000L), NotificationStatus.SUCCESS);
+        NotificationLogDocument secondDocument = new NotificationLogDocument("log-id-2", new NotificationLogDocument.Meta(sampleUserId, sampleEventId),
+                NotificationType.EMAIL, Instant.ofEpochMilli(1_700_000_000_000L), NotificationStatus.SUCCESS, null);
+        NotificationLogDocument extraDocument = new NotificationLogDocument("log-id-3", new NotificationLogDocument.Meta(sampleUserId, sampleEventId),
+                NotificationType.EMAIL, Instant.ofEpochMilli(1_600_000_000_000L), NotificationStatus.SUCCESS, null);
+        NotificationLogCursor after = new NotificationLogCursor(Instant.now(), "log-id-0");
+
+        when(mongoTemplate.find(any(Query.class), eq(NotificationLogDocument.class)))
+                .thenReturn(List.of(sampleLogDocument, secondDocument, extraDocument));
+        when(mapper.toDomain(any(NotificationLogDocument.class))).thenReturn(sampleLog, second, sampleLog);
+
+        CursorPage<NotificationLog> page = notificationLogRepository.findByUserId(sampleUserId, after, 2);
+
+        assertEquals(List.of(sampleLog, second), page.getItems());
+        assertTrue(page.isHasMore());
+        assertEquals(NotificationLogCursor.after(second).encode(), page.getNextCursor());
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(NotificationLogDocument.class));
+        assertEquals(3, query.getValue().getLimit());
+        assertEquals(new Document("sentAt", -1).append("_id", -1), query.getValue().getSortObject());
+    }
+
+    @Test
+    void findByEventIdPage_ShouldReturnLastPageWithoutCursor() {
+        when(mongoTemplate.find(any(Query.class), eq(NotificationLogDocument.class))).thenReturn(List.of(sampleLogDocument));
+        when(mapper.toDomain(sampleLogDocument)).thenReturn(sampleLog);
+
+        CursorPage<NotificationLog> page = notificationLogRepository.findByEventId(sampleEventId, null, 50);
+
+        assertEquals(List.of(sampleLog), page.getItems());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(NotificationLogDocument.class));
+        assertEquals(new Document("meta.eventId", sampleEventId), query.getValue().getQueryObject());
+    }
+
     @Test
     void findById_ShouldReturnNotificationLogWhenFound() {
         when(springDataRepo.findById("log-id-1")).thenReturn(Optional.of(sampleLogDocument));
@@ -103,7 +260,7 @@ class NotificationLogRepositoryImplTest {
         List<NotificationLogDocument> logDocuments = Arrays.asList(sampleLogDocument, sampleLogDocument);
         List<NotificationLog> expectedLogs = Arrays.asList(sampleLog, sampleLog);
 
-        when(springDataRepo.findByUserId(sampleUserId)).thenReturn(logDocuments);
+        when(springDataRepo.findByMetaUserId(sampleUserId)).thenReturn(logDocuments);
         when(mapper.toDomain(any(NotificationLogDocument.class))).thenReturn(sampleLog);
 
         List<NotificationLog> foundLogs = notificationLogRepository.findByUserId(sampleUserId);
@@ -111,18 +268,18 @@ class NotificationLogRepositoryImplTest {
         assertFalse(foundLogs.isEmpty());
         assertEquals(expectedLogs.size(), foundLogs.size());
         assertEquals(expectedLogs, foundLogs);
-        verify(springDataRepo, times(1)).findByUserId(sampleUserId);
+        verify(springDataRepo, times(1)).findByMetaUserId(sampleUserId);
         verify(mapper, times(logDocuments.size())).toDomain(any(NotificationLogDocument.class));
     }
 
     @Test
     void findByUserId_ShouldReturnEmptyListWhenNoneFound() {
-        when(springDataRepo.findByUserId(sampleUserId)).thenReturn(Collections.emptyList());
+        when(springDataRepo.findByMetaUserId(sampleUserId)).thenReturn(Collections.emptyList());
 
         List<NotificationLog> foundLogs = notificationLogRepository.findByUserId(sampleUserId);
 
         assertTrue(foundLogs.isEmpty());
-        verify(springDataRepo, times(1)).findByUserId(sampleUserId);
+        verify(springDataRepo, times(1)).findByMetaUserId(sampleUserId);
         verify(mapper, never()).toDomain(any(NotificationLogDocument.class));
     }
 
@@ -131,7 +288,7 @@ class NotificationLogRepositoryImplTest {
         List<NotificationLogDocument> logDocuments = Collections.singletonList(sampleLogDocument);
         List<NotificationLog> expectedLogs = Collections.singletonList(sampleLog);
 
-        when(springDataRepo.findByEventId(sampleEventId)).thenReturn(logDocuments);
+        when(springDataRepo.findByMetaEventId(sampleEventId)).thenReturn(logDocuments);
         when(mapper.toDomain(any(NotificationLogDocument.class))).thenReturn(sampleLog);
 
         List<NotificationLog> foundLogs = notificationLogRepository.findByEventId(sampleEventId);
@@ -139,18 +296,18 @@ class NotificationLogRepositoryImplTest {
         assertFalse(foundLogs.isEmpty());
         assertEquals(expectedLogs.size(), foundLogs.size());
         assertEquals(expectedLogs, foundLogs);
-        verify(springDataRepo, times(1)).findByEventId(sampleEventId);
+        verify(springDataRepo, times(1)).findByMetaEventId(sampleEventId);
         verify(mapper, times(logDocuments.size())).toDomain(any(NotificationLogDocument.class));
     }
 
     @Test
     void findByEventId_ShouldReturnEmptyListWhenNoneFound() {
-        when(springDataRepo.findByEventId("non-existent-event-id")).thenReturn(Collections.emptyList());
+        when(springDataRepo.findByMetaEventId("non-existent-event-id")).thenReturn(Collections.emptyList());
 
         List<NotificationLog> foundLogs = notificationLogRepository.findByEventId("non-existent-event-id");
 
         assertTrue(foundLogs.isEmpty());
-        verify(springDataRepo, times(1)).findByEventId("non-existent-event-id");
+        verify(springDataRepo, times(1)).findByMetaEventId("non-existent-event-id");
         verify(mapper, never()).toDomain(any(NotificationLogDocument.class));
     }
 
@@ -162,8 +319,8 @@ class NotificationLogRepositoryImplTest {
                 Instant.now(), status
         );
         NotificationLogDocument successLogDoc = new NotificationLogDocument(
-                "log-id-2", sampleEventId, sampleUserId, NotificationType.VISUAL,
-                Instant.now(), status
+                "log-id-2", new NotificationLogDocument.Meta(sampleUserId, sampleEventId), NotificationType.VISUAL,
+                Instant.now(), status, null
         );
 
         List<NotificationLogDocument> logDocuments = Collections.singletonList(successLogDoc);
@@ -202,4 +359,55 @@ class NotificationLogRepositoryImplTest {
         verify(springDataRepo, times(1)).deleteById("log-id-1");
         verifyNoMoreInteractions(mapper);
     }
+
+    @Test
+    void archiveSentBefore_ShouldMergeIntoArchiveThenRemoveSameIds() {
+        Instant cutoff = Instant.parse("2025-07-01T00:00:00Z");
+        ArgumentCaptor<Query> selected = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Aggregation> aggregation = ArgumentCaptor.forClass(Aggregation.class);
+        ArgumentCaptor<Query> removed = ArgumentCaptor.forClass(Query.class);
+        when(mongoTemplate.find(selected.capture(), eq(NotificationLogDocument.class)))
+                .thenReturn(List.of(archivedDocument("log-a"), archivedDocument("log-b")))
+                .thenReturn(List.of());
+        when(mongoTemplate.aggregate(aggregation.capture(), eq(NotificationLogDocument.class), eq(NotificationLogDocument.class)))
+                .thenReturn(new AggregationResults<>(List.of(), new Document()));
+        when(mongoTemplate.remove(removed.capture(), eq(NotificationLogDocument.class))).thenReturn(DeleteResult.acknowledged(2));
+
+        long archived = notificationLogRepository.archiveSentBefore(cutoff);
+
+        assertEquals(2, archived);
+        assertEquals(new Document("sentAt", new Document("$lt", cutoff)), selected.getAllValues().get(0).getQueryObject());
+        Document sameIds = new Document("_id", new Document("$in", List.of("log-a", "log-b")));
+        List<Document> pipeline = aggregation.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+        assertEquals(sameIds, pipeline.get(0).get("$match"));
+        assertEquals(NotificationLogDocument.ARCHIVE_COLLECTION, pipeline.get(1).get("$merge", Document.class).get("into"));
+        assertEquals(sameIds, removed.getValue().getQueryObject());
+    }
+
+    @Test
+    void archiveSentBefore_ShouldNotRemoveLogWrittenBetweenMergeAndRemove() {
+        Instant cutoff = Instant.parse("2025-07-01T00:00:00Z");
+        ArgumentCaptor<Query> removed = ArgumentCaptor.forClass(Query.class);
+        // "log-late" chega (ex.: flush do buffer) depois que os ids do lote foram lidos
+        when(mongoTemplate.find(any(Query.class), eq(NotificationLogDocument.class)))
+                .thenReturn(List.of(archivedDocument("log-a")))
+                .thenReturn(List.of(archivedDocument("log-late")))
+                .thenReturn(List.of());
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(NotificationLogDocument.class), eq(NotificationLogDocument.class)))
+                .thenReturn(new AggregationResults<>(List.of(), new Document()));
+        when(mongoTemplate.remove(removed.capture(), eq(NotificationLogDocument.class))).thenReturn(DeleteResult.acknowledged(1));
+
+        long archived = notificationLogRepository.archiveSentBefore(cutoff);
+
+        assertEquals(2, archived);
+        verify(mongoTemplate, times(2)).aggregate(any(Aggregation.class), eq(NotificationLogDocument.class), eq(NotificationLogDocument.class));
+        assertEquals(new Document("_id", new Document("$in", List.of("log-a"))), removed.getAllValues().get(0).getQueryObject());
+        assertEquals(new Document("_id", new Document("$in", List.of("log-late"))), removed.getAllValues().get(1).getQueryObject());
+    }
+
+    private NotificationLogDocument archivedDocument(String id) {
+        NotificationLogDocument document = new NotificationLogDocument();
+        document.setId(id);
+        return document;
+    }
 }
\ No newline at end of file
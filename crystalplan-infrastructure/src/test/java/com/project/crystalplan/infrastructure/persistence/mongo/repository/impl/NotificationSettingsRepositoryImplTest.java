@@ -1,20 +1,29 @@
 package com.project.crystalplan.infrastructure.persistence.mongo.repository.impl;
 
 import com.project.crystalplan.domain.models.NotificationSettings;
+import com.project.crystalplan.domain.models.NotificationSettingsPatch;
 import com.project.crystalplan.infrastructure.persistence.mongo.document.NotificationSettingsDocument;
 import com.project.crystalplan.infrastructure.persistence.mongo.mapper.NotificationSettingsMapper;
 import com.project.crystalplan.infrastructure.persistence.mongo.repository.springdata.SpringDataNotificationSettingsMongoRepository;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 import java.time.LocalTime;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +35,9 @@ class NotificationSettingsRepositoryImplTest {
     @Mock
     private NotificationSettingsMapper mapper;
 
+    @Mock
+    private MongoTemplate mongoTemplate;
+
     @InjectMocks
     private NotificationSettingsRepositoryImpl notificationSettingsRepository;
 
@@ -57,19 +69,38 @@ class NotificationSettingsRepositoryImplTest {
     }
 
     @Test
-    void save_ShouldSaveNotificationSettingsAndReturnDomainObject() {
-        when(mapper.toDocument(any(NotificationSettings.class))).thenReturn(sampleSettingsDocument);
-        when(springDataRepo.save(any(NotificationSettingsDocument.class))).thenReturn(sampleSettingsDocument);
-        when(mapper.toDomain(any(NotificationSettingsDocument.class))).thenReturn(sampleSettings);
+    void save_ShouldUpsertByUserIdInOneOperation() {
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        ArgumentCaptor<FindAndModifyOptions> options = ArgumentCaptor.forClass(FindAndModifyOptions.class);
+        when(mongoTemplate.findAndModify(query.capture(), update.capture(), options.capture(), eq(NotificationSettingsDocument.class)))
+                .thenReturn(sampleSettingsDocument);
+        when(mapper.toDomain(sampleSettingsDocument)).thenReturn(sampleSettings);
 
         NotificationSettings savedSettings = notificationSettingsRepository.save(sampleSettings);
 
-        assertNotNull(savedSettings);
         assertEquals(sampleSettings, savedSettings);
+        assertEquals(sampleUserId, query.getValue().getQueryObject().getString("userId"));
+        assertEquals(15, update.getValue().getUpdateObject().get("$set", Document.class).get("defaultReminderMinutesBefore"));
+        assertTrue(options.getValue().isUpsert());
+        assertTrue(options.getValue().isReturnNew());
+        verify(springDataRepo, never()).save(any());
+    }
 
-        verify(mapper, times(1)).toDocument(sampleSettings);
-        verify(springDataRepo, times(1)).save(sampleSettingsDocument);
-        verify(mapper, times(1)).toDomain(sampleSettingsDocument);
+    @Test
+    void patch_ShouldSetOnlyGivenFieldsAndDefaultTheRestOnInsert() {
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        when(mongoTemplate.findAndModify(any(Query.class), update.capture(), any(FindAndModifyOptions.class), eq(NotificationSettingsDocument.class)))
+                .thenReturn(sampleSettingsDocument);
+        when(mapper.toDomain(sampleSettingsDocument)).thenReturn(sampleSettings);
+
+        notificationSettingsRepository.patch(sampleUserId, new NotificationSettingsPatch(false, null, null, null, null));
+
+        Document set = update.getValue().getUpdateObject().get("$set", Document.class);
+        Document setOnInsert = update.getValue().getUpdateObject().get("$setOnInsert", Document.class);
+        assertEquals(Set.of("emailNotificationsEnabled"), set.keySet());
+        assertFalse(setOnInsert.containsKey("emailNotificationsEnabled"));
+        assertEquals(15, setOnInsert.get("defaultReminderMinutesBefore"));
     }
 
     @Test
@@ -0,0 +1,121 @@
+package com.project.crystalplan.infrastructure.persistence.mongo.repository.impl;
+
+import com.project.crystalplan.domain.enums.NotificationStatus;
+import com.project.crystalplan.domain.enums.NotificationType;
+import com.project.crystalplan.domain.models.NotificationLog;
+import com.project.crystalplan.domain.models.NotificationStats;
+import com.project.crystalplan.infrastructure.persistence.mongo.document.NotificationLogDailyDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationStatsRepositoryImplTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @InjectMocks
+    private NotificationStatsRepositoryImpl statsRepository;
+
+    @Test
+    void record_ShouldIncrementUserAndGlobalCountersInSingleBulk() {
+        Instant scheduledAt = Instant.parse("2025-03-10T12:00:00Z");
+        NotificationLog delivered = new NotificationLog("log-1", "event-1", "user-1", NotificationType.EMAIL,
+                scheduledAt.plusSeconds(3), NotificationStatus.SUCCESS, scheduledAt);
+        NotificationLog failed = new NotificationLog("log-2", "event-2", "user-1", NotificationType.EMAIL,
+                scheduledAt.plusSeconds(4), NotificationStatus.FAILURE, scheduledAt);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationLogDailyDocument.class)).thenReturn(bulkOperations);
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+
+        statsRepository.record(List.of(delivered, failed));
+
+        verify(bulkOperations, times(2)).upsert(queries.capture(), updates.capture());
+        verify(bulkOperations, times(1)).execute();
+        assertEquals(new Document("_id", "*|2025-03-10"), queries.getAllValues().get(0).getQueryObject());
+        assertEquals(new Document("_id", "user-1|2025-03-10"), queries.getAllValues().get(1).getQueryObject());
+
+        Document update = updates.getAllValues().get(1).getUpdateObject();
+        Document increments = update.get("$inc", Document.class);
+        assertEquals(2L, increments.get("total"));
+        assertEquals(1L, increments.get("status.SUCCESS"));
+        assertEquals(1L, increments.get("status.FAILURE"));
+        assertEquals(2L, increments.get("type.EMAIL"));
+        assertEquals(2L, increments.get("delay.b2"));
+        assertEquals(new Document("scope", "user-1").append("day", "2025-03-10"), update.get("$setOnInsert"));
+    }
+
+    @Test
+    void record_ShouldSkipDatabaseWhenNothingToCount() {
+        statsRepository.record(List.of(new NotificationLog()));
+
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void findStats_ShouldBuildStatsFromFacetResult() {
+        LocalDate from = LocalDate.of(2025, 3, 1);
+        LocalDate to = LocalDate.of(2025, 3, 31);
+        Document totals = new Document("total", 10)
+                .append("status_SUCCESS", 8)
+                .append("status_FAILURE", 2)
+                .append("type_EMAIL", 10)
+                .append("delay_b1", 5)
+                .append("delay_b5", 5);
+        Document facet = new Document("totals", List.of(totals))
+                .append("days", List.of(new Document("day", "2025-03-10").append("total", 10)));
+        ArgumentCaptor<Aggregation> aggregation = ArgumentCaptor.forClass(Aggregation.class);
+        when(mongoTemplate.aggregate(aggregation.capture(), eq(NotificationLogDailyDocument.COLLECTION), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(facet), new Document()));
+
+        NotificationStats stats = statsRepository.findStats("user-1", from, to);
+
+        assertEquals(10, stats.getTotal());
+        assertEquals(8L, stats.getByStatus().get(NotificationStatus.SUCCESS));
+        assertEquals(0L, stats.getByStatus().get(NotificationStatus.SANDED));
+        assertEquals(10L, stats.getByType().get(NotificationType.EMAIL));
+        assertEquals(10L, stats.getByDay().get(LocalDate.of(2025, 3, 10)));
+        assertEquals(0.8, stats.getSuccessRate());
+        assertEquals(1L, stats.getDelayP50Seconds());
+        assertEquals(60L, stats.getDelayP95Seconds());
+
+        Document match = aggregation.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT).get(0).get("$match", Document.class);
+        assertEquals("user-1", match.get("scope"));
+        assertEquals(new Document("$gte", "2025-03-01").append("$lte", "2025-03-31"), match.get("day"));
+    }
+
+    @Test
+    void findStats_ShouldReturnEmptyStatsWhenNoRollups() {
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(NotificationLogDailyDocument.COLLECTION), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(), new Document()));
+
+        NotificationStats stats = statsRepository.findStats(null, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 1));
+
+        assertEquals(0, stats.getTotal());
+        assertNull(stats.getSuccessRate());
+        assertNull(stats.getDelayP50Seconds());
+        assertTrue(stats.getByDay().isEmpty());
+    }
+}
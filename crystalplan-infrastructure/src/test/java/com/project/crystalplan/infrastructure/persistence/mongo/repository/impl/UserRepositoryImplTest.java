@@ -13,7 +13,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -243,6 +245,17 @@ class UserRepositoryImplTest {
         verifyNoMoreInteractions(mapper);
     }
 
+    @Test
+    void findActiveByBirthdayBetween_ShouldQueryByMonthDayIncludingLeapDayOnCommonYears() {
+        when(springDataRepo.findByBirthdayMonthDayInAndActiveTrue(Set.of("--02-28", "--02-29", "--03-01")))
+                .thenReturn(List.of(sampleUserDocument));
+        when(mapper.toDomain(sampleUserDocument)).thenReturn(sampleUser);
+
+        List<User> users = userRepository.findActiveByBirthdayBetween(LocalDate.of(2025, 2, 28), LocalDate.of(2025, 3, 1));
+
+        assertEquals(List.of(sampleUser), users);
+    }
+
     @Test
     void existsById_ShouldReturnFalseWhenNotExists() {
         when(springDataRepo.existsById("non-existent-id")).thenReturn(false);
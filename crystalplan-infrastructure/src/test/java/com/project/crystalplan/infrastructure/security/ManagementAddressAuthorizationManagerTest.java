@@ -0,0 +1,37 @@
+package com.project.crystalplan.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ManagementAddressAuthorizationManagerTest {
+
+    private final ManagementAddressAuthorizationManager manager =
+            new ManagementAddressAuthorizationManager(List.of("127.0.0.1/32", " 10.0.0.0/8 ", ""));
+
+    @Test
+    void shouldAllowConfiguredAddresses() {
+        assertTrue(manager.check(() -> null, contextFrom("127.0.0.1")).isGranted());
+        assertTrue(manager.check(() -> null, contextFrom("10.1.2.3")).isGranted());
+    }
+
+    @Test
+    void shouldDenyOtherAddressesEvenWithAuthenticatedUser() {
+        // Um JWT de usuário cadastrado não libera métricas
+        TestingAuthenticationToken user = new TestingAuthenticationToken("user-1", null);
+        user.setAuthenticated(true);
+
+        assertFalse(manager.check(() -> user, contextFrom("203.0.113.7")).isGranted());
+    }
+
+    private RequestAuthorizationContext contextFrom(String address) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/prometheus");
+        request.setRemoteAddr(address);
+        return new RequestAuthorizationContext(request);
+    }
+}
@@ -0,0 +1,79 @@
+package com.project.crystalplan.infrastructure.security.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-with-at-least-32-bytes!!";
+
+    private JwtTokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = provider(10_000);
+    }
+
+    @Test
+    void shouldResolveUserIdFromValidToken() {
+        String token = tokenProvider.createToken("user-1", "john@example.com");
+
+        assertEquals(Optional.of("user-1"), tokenProvider.resolveUserId(token));
+        // Segunda chamada é atendida pelo cache de tokens verificados
+        assertEquals(Optional.of("user-1"), tokenProvider.resolveUserId(token));
+        assertTrue(tokenProvider.validateToken(token));
+        assertEquals("user-1", tokenProvider.getUserId(token));
+    }
+
+    @Test
+    void shouldRejectTamperedOrForeignTokens() {
+        String token = tokenProvider.createToken("user-1", "john@example.com");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertTrue(tokenProvider.resolveUserId(tampered).isEmpty());
+        assertTrue(tokenProvider.resolveUserId("not-a-jwt").isEmpty());
+        assertTrue(tokenProvider.resolveUserId("").isEmpty());
+        assertFalse(tokenProvider.validateToken(tampered));
+    }
+
+    @Test
+    void shouldRejectExpiredTokenEvenWhenCached() {
+        Instant issuedAt = Instant.parse("2025-07-30T10:00:00Z");
+        ReflectionTestUtils.setField(tokenProvider, "clock", Clock.fixed(issuedAt, ZoneOffset.UTC));
+        String token = tokenProvider.createToken("user-1", "john@example.com");
+
+        // Primeira resolução, ainda válido: o token entra no cache de verificados
+        assertEquals(Optional.of("user-1"), tokenProvider.resolveUserId(token));
+
+        ReflectionTestUtils.setField(tokenProvider, "clock", Clock.fixed(issuedAt.plusSeconds(61), ZoneOffset.UTC));
+
+        assertTrue(tokenProvider.resolveUserId(token).isEmpty());
+        assertFalse(tokenProvider.validateToken(token));
+    }
+
+    @Test
+    void shouldWorkWithVerifiedCacheDisabled() {
+        JwtTokenProvider uncached = provider(0);
+        String token = uncached.createToken("user-2", "jane@example.com");
+
+        assertEquals(Optional.of("user-2"), uncached.resolveUserId(token));
+        assertEquals(Optional.of("user-2"), uncached.resolveUserId(token));
+    }
+
+    private JwtTokenProvider provider(long cacheSize) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(provider, "validityInMilliseconds", 60_000L);
+        ReflectionTestUtils.setField(provider, "verifiedCacheMaxSize", cacheSize);
+        provider.init();
+        return provider;
+    }
+}
@@ -0,0 +1,82 @@
+package com.project.crystalplan.presentation.controller;
+
+import com.project.crystalplan.domain.exceptions.VersionConflictException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * ETags das leituras. Entidades usam ETag forte (id + versão, ou id + {@code updatedAt} quando não há
+ * versão, ou o SHA-256 do corpo serializado quando não há nenhum dos dois); listagens usam ETag fraco derivado da versão de eventos do usuário, que pode ser conferida
+ * sem carregar a lista.
+ */
+final class ETags {
+
+    private ETags() {}
+
+    static String strong(String id, LocalDateTime updatedAt) {
+        long stamp = updatedAt == null ? 0L : updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+        return "\"" + id + "-" + Long.toHexString(stamp) + "\"";
+    }
+
+    static String versioned(String id, long version) {
+        return "\"" + id + "-v" + version + "\"";
+    }
+
+    /**
+     * Versão esperada a partir de um {@code If-Match} com ETag de {@link #versioned}; {@code *} aceita qualquer versão.
+     */
+    static Long versionOf(String id, String ifMatch) {
+        String tag = ifMatch.trim();
+        if ("*".equals(tag)) {
+            return null;
+        }
+        String prefix = "\"" + id + "-v";
+        if (tag.startsWith(prefix) && tag.endsWith("\"") && tag.length() > prefix.length() + 1) {
+            try {
+                return Long.parseLong(tag.substring(prefix.length(), tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // cai no conflito abaixo
+            }
+        }
+        throw new VersionConflictException("If-Match não corresponde a uma versão do evento " + id);
+    }
+
+    static String digest(String id, byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            // 128 bits bastam para distinguir versões do mesmo recurso
+            return "\"" + id + "-" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    static String weak(Object... parts) {
+        StringBuilder tag = new StringBuilder("W/\"");
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                tag.append('-');
+            }
+            tag.append(parts[i]);
+        }
+        return tag.append('"').toString();
+    }
+
+    /**
+     * Responde 304 quando o {@code If-None-Match} bate com o ETag, sem chamar {@code body}.
+     */
+    static <T> ResponseEntity<T> conditional(WebRequest request, String etag, Supplier<T> body) {
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(body.get());
+    }
+}
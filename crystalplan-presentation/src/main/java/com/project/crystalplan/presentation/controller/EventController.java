@@ -1,25 +1,43 @@
 package com.project.crystalplan.presentation.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.project.crystalplan.domain.exceptions.EntityNotFoundException;
 import com.project.crystalplan.domain.models.Event;
+import com.project.crystalplan.domain.models.EventChanges;
+import com.project.crystalplan.domain.models.EventOccurrence;
+import com.project.crystalplan.domain.models.EventSummary;
 import com.project.crystalplan.domain.services.EventService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.SortedMap;
 
 @RestController
 @RequestMapping("/api/events")
 @RequiredArgsConstructor
 public class EventController {
 
+    private static final String SUMMARY_VIEW = "summary";
+
     private final EventService eventService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<Event> create(@Valid @RequestBody Event event) {
@@ -29,54 +47,151 @@ public class EventController {
                 .body(created);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<Event>> createBatch(@RequestBody List<Event> events) {
+        List<Event> created = eventService.createEvents(events);
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Event> getById(@PathVariable String id) {
+    public ResponseEntity<Event> getById(@PathVariable String id, WebRequest request) {
         Event event = eventService.getEventById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Evento não encontrado com ID: " + id));
-        return ResponseEntity.ok(event);
+        return ETags.conditional(request, entityTag(event), () -> event);
     }
 
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<Event>> getAllByUser(@PathVariable String userId) {
-        List<Event> events = eventService.getAllEventsByUser(userId);
-        return ResponseEntity.ok(events);
+    public ResponseEntity<List<Event>> getAllByUser(@PathVariable String userId, WebRequest request) {
+        // Os aniversários futuros dependem do dia corrente, então a data também entra no ETag
+        String etag = ETags.weak(userId, eventService.getEventsVersion(userId), LocalDate.now());
+        return ETags.conditional(request, etag, () -> eventService.getAllEventsByUser(userId));
+    }
+
+    @GetMapping(value = "/user/{userId}/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportByUser(@PathVariable String userId) {
+        // Um evento por linha, escrito à medida que o cursor avança, sem montar a lista em memória
+        ObjectWriter writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            eventService.streamEventsByUser(userId, event -> {
+                try {
+                    writer.writeValue(outputStream, event);
+                    outputStream.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            outputStream.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping("/user/{userId}/sync")
+    public ResponseEntity<EventChanges> sync(@PathVariable String userId,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(defaultValue = "200") int limit) {
+        // Sem cursor devolve tudo, inclusive as exclusões; o cliente guarda o cursor devolvido e repete enquanto hasMore
+        return ResponseEntity.ok(eventService.getEventChanges(userId, cursor, limit));
     }
 
     @GetMapping("/user/{userId}/date/{date}")
     public ResponseEntity<List<Event>> getSingleEventsByDate(
             @PathVariable String userId,
-            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        List<Event> events = eventService.getSingleEventsByDate(userId, date);
-        return ResponseEntity.ok(events);
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest request) {
+        return ETags.conditional(request, eventsTag(userId), () -> eventService.getSingleEventsByDate(userId, date));
     }
 
     @GetMapping("/user/{userId}/day/{dayOfWeek}")
     public ResponseEntity<List<Event>> getWeeklyEventsByDayOfWeek(
             @PathVariable String userId,
-            @PathVariable DayOfWeek dayOfWeek) {
-        List<Event> events = eventService.getWeeklyEventsByDayOfWeek(userId, dayOfWeek);
-        return ResponseEntity.ok(events);
+            @PathVariable DayOfWeek dayOfWeek,
+            WebRequest request) {
+        return ETags.conditional(request, eventsTag(userId), () -> eventService.getWeeklyEventsByDayOfWeek(userId, dayOfWeek));
     }
 
     @GetMapping("/user/{userId}/weekly")
-    public ResponseEntity<List<Event>> getAllWeeklyEvents(@PathVariable String userId) {
-        List<Event> events = eventService.getAllWeeklyEventsByUser(userId);
-        return ResponseEntity.ok(events);
+    public ResponseEntity<List<Event>> getAllWeeklyEvents(@PathVariable String userId, WebRequest request) {
+        return ETags.conditional(request, eventsTag(userId), () -> eventService.getAllWeeklyEventsByUser(userId));
     }
 
     @GetMapping("/user/{userId}/single/month/{year}/{month}")
     public ResponseEntity<List<Event>> getAllSingleEventsByMonth(
             @PathVariable String userId,
             @PathVariable int year,
-            @PathVariable int month) {
-        List<Event> events = eventService.getAllSingleEventsByMonth(userId, year, month);
-        return ResponseEntity.ok(events);
+            @PathVariable int month,
+            WebRequest request) {
+        return ETags.conditional(request, eventsTag(userId), () -> eventService.getAllSingleEventsByMonth(userId, year, month));
+    }
+
+    // Com ?view=summary as listas trazem só os campos da grade, sem descrição
+
+    @GetMapping(value = "/user/{userId}", params = "view=summary")
+    public ResponseEntity<List<EventSummary>> getAllSummariesByUser(@PathVariable String userId, WebRequest request) {
+        String etag = ETags.weak(userId, eventService.getEventsVersion(userId), LocalDate.now(), SUMMARY_VIEW);
+        return ETags.conditional(request, etag, () -> eventService.getAllEventSummariesByUser(userId));
+    }
+
+    @GetMapping(value = "/user/{userId}/date/{date}", params = "view=summary")
+    public ResponseEntity<List<EventSummary>> getSingleEventSummariesByDate(
+            @PathVariable String userId,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest request) {
+        return ETags.conditional(request, summariesTag(userId), () -> eventService.getSingleEventSummariesByDate(userId, date));
+    }
+
+    @GetMapping(value = "/user/{userId}/day/{dayOfWeek}", params = "view=summary")
+    public ResponseEntity<List<EventSummary>> getWeeklyEventSummariesByDayOfWeek(
+            @PathVariable String userId,
+            @PathVariable DayOfWeek dayOfWeek,
+            WebRequest request) {
+        return ETags.conditional(request, summariesTag(userId), () -> eventService.getWeeklyEventSummariesByDayOfWeek(userId, dayOfWeek));
+    }
+
+    @GetMapping(value = "/user/{userId}/weekly", params = "view=summary")
+    public ResponseEntity<List<EventSummary>> getAllWeeklyEventSummaries(@PathVariable String userId, WebRequest request) {
+        return ETags.conditional(request, summariesTag(userId), () -> eventService.getAllWeeklyEventSummariesByUser(userId));
+    }
+
+    @GetMapping(value = "/user/{userId}/single/month/{year}/{month}", params = "view=summary")
+    public ResponseEntity<List<EventSummary>> getAllSingleEventSummariesByMonth(
+            @PathVariable String userId,
+            @PathVariable int year,
+            @PathVariable int month,
+            WebRequest request) {
+        return ETags.conditional(request, summariesTag(userId), () -> eventService.getAllSingleEventSummariesByMonth(userId, year, month));
+    }
+
+    @GetMapping("/user/{userId}/occurrences")
+    public ResponseEntity<List<EventOccurrence>> getOccurrences(
+            @PathVariable String userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            WebRequest request) {
+        return ETags.conditional(request, eventsTag(userId), () -> eventService.getOccurrencesBetween(userId, start, end));
+    }
+
+    @GetMapping("/user/{userId}/calendar/{year}/{month}")
+    public ResponseEntity<SortedMap<LocalDate, List<Event>>> getMonthCalendar(
+            @PathVariable String userId,
+            @PathVariable int year,
+            @PathVariable int month,
+            WebRequest request) {
+        return ETags.conditional(request, eventsTag(userId), () -> eventService.getMonthCalendar(userId, year, month));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Event> update(@PathVariable String id, @Valid @RequestBody Event event) {
+    public ResponseEntity<Event> update(@PathVariable String id, @Valid @RequestBody Event event,
+                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        // O If-Match, quando enviado, prevalece sobre a versão do corpo
+        if (ifMatch != null) {
+            event.setVersion(ETags.versionOf(id, ifMatch));
+        }
         Event updated = eventService.updateEvent(id, event);
-        return ResponseEntity.ok(updated);
+        return ResponseEntity.ok().eTag(entityTag(updated)).body(updated);
     }
 
     @DeleteMapping("/{id}")
@@ -84,4 +199,20 @@ public class EventController {
         eventService.deleteEvent(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    private String eventsTag(String userId) {
+        return ETags.weak(userId, eventService.getEventsVersion(userId));
+    }
+
+    private String summariesTag(String userId) {
+        // O resumo é outra representação da mesma lista e precisa de outro ETag
+        return ETags.weak(userId, eventService.getEventsVersion(userId), SUMMARY_VIEW);
+    }
+
+    private String entityTag(Event event) {
+        // Aniversários derivados e eventos antigos não têm versão
+        return event.getVersion() != null
+                ? ETags.versioned(event.getId(), event.getVersion())
+                : ETags.strong(event.getId(), event.getUpdatedAt());
+    }
+}
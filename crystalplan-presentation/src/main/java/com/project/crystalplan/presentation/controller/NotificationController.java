@@ -1,15 +1,22 @@
 package com.project.crystalplan.presentation.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.crystalplan.domain.models.CursorPage;
 import com.project.crystalplan.domain.services.NotificationService;
 import com.project.crystalplan.domain.models.NotificationLog;
 import com.project.crystalplan.domain.models.NotificationSettings;
+import com.project.crystalplan.domain.models.NotificationSettingsPatch;
+import com.project.crystalplan.domain.models.NotificationStats;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
-import java.util.List;
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/api/notifications")
@@ -17,15 +24,26 @@ import java.util.List;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final ObjectMapper objectMapper;
 
     // ==========================
     // Settings
     // ==========================
 
     @GetMapping("/settings/{userId}")
-    public ResponseEntity<NotificationSettings> getSettings(@PathVariable String userId) {
+    public ResponseEntity<NotificationSettings> getSettings(@PathVariable String userId, WebRequest request) {
         NotificationSettings settings = notificationService.getUserSettings(userId);
-        return ResponseEntity.ok(settings);
+        // As configurações não têm versão nem updatedAt; o ETag vem do corpo serializado
+        String etag = ETags.digest(userId, serialize(settings));
+        return ETags.conditional(request, etag, () -> settings);
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar a resposta para o ETag", e);
+        }
     }
 
     @PostMapping("/settings")
@@ -34,6 +52,12 @@ public class NotificationController {
         return ResponseEntity.ok(saved);
     }
 
+    @PatchMapping("/settings/{userId}")
+    public ResponseEntity<NotificationSettings> patchSettings(@PathVariable String userId,
+                                                             @RequestBody NotificationSettingsPatch patch) {
+        return ResponseEntity.ok(notificationService.patchUserSettings(userId, patch));
+    }
+
     // ==========================
     // Logs
     // ==========================
@@ -46,8 +70,10 @@ public class NotificationController {
     }
 
     @GetMapping("/logs/user/{userId}")
-    public ResponseEntity<List<NotificationLog>> getLogsByUser(@PathVariable String userId) {
-        List<NotificationLog> logs = notificationService.getNotificationLogsByUserId(userId);
+    public ResponseEntity<CursorPage<NotificationLog>> getLogsByUser(@PathVariable String userId,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(defaultValue = "50") int limit) {
+        CursorPage<NotificationLog> logs = notificationService.getNotificationLogsByUserId(userId, cursor, limit);
         return ResponseEntity.ok(logs);
     }
 
@@ -58,8 +84,27 @@ public class NotificationController {
     }
 
     @GetMapping("/logs/event/{eventId}")
-    public ResponseEntity<List<NotificationLog>> getLogsByEvent(@PathVariable String eventId) {
-        List<NotificationLog> logs = notificationService.getLogsByEventId(eventId);
+    public ResponseEntity<CursorPage<NotificationLog>> getLogsByEvent(@PathVariable String eventId,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(defaultValue = "50") int limit) {
+        CursorPage<NotificationLog> logs = notificationService.getLogsByEventId(eventId, cursor, limit);
         return ResponseEntity.ok(logs);
     }
+
+    // ==========================
+    // Estatísticas
+    // ==========================
+
+    @GetMapping("/stats")
+    public ResponseEntity<NotificationStats> getStats(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(notificationService.getDeliveryStats(null, from, to));
+    }
+
+    @GetMapping("/stats/user/{userId}")
+    public ResponseEntity<NotificationStats> getStatsByUser(@PathVariable String userId,
+                                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(notificationService.getDeliveryStats(userId, from, to));
+    }
 }
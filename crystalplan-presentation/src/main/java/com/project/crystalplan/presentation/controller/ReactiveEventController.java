@@ -0,0 +1,73 @@
+package com.project.crystalplan.presentation.controller;
+
+import com.project.crystalplan.domain.models.Event;
+import com.project.crystalplan.domain.models.EventOccurrence;
+import com.project.crystalplan.domain.services.ReactiveEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * Rotas de leitura de {@link EventController} sobre o driver reativo. O Spring MVC trata
+ * {@code Flux}/{@code Mono} como resposta assíncrona, então nenhuma thread fica presa enquanto o
+ * Mongo responde ou o cliente lê devagar.
+ */
+@RestController
+@RequestMapping("/api/reactive/events")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "crystalplan.reactive.enabled", havingValue = "true")
+public class ReactiveEventController {
+
+    private final ReactiveEventService eventService;
+
+    @GetMapping("/{id}")
+    public Mono<Event> getById(@PathVariable String id) {
+        return eventService.getEventById(id);
+    }
+
+    @GetMapping("/user/{userId}")
+    public Flux<Event> getAllByUser(@PathVariable String userId) {
+        return eventService.getAllEventsByUser(userId);
+    }
+
+    @GetMapping("/user/{userId}/date/{date}")
+    public Flux<Event> getSingleEventsByDate(
+            @PathVariable String userId,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return eventService.getSingleEventsByDate(userId, date);
+    }
+
+    @GetMapping("/user/{userId}/day/{dayOfWeek}")
+    public Flux<Event> getWeeklyEventsByDayOfWeek(
+            @PathVariable String userId,
+            @PathVariable DayOfWeek dayOfWeek) {
+        return eventService.getWeeklyEventsByDayOfWeek(userId, dayOfWeek);
+    }
+
+    @GetMapping("/user/{userId}/weekly")
+    public Flux<Event> getAllWeeklyEvents(@PathVariable String userId) {
+        return eventService.getAllWeeklyEventsByUser(userId);
+    }
+
+    @GetMapping("/user/{userId}/single/month/{year}/{month}")
+    public Flux<Event> getAllSingleEventsByMonth(
+            @PathVariable String userId,
+            @PathVariable int year,
+            @PathVariable int month) {
+        return eventService.getAllSingleEventsByMonth(userId, year, month);
+    }
+
+    @GetMapping("/user/{userId}/occurrences")
+    public Flux<EventOccurrence> getOccurrences(
+            @PathVariable String userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+        return eventService.getOccurrencesBetween(userId, start, end);
+    }
+}
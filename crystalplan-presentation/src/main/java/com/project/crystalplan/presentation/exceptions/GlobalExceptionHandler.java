@@ -1,9 +1,11 @@
 package com.project.crystalplan.presentation.exceptions;
 
+import com.project.crystalplan.domain.exceptions.BatchInsertException;
 import com.project.crystalplan.domain.exceptions.BusinessRuleException;
 import com.project.crystalplan.domain.exceptions.EntityNotFoundException;
 import com.project.crystalplan.domain.exceptions.InvalidArgumentException;
 import com.project.crystalplan.domain.exceptions.InvalidCredentialsException;
+import com.project.crystalplan.domain.exceptions.VersionConflictException;
 import com.project.crystalplan.presentation.dtos.ApiErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
@@ -299,6 +301,30 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<ApiErrorResponse> handleVersionConflict(VersionConflictException ex, HttpServletRequest request) {
+        ApiErrorResponse response = new ApiErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                "Conflito de versão",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(BatchInsertException.class)
+    public ResponseEntity<ApiErrorResponse> handleBatchInsert(BatchInsertException ex, HttpServletRequest request) {
+        ApiErrorResponse response = new ApiErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                "Inserção em lote parcialmente concluída",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiErrorResponse> handleAllExceptions(
             Exception ex, HttpServletRequest request) {
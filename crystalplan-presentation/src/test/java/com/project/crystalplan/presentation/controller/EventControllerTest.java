@@ -7,9 +7,14 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.project.crystalplan.domain.enums.NotificationType;
 import com.project.crystalplan.domain.enums.Recurrence;
+import com.project.crystalplan.domain.exceptions.BatchInsertException;
 import com.project.crystalplan.domain.exceptions.EntityNotFoundException; // Import necessário
 import com.project.crystalplan.domain.exceptions.InvalidArgumentException;
+import com.project.crystalplan.domain.exceptions.VersionConflictException;
 import com.project.crystalplan.domain.models.Event;
+import com.project.crystalplan.domain.models.EventChanges;
+import com.project.crystalplan.domain.models.EventOccurrence;
+import com.project.crystalplan.domain.models.EventSummary;
 import com.project.crystalplan.domain.services.EventService;
 import com.project.crystalplan.domain.services.UserService;
 import com.project.crystalplan.infrastructure.security.jwt.JwtAuthenticationFilter;
@@ -27,15 +32,19 @@ import org.springframework.context.annotation.Import; // <-- Importar @Import
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.*;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -129,6 +138,36 @@ class EventControllerTest {
         verify(eventService, times(1)).createEvent(any(Event.class));
     }
 
+    @Test
+    void shouldCreateEventsInBatch() throws Exception {
+        when(eventService.createEvents(anyList())).thenReturn(List.of(singleEvent, weeklyEvent));
+
+        mockMvc.perform(post("/api/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(singleEvent, weeklyEvent)))
+                        .with(csrf()))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", is("event-id-1")))
+                .andExpect(jsonPath("$[1].id", is("event-id-2")));
+
+        verify(eventService, times(1)).createEvents(anyList());
+    }
+
+    @Test
+    void shouldReturnConflictWhenBatchInsertPartiallyFails() throws Exception {
+        when(eventService.createEvents(anyList()))
+                .thenThrow(new BatchInsertException(1, Map.of(1, "duplicate key")));
+
+        mockMvc.perform(post("/api/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(singleEvent, weeklyEvent)))
+                        .with(csrf()))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status", is(409)))
+                .andExpect(jsonPath("$.error", is("Inserção em lote parcialmente concluída")));
+    }
+
     @Test
     void shouldReturnBadRequestWhenCreatingEventWithInvalidRecurrence() throws Exception {
         Event invalidEvent = new Event(
@@ -192,6 +231,67 @@ class EventControllerTest {
         verify(eventService, times(1)).getAllEventsByUser("user1");
     }
 
+    @Test
+    void shouldReturnNotModifiedWithoutLoadingEventsWhenVersionIsUnchanged() throws Exception {
+        when(eventService.getEventsVersion("user1")).thenReturn(7L);
+        String etag = "W/\"user1-7-" + LocalDate.now() + "\"";
+
+        mockMvc.perform(get("/api/events/user/user1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+
+        verify(eventService, never()).getAllEventsByUser(any());
+    }
+
+    @Test
+    void shouldReturnEventsAgainWhenVersionChanged() throws Exception {
+        when(eventService.getEventsVersion("user1")).thenReturn(8L);
+        when(eventService.getAllWeeklyEventsByUser("user1")).thenReturn(List.of(weeklyEvent));
+
+        mockMvc.perform(get("/api/events/user/user1/weekly").header("If-None-Match", "W/\"user1-7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"user1-8\""))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void shouldUseUpdatedAtAsStrongETagForSingleEvent() throws Exception {
+        when(eventService.getEventById("event-id-1")).thenReturn(Optional.of(singleEvent));
+
+        String etag = mockMvc.perform(get("/api/events/event-id-1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        assertEquals("\"event-id-1-", etag.substring(0, 12));
+        mockMvc.perform(get("/api/events/event-id-1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void shouldExportEventsByUserAsNdjson() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<Event> action = invocation.getArgument(1);
+            action.accept(singleEvent);
+            action.accept(weeklyEvent);
+            return null;
+        }).when(eventService).streamEventsByUser(eq("user1"), any());
+
+        MvcResult started = mockMvc.perform(get("/api/events/user/user1/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("event-id-1", objectMapper.readTree(lines[0]).get("id").asText());
+        assertEquals("event-id-2", objectMapper.readTree(lines[1]).get("id").asText());
+        verify(eventService, never()).getAllEventsByUser(any());
+    }
+
     @Test
     void shouldGetSingleEventsByDate() throws Exception {
         LocalDate date = LocalDate.of(2025, 10, 26);
@@ -246,6 +346,60 @@ class EventControllerTest {
         verify(eventService, times(1)).getAllSingleEventsByMonth("user1", 2025, 7);
     }
 
+    @Test
+    void shouldGetMonthSummariesWithoutDescription() throws Exception {
+        EventSummary summary = new EventSummary("event-id-3", "Monthly Event", Recurrence.SINGLE, LocalDate.of(2025, 7, 15),
+                null, LocalTime.of(12, 0), false, null);
+        when(eventService.getEventsVersion("user1")).thenReturn(7L);
+        when(eventService.getAllSingleEventSummariesByMonth("user1", 2025, 7)).thenReturn(List.of(summary));
+
+        mockMvc.perform(get("/api/events/user/user1/single/month/2025/7").param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"user1-7-summary\""))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title", is("Monthly Event")))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+
+        verify(eventService, never()).getAllSingleEventsByMonth(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void shouldGetOccurrencesBetweenDates() throws Exception {
+        LocalDate start = LocalDate.of(2025, 10, 26);
+        LocalDate end = LocalDate.of(2025, 10, 27);
+        when(eventService.getOccurrencesBetween("user1", start, end)).thenReturn(List.of(
+                new EventOccurrence(LocalDate.of(2025, 10, 26), singleEvent),
+                new EventOccurrence(LocalDate.of(2025, 10, 27), weeklyEvent)
+        ));
+
+        mockMvc.perform(get("/api/events/user/user1/occurrences")
+                        .param("start", "2025-10-26")
+                        .param("end", "2025-10-27"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].date", is("2025-10-26")))
+                .andExpect(jsonPath("$[0].event.id", is("event-id-1")))
+                .andExpect(jsonPath("$[1].event.id", is("event-id-2")));
+
+        verify(eventService, times(1)).getOccurrencesBetween("user1", start, end);
+    }
+
+    @Test
+    void shouldGetMonthCalendarGroupedByDay() throws Exception {
+        SortedMap<LocalDate, List<Event>> calendar = new TreeMap<>();
+        calendar.put(LocalDate.of(2025, 10, 26), List.of(singleEvent, weeklyEvent));
+        calendar.put(LocalDate.of(2025, 10, 27), List.of(weeklyEvent));
+        when(eventService.getMonthCalendar("user1", 2025, 10)).thenReturn(calendar);
+
+        mockMvc.perform(get("/api/events/user/user1/calendar/2025/10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['2025-10-26']", hasSize(2)))
+                .andExpect(jsonPath("$['2025-10-26'][0].id", is("event-id-1")))
+                .andExpect(jsonPath("$['2025-10-27'][0].id", is("event-id-2")));
+
+        verify(eventService, times(1)).getMonthCalendar("user1", 2025, 10);
+    }
+
     @Test
     void shouldUpdateEvent() throws Exception {
         Event updatedEvent = new Event(
@@ -266,6 +420,51 @@ class EventControllerTest {
         verify(eventService, times(1)).updateEvent(eq("event-id-1"), any(Event.class));
     }
 
+    @Test
+    void shouldTakeExpectedVersionFromIfMatchAndReturnNewETag() throws Exception {
+        Event saved = new Event(
+                "event-id-1", "Updated Title", "Updated Desc", Recurrence.SINGLE, LocalDate.of(2025, 10, 27),
+                null, LocalTime.of(11, 0), LocalTime.of(10, 45), false, NotificationType.EMAIL, "user1"
+        );
+        saved.setVersion(4L);
+        when(eventService.updateEvent(eq("event-id-1"), argThat(event -> Long.valueOf(3L).equals(event.getVersion()))))
+                .thenReturn(saved);
+
+        mockMvc.perform(put("/api/events/event-id-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("If-Match", "\"event-id-1-v3\"")
+                        .content(objectMapper.writeValueAsString(singleEvent))
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"event-id-1-v4\""))
+                .andExpect(jsonPath("$.version", is(4)));
+    }
+
+    @Test
+    void shouldReturnConflictWhenVersionIsStale() throws Exception {
+        when(eventService.updateEvent(eq("event-id-1"), any(Event.class)))
+                .thenThrow(new VersionConflictException("O evento foi alterado por outra requisição (versão atual: 5)"));
+
+        mockMvc.perform(put("/api/events/event-id-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(singleEvent))
+                        .with(csrf()))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status", is(409)));
+    }
+
+    @Test
+    void shouldRejectIfMatchFromAnotherEvent() throws Exception {
+        mockMvc.perform(put("/api/events/event-id-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("If-Match", "\"event-id-2-v3\"")
+                        .content(objectMapper.writeValueAsString(singleEvent))
+                        .with(csrf()))
+                .andExpect(status().isConflict());
+
+        verify(eventService, never()).updateEvent(any(), any());
+    }
+
     @Test
     void shouldReturnNotFoundWhenUpdatingNonExistentEvent() throws Exception {
         Event nonExistentEvent = new Event(
@@ -285,6 +484,33 @@ class EventControllerTest {
         verify(eventService, times(1)).updateEvent(eq("non-existent-id"), any(Event.class));
     }
 
+    @Test
+    void shouldReturnChangesSinceCursor() throws Exception {
+        EventChanges changes = new EventChanges(List.of(singleEvent), List.of("event-id-9"), "next-cursor", true, false);
+        when(eventService.getEventChanges("user1", "abc", 100)).thenReturn(changes);
+
+        mockMvc.perform(get("/api/events/user/user1/sync")
+                        .param("cursor", "abc")
+                        .param("limit", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events", hasSize(1)))
+                .andExpect(jsonPath("$.events[0].id", is("event-id-1")))
+                .andExpect(jsonPath("$.deletedIds[0]", is("event-id-9")))
+                .andExpect(jsonPath("$.cursor", is("next-cursor")))
+                .andExpect(jsonPath("$.hasMore", is(true)));
+    }
+
+    @Test
+    void shouldStartFullSyncWithoutCursor() throws Exception {
+        when(eventService.getEventChanges("user1", null, 200)).thenReturn(new EventChanges(List.of(), List.of(), null, false, false));
+
+        mockMvc.perform(get("/api/events/user/user1/sync"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasMore", is(false)));
+
+        verify(eventService).getEventChanges("user1", null, 200);
+    }
+
     @Test
     void shouldDeleteEvent() throws Exception {
         doNothing().when(eventService).deleteEvent("event-id-1");
@@ -5,8 +5,11 @@ package com.project.crystalplan.presentation.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.project.crystalplan.domain.models.CursorPage;
 import com.project.crystalplan.domain.models.NotificationLog;
 import com.project.crystalplan.domain.models.NotificationSettings;
+import com.project.crystalplan.domain.models.NotificationSettingsPatch;
+import com.project.crystalplan.domain.models.NotificationStats;
 import com.project.crystalplan.domain.enums.NotificationStatus;
 import com.project.crystalplan.domain.enums.NotificationType;
 import com.project.crystalplan.domain.services.NotificationService;
@@ -26,10 +29,14 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.hasSize;
@@ -121,6 +128,23 @@ class NotificationControllerTest {
         verify(notificationService, times(1)).getUserSettings("user1");
     }
 
+    @Test
+    void shouldReturnNotModifiedForUnchangedSettings() throws Exception {
+        when(notificationService.getUserSettings("user1")).thenReturn(settings);
+
+        String etag = mockMvc.perform(get("/api/notifications/settings/user1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/notifications/settings/user1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        settings.setQuietHoursStart(LocalTime.of(23, 0));
+        mockMvc.perform(get("/api/notifications/settings/user1").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
     @Test
     void shouldSaveUserSettings() throws Exception {
         when(notificationService.updateUserSettings(any(NotificationSettings.class))).thenReturn(settings);
@@ -136,6 +160,21 @@ class NotificationControllerTest {
         verify(notificationService, times(1)).updateUserSettings(any(NotificationSettings.class));
     }
 
+    @Test
+    void shouldPatchUserSettings() throws Exception {
+        when(notificationService.patchUserSettings(eq("user1"), any(NotificationSettingsPatch.class))).thenReturn(settings);
+
+        mockMvc.perform(patch("/api/notifications/settings/user1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"emailNotificationsEnabled\": false}")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is("settings-id-1")));
+
+        verify(notificationService).patchUserSettings(eq("user1"),
+                argThat(body -> Boolean.FALSE.equals(body.getEmailNotificationsEnabled()) && body.getQuietHoursStart() == null));
+    }
+
     @Test
     void shouldCreateNotificationLog() throws Exception {
         // Agora o mock do serviço retorna o 'savedLog' (com ID preenchido)
@@ -157,15 +196,32 @@ class NotificationControllerTest {
     @Test
     void shouldGetLogsByUser() throws Exception {
         List<NotificationLog> logsList = Arrays.asList(savedLog); // Usa savedLog para a lista
-        when(notificationService.getNotificationLogsByUserId("user1")).thenReturn(logsList);
+        when(notificationService.getNotificationLogsByUserId("user1", null, 50)).thenReturn(new CursorPage<>(logsList, null));
+
+        mockMvc.perform(get("/api/notifications/logs/user/user1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", is("log-id-1")))
+                .andExpect(jsonPath("$.hasMore", is(false)));
+
+        verify(notificationService, times(1)).getNotificationLogsByUserId("user1", null, 50);
+    }
+
+    @Test
+    void shouldPassCursorAndLimitWhenGettingLogsByUser() throws Exception {
+        when(notificationService.getNotificationLogsByUserId("user1", "abc", 10))
+                .thenReturn(new CursorPage<>(Arrays.asList(savedLog), "next-token"));
 
         mockMvc.perform(get("/api/notifications/logs/user/user1")
+                        .param("cursor", "abc")
+                        .param("limit", "10")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(1)))
-                .andExpect(jsonPath("$[0].id", is("log-id-1")));
+                .andExpect(jsonPath("$.nextCursor", is("next-token")))
+                .andExpect(jsonPath("$.hasMore", is(true)));
 
-        verify(notificationService, times(1)).getNotificationLogsByUserId("user1");
+        verify(notificationService, times(1)).getNotificationLogsByUserId("user1", "abc", 10);
     }
 
     @Test
@@ -184,14 +240,49 @@ class NotificationControllerTest {
     @Test
     void shouldGetLogsByEvent() throws Exception {
         List<NotificationLog> logsList = Arrays.asList(savedLog); // Usa savedLog para a lista
-        when(notificationService.getLogsByEventId("event-id-1")).thenReturn(logsList);
+        when(notificationService.getLogsByEventId("event-id-1", null, 50)).thenReturn(new CursorPage<>(logsList, null));
 
         mockMvc.perform(get("/api/notifications/logs/event/event-id-1")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(1)))
-                .andExpect(jsonPath("$[0].id", is("log-id-1")));
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", is("log-id-1")));
+
+        verify(notificationService, times(1)).getLogsByEventId("event-id-1", null, 50);
+    }
+
+    @Test
+    void shouldGetUserStatsForGivenRange() throws Exception {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 7);
+        Map<NotificationStatus, Long> byStatus = new EnumMap<>(NotificationStatus.class);
+        byStatus.put(NotificationStatus.SUCCESS, 3L);
+        byStatus.put(NotificationStatus.FAILURE, 1L);
+        TreeMap<LocalDate, Long> byDay = new TreeMap<>();
+        byDay.put(from, 4L);
+        NotificationStats stats = new NotificationStats("user1", from, to, 4, byStatus,
+                new EnumMap<>(NotificationType.class), byDay, 0.75, 5L, 60L);
+        when(notificationService.getDeliveryStats("user1", from, to)).thenReturn(stats);
+
+        mockMvc.perform(get("/api/notifications/stats/user/user1")
+                        .param("from", "2025-01-01")
+                        .param("to", "2025-01-07"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(4)))
+                .andExpect(jsonPath("$.byStatus.SUCCESS", is(3)))
+                .andExpect(jsonPath("$.successRate", is(0.75)))
+                .andExpect(jsonPath("$.delayP95Seconds", is(60)));
+
+        verify(notificationService, times(1)).getDeliveryStats("user1", from, to);
+    }
+
+    @Test
+    void shouldGetGlobalStatsWithDefaultRange() throws Exception {
+        when(notificationService.getDeliveryStats(null, null, null)).thenReturn(new NotificationStats());
+
+        mockMvc.perform(get("/api/notifications/stats"))
+                .andExpect(status().isOk());
 
-        verify(notificationService, times(1)).getLogsByEventId("event-id-1");
+        verify(notificationService, times(1)).getDeliveryStats(null, null, null);
     }
 }
\ No newline at end of file
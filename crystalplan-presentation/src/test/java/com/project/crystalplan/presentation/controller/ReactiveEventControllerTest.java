@@ -0,0 +1,87 @@
+package com.project.crystalplan.presentation.controller;
+
+import com.project.crystalplan.domain.enums.Recurrence;
+import com.project.crystalplan.domain.exceptions.EntityNotFoundException;
+import com.project.crystalplan.domain.models.Event;
+import com.project.crystalplan.domain.services.ReactiveEventService;
+import com.project.crystalplan.domain.services.UserService;
+import com.project.crystalplan.infrastructure.security.jwt.JwtAuthenticationFilter;
+import com.project.crystalplan.infrastructure.security.jwt.JwtTokenProvider;
+import com.project.crystalplan.presentation.exceptions.GlobalExceptionHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(
+        controllers = ReactiveEventController.class,
+        properties = "crystalplan.reactive.enabled=true",
+        excludeAutoConfiguration = SecurityAutoConfiguration.class,
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {
+                JwtAuthenticationFilter.class
+        })
+)
+@Import(GlobalExceptionHandler.class)
+@WithMockUser(username = "testuser", roles = {"USER"})
+class ReactiveEventControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ReactiveEventService eventService;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private UserService userService;
+
+    @Test
+    void shouldStreamEventsByUser() throws Exception {
+        Event event = new Event();
+        event.setId("event-id-1");
+        event.setRecurrence(Recurrence.SINGLE);
+        event.setEventDate(LocalDate.of(2025, 10, 26));
+        when(eventService.getAllEventsByUser("user1")).thenReturn(Flux.just(event));
+
+        MvcResult started = mockMvc.perform(get("/api/reactive/events/user/user1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is("event-id-1")));
+    }
+
+    @Test
+    void shouldMapErrorSignalToNotFound() throws Exception {
+        when(eventService.getEventById("missing")).thenReturn(Mono.error(new EntityNotFoundException("Evento não encontrado")));
+
+        MvcResult started = mockMvc.perform(get("/api/reactive/events/missing"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isNotFound());
+    }
+}